@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.db.protocol.packet;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+
+import java.util.Collection;
+
+/**
+ * Database packet batch, packets of batch are encoded one by one into the same byte buffer.
+ * 
+ * <p>Every packet needs its own frame, which only the codec engine writes. The batch itself can not be written into one payload.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DatabasePacketBatch implements DatabasePacket {
+    
+    private final Collection<DatabasePacket> packets;
+    
+    @Override
+    public void write(final PacketPayload payload) {
+        throw new UnsupportedSQLOperationException("DatabasePacketBatch.write()");
+    }
+}
@@ -20,12 +20,14 @@ package org.apache.shardingsphere.db.protocol.codec;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.mockito.Mockito.mock;
@@ -74,4 +76,13 @@ class PacketCodecTest {
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
     }
+    
+    @Test
+    void assertEncodeBatch() {
+        DatabasePacket firstPacket = mock(DatabasePacket.class);
+        DatabasePacket secondPacket = mock(DatabasePacket.class);
+        packetCodec.encode(context, new DatabasePacketBatch(Arrays.asList(firstPacket, secondPacket)), byteBuf);
+        verify(databasePacketCodecEngine).encode(context, firstPacket, byteBuf);
+        verify(databasePacketCodecEngine).encode(context, secondPacket, byteBuf);
+    }
 }
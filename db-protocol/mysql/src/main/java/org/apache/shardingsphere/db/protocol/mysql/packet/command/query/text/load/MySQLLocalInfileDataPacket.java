@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
+
+/**
+ * Local infile data packet for MySQL.
+ * 
+ * <p>The client sends the file content in raw packets after local infile request, an empty packet marks the end of the file.</p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_local_infile_request.html">LOCAL INFILE Request</a>
+ */
+@Getter
+public final class MySQLLocalInfileDataPacket extends MySQLPacket implements CommandPacket {
+    
+    private final byte[] data;
+    
+    public MySQLLocalInfileDataPacket(final MySQLPacketPayload payload) {
+        data = payload.readStringEOFByBytes();
+    }
+    
+    /**
+     * Judge whether this packet marks the end of the file.
+     *
+     * @return whether this packet marks the end of the file
+     */
+    public boolean isEndOfFile() {
+        return 0 == data.length;
+    }
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.writeBytes(data);
+    }
+}
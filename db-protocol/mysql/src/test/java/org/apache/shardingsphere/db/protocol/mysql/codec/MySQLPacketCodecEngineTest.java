@@ -49,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -150,7 +151,9 @@ class MySQLPacketCodecEngineTest {
         when(context.alloc().compositeBuffer(6)).thenReturn(expected);
         when(context.alloc().ioBuffer(4, 4)).thenReturn(Unpooled.buffer(4, 4), Unpooled.buffer(4, 4), Unpooled.buffer(4, 4));
         MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
-        engine.encode(context, mock(MySQLPacket.class), prepareByteBufAlmost32MB());
+        MySQLPacket message = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF << 1)).when(message).write(any(MySQLPacketPayload.class));
+        engine.encode(context, message, prepareByteBufAlmost32MB());
         verify(context).write(expected);
         assertThat(expected.numComponents(), is(5));
         assertThat(expected.component(0).getUnsignedByte(3), is((short) 0));
@@ -163,10 +166,27 @@ class MySQLPacketCodecEngineTest {
     private ByteBuf prepareByteBufAlmost32MB() {
         int max = 0xFFFFFF << 1;
         ByteBuf result = Unpooled.buffer(max + 4);
-        result.writerIndex(max);
         return result.retain();
     }
     
+    @Test
+    void assertEncodeMultiplePacketsIntoOneByteBuf() {
+        MySQLPacket firstMessage = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(2)).when(firstMessage).write(any(MySQLPacketPayload.class));
+        MySQLPacket secondMessage = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(3)).when(secondMessage).write(any(MySQLPacketPayload.class));
+        context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(1);
+        ByteBuf actual = Unpooled.buffer();
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        engine.encode(context, firstMessage, actual);
+        engine.encode(context, secondMessage, actual);
+        assertThat(actual.readableBytes(), is(13));
+        assertThat(actual.getUnsignedMediumLE(0), is(2));
+        assertThat(actual.getUnsignedByte(3), is((short) 1));
+        assertThat(actual.getUnsignedMediumLE(6), is(3));
+        assertThat(actual.getUnsignedByte(9), is((short) 2));
+    }
+    
     @Test
     void assertEncodeOccursException() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
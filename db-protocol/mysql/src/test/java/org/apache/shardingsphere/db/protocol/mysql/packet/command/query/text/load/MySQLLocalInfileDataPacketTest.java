@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load;
+
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLLocalInfileDataPacketTest {
+    
+    @Mock
+    private MySQLPacketPayload payload;
+    
+    @Test
+    void assertNewWithData() {
+        when(payload.readStringEOFByBytes()).thenReturn(new byte[]{'1', '\t', 'a', '\n'});
+        MySQLLocalInfileDataPacket actual = new MySQLLocalInfileDataPacket(payload);
+        assertThat(actual.getData(), is(new byte[]{'1', '\t', 'a', '\n'}));
+        assertFalse(actual.isEndOfFile());
+        actual.write(payload);
+        verify(payload).writeBytes(new byte[]{'1', '\t', 'a', '\n'});
+    }
+    
+    @Test
+    void assertNewWithEndOfFile() {
+        when(payload.readStringEOFByBytes()).thenReturn(new byte[0]);
+        assertTrue(new MySQLLocalInfileDataPacket(payload).isEndOfFile());
+    }
+}
@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -46,6 +49,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private EncryptColumnDecryptor[] decryptors;
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -53,20 +58,35 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+        if (null == decryptors) {
+            decryptors = createDecryptors();
         }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+        EncryptColumnDecryptor decryptor = columnIndex > decryptors.length ? null : decryptors[columnIndex - 1];
+        return null == decryptor ? mergedResult.getValue(columnIndex, type) : decryptor.decrypt(mergedResult.getValue(columnIndex, Object.class));
+    }
+    
+    private EncryptColumnDecryptor[] createDecryptors() {
+        int columnCount = selectStatementContext.getProjectionsContext().getExpandProjections().size();
+        EncryptColumnDecryptor[] result = new EncryptColumnDecryptor[columnCount];
+        String schemaName = null;
+        for (int i = 0; i < columnCount; i++) {
+            Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(i + 1);
+            if (!columnProjection.isPresent()) {
+                continue;
+            }
+            String originalTableName = columnProjection.get().getOriginalTable().getValue();
+            String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+            if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
+                continue;
+            }
+            if (null == schemaName) {
+                schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                        .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+            }
+            EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
+            result[i] = new EncryptColumnDecryptor(encryptColumn.getCipher().getEncryptor(), EncryptContextBuilder.build(database.getName(), schemaName, originalTableName, originalColumnName));
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        return result;
     }
     
     @Override
@@ -88,4 +108,16 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @RequiredArgsConstructor
+    private static final class EncryptColumnDecryptor {
+        
+        private final EncryptAlgorithm encryptor;
+        
+        private final EncryptContext encryptContext;
+        
+        private Object decrypt(final Object cipherValue) {
+            return null == cipherValue ? null : encryptor.decrypt(cipherValue, encryptContext);
+        }
+    }
 }
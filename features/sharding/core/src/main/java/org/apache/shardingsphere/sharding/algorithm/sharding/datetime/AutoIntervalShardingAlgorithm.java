@@ -30,14 +30,17 @@ import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingA
 import org.apache.shardingsphere.sharding.exception.data.InvalidDatetimeFormatException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
-import java.text.DecimalFormat;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.ParsePosition;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Auto interval sharding algorithm.
@@ -92,16 +95,17 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1F);
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
+        Collection<String> targetNames = availableTargetNames instanceof Set || firstPartition >= lastPartition ? availableTargetNames : new HashSet<>(availableTargetNames);
         for (int i = firstPartition; i <= lastPartition; i++) {
             String suffix = String.valueOf(i);
-            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(targetNames, suffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
         }
         return result;
     }
     
     private int doSharding(final long shardingValue) {
-        String position = new DecimalFormat("0.00").format((double) shardingValue / shardingSeconds);
-        return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
+        long position = new BigDecimal((double) shardingValue / shardingSeconds).setScale(2, RoundingMode.HALF_EVEN).setScale(0, RoundingMode.CEILING).longValue();
+        return (int) Math.min(Math.max(0L, position), autoTablesAmount - 1);
     }
     
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
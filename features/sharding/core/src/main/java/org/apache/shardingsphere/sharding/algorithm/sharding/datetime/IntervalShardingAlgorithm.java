@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 import com.google.common.base.Strings;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingA
 import org.apache.shardingsphere.sharding.exception.data.InvalidDatetimeFormatException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -41,13 +43,16 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Interval sharding algorithm.
@@ -82,6 +87,12 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private Temporal dateTimeLowerView;
+    
+    private Temporal dateTimeUpperView;
+    
+    private boolean arithmeticStepSupported;
+    
     @Override
     public void init(final Properties props) {
         dateTimePatternString = getDateTimePattern(props);
@@ -92,6 +103,9 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern(props);
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        dateTimeLowerView = getDateTimeView(dateTimeLower);
+        dateTimeUpperView = getDateTimeView(dateTimeUpper);
+        arithmeticStepSupported = isArithmeticStepSupported();
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -134,6 +148,37 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         throw new UnsupportedSQLOperationException(String.format("Cannot find step unit for specified %s property: `%s`", INTERVAL_UNIT_KEY, stepUnit));
     }
     
+    private Temporal getDateTimeView(final TemporalAccessor dateTime) {
+        try {
+            if (!dateTimeLower.isSupported(ChronoField.NANO_OF_DAY)) {
+                if (dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+                    return dateTime.query(TemporalQueries.localDate());
+                }
+                if (dateTimeLower.isSupported(ChronoField.YEAR) && dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                    return dateTime.query(YearMonth::from);
+                }
+                return dateTimeLower.isSupported(ChronoField.YEAR) ? dateTime.query(Year::from) : null;
+            }
+            return dateTimeLower.isSupported(ChronoField.EPOCH_DAY) ? LocalDateTime.from(dateTime) : dateTime.query(TemporalQueries.localTime());
+        } catch (final DateTimeException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Stepping from lower date time by amount of units repeatedly is the same as stepping once by multiplied amount,
+     * unless the month based units are added to a date whose day of month may be adjusted to the end of shorter months.
+     */
+    private boolean isArithmeticStepSupported() {
+        if (null == dateTimeLowerView || null == dateTimeUpperView || ChronoUnit.ERAS == stepUnit || ChronoUnit.FOREVER == stepUnit || !dateTimeLowerView.isSupported(stepUnit)) {
+            return false;
+        }
+        if (stepUnit.isTimeBased() || ChronoUnit.DAYS == stepUnit || ChronoUnit.WEEKS == stepUnit || !dateTimeLowerView.isSupported(ChronoField.DAY_OF_MONTH)) {
+            return true;
+        }
+        return dateTimeLowerView.get(ChronoField.DAY_OF_MONTH) <= 28;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
@@ -146,6 +191,9 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     }
     
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        if (arithmeticStepSupported) {
+            return doShardingArithmetically(availableTargetNames, range);
+        }
         TemporalAccessor calculateTime = dateTimeLower;
         if (!calculateTime.isSupported(ChronoField.NANO_OF_DAY)) {
             if (calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
@@ -167,14 +215,65 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return doShardingInLocalDateTime(availableTargetNames, range, calculateTime);
     }
     
+    /**
+     * Only steps between the intervals of range endpoints are walked through, the first interval is located arithmetically instead of stepping from lower date time.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<String> doShardingArithmetically(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        Comparable lower = range.hasLowerBound() ? parseDateTimeView(range.lowerEndpoint()) : (Comparable) dateTimeLowerView;
+        Comparable upper = range.hasUpperBound() ? parseDateTimeView(range.upperEndpoint()) : (Comparable) dateTimeUpperView;
+        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
+        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
+        Range<Comparable> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        Set<String> result = new HashSet<>();
+        TargetNamesSuffixIndex targetNamesSuffixIndex = new TargetNamesSuffixIndex(availableTargetNames);
+        Temporal calculateTimeAsView = getIntervalLowerBound((Temporal) lower);
+        while (!isAfter(calculateTimeAsView, dateTimeUpperView) && !isAfter(calculateTimeAsView, (Temporal) upper)) {
+            Temporal nextCalculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
+            Range<Comparable> calculateRange = Range.closedOpen((Comparable) calculateTimeAsView, (Comparable) nextCalculateTimeAsView);
+            if (calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty()) {
+                result.addAll(getMatchedTables(calculateTimeAsView, targetNamesSuffixIndex));
+            }
+            calculateTimeAsView = nextCalculateTimeAsView;
+        }
+        return result;
+    }
+    
+    private Temporal getIntervalLowerBound(final Temporal dateTime) {
+        if (!isAfter(dateTime, dateTimeLowerView)) {
+            return dateTimeLowerView;
+        }
+        long steps = Math.floorDiv(stepUnit.between(dateTimeLowerView, dateTime), stepAmount);
+        return dateTimeLowerView.plus(steps * stepAmount, stepUnit);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean isAfter(final Temporal dateTime, final Temporal other) {
+        return ((Comparable) dateTime).compareTo(other) > 0;
+    }
+    
+    private Comparable<?> parseDateTimeView(final Comparable<?> endpoint) {
+        if (dateTimeLowerView instanceof LocalDateTime) {
+            return parseLocalDateTime(endpoint);
+        }
+        if (dateTimeLowerView instanceof LocalDate) {
+            return parseLocalDate(endpoint);
+        }
+        if (dateTimeLowerView instanceof YearMonth) {
+            return parseYearMonth(endpoint);
+        }
+        return dateTimeLowerView instanceof Year ? parseYear(endpoint) : parseLocalTime(endpoint);
+    }
+    
     private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
         Set<String> result = new HashSet<>();
+        TargetNamesSuffixIndex targetNamesSuffixIndex = new TargetNamesSuffixIndex(availableTargetNames);
         LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
         LocalDateTime dateTimeUpperAsLocalDateTime = LocalDateTime.from(dateTimeUpper);
         LocalDateTime dateTimeLowerAsLocalDateTime = LocalDateTime.from(dateTimeLower);
         while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime)) {
             if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDateTime, dateTimeUpperAsLocalDateTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+                result.addAll(getMatchedTables(calculateTimeAsView, targetNamesSuffixIndex));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
@@ -183,12 +282,13 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private Collection<String> doShardingInLocalTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
         Set<String> result = new HashSet<>();
+        TargetNamesSuffixIndex targetNamesSuffixIndex = new TargetNamesSuffixIndex(availableTargetNames);
         LocalTime dateTimeUpperAsLocalTime = dateTimeUpper.query(TemporalQueries.localTime());
         LocalTime dateTimeLowerAsLocalTime = dateTimeLower.query(TemporalQueries.localTime());
         LocalTime calculateTimeAsView = calculateTime.query(TemporalQueries.localTime());
         while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalTime)) {
             if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalTime, dateTimeUpperAsLocalTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+                result.addAll(getMatchedTables(calculateTimeAsView, targetNamesSuffixIndex));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
@@ -197,12 +297,13 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private Collection<String> doShardingInLocalDate(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
         Set<String> result = new HashSet<>();
+        TargetNamesSuffixIndex targetNamesSuffixIndex = new TargetNamesSuffixIndex(availableTargetNames);
         LocalDate dateTimeUpperAsLocalDate = dateTimeUpper.query(TemporalQueries.localDate());
         LocalDate dateTimeLowerAsLocalDate = dateTimeLower.query(TemporalQueries.localDate());
         LocalDate calculateTimeAsView = calculateTime.query(TemporalQueries.localDate());
         while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate)) {
             if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDate, dateTimeUpperAsLocalDate)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+                result.addAll(getMatchedTables(calculateTimeAsView, targetNamesSuffixIndex));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
@@ -211,12 +312,13 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private Collection<String> doShardingInYear(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
         Set<String> result = new HashSet<>();
+        TargetNamesSuffixIndex targetNamesSuffixIndex = new TargetNamesSuffixIndex(availableTargetNames);
         Year dateTimeUpperAsYear = dateTimeUpper.query(Year::from);
         Year dateTimeLowerAsYear = dateTimeLower.query(Year::from);
         Year calculateTimeAsView = calculateTime.query(Year::from);
         while (!calculateTimeAsView.isAfter(dateTimeUpperAsYear)) {
             if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYear, dateTimeUpperAsYear)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+                result.addAll(getMatchedTables(calculateTimeAsView, targetNamesSuffixIndex));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
@@ -225,12 +327,13 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private Collection<String> doShardingInMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
         Set<String> result = new HashSet<>();
+        TargetNamesSuffixIndex targetNamesSuffixIndex = new TargetNamesSuffixIndex(availableTargetNames);
         Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
         Month dateTimeLowerAsMonth = dateTimeLower.query(Month::from);
         Month calculateTimeAsView = calculateTime.query(Month::from);
         while (calculateTimeAsView.getValue() <= dateTimeUpperAsMonth.getValue() && (calculateTimeAsView.getValue() + stepAmount) <= Month.DECEMBER.getValue()) {
             if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount)), range, dateTimeLowerAsMonth, dateTimeUpperAsMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+                result.addAll(getMatchedTables(calculateTimeAsView, targetNamesSuffixIndex));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount);
         }
@@ -239,12 +342,13 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private Collection<String> doShardingInYearMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
         Set<String> result = new HashSet<>();
+        TargetNamesSuffixIndex targetNamesSuffixIndex = new TargetNamesSuffixIndex(availableTargetNames);
         YearMonth dateTimeUpperAsYearMonth = dateTimeUpper.query(YearMonth::from);
         YearMonth dateTimeLowerAsYearMonth = dateTimeLower.query(YearMonth::from);
         YearMonth calculateTimeAsView = calculateTime.query(YearMonth::from);
         while (!calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth)) {
             if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYearMonth, dateTimeUpperAsYearMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+                result.addAll(getMatchedTables(calculateTimeAsView, targetNamesSuffixIndex));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
@@ -384,36 +488,58 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return endpoint.toString();
     }
     
-    private Collection<String> getMatchedTables(final TemporalAccessor dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix;
+    private Collection<String> getMatchedTables(final TemporalAccessor dateTime, final TargetNamesSuffixIndex targetNamesSuffixIndex) {
+        return targetNamesSuffixIndex.get(getTableSuffix(dateTime));
+    }
+    
+    private String getTableSuffix(final TemporalAccessor dateTime) {
         if (!dateTime.isSupported(ChronoField.NANO_OF_DAY)) {
             if (dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+                return tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
             }
             if (dateTime.isSupported(ChronoField.YEAR) && dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(YearMonth::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+                return tableSuffixPattern.format(dateTime.query(YearMonth::from));
             }
             if (dateTime.isSupported(ChronoField.YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Year::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+                return tableSuffixPattern.format(dateTime.query(Year::from));
             }
             if (dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Month::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+                return tableSuffixPattern.format(dateTime.query(Month::from));
             }
         }
         if (!dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            tableSuffix = dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
-            return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+            return dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
         }
-        tableSuffix = LocalDateTime.from(dateTime).format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        return LocalDateTime.from(dateTime).format(tableSuffixPattern);
     }
     
     @Override
     public String getType() {
         return "INTERVAL";
     }
+    
+    /**
+     * Index of available target names by table suffix, built for one sharding call so that it always reflects the given available target names.
+     */
+    @RequiredArgsConstructor
+    private static final class TargetNamesSuffixIndex {
+        
+        private final Collection<String> availableTargetNames;
+        
+        private final Map<Integer, Map<String, Collection<String>>> suffixLengthAndTargetNames = new HashMap<>();
+        
+        Collection<String> get(final String tableSuffix) {
+            return suffixLengthAndTargetNames.computeIfAbsent(tableSuffix.length(), this::createIndex).getOrDefault(tableSuffix, Collections.emptySet());
+        }
+        
+        private Map<String, Collection<String>> createIndex(final int suffixLength) {
+            Map<String, Collection<String>> result = new HashMap<>();
+            for (String each : availableTargetNames) {
+                if (each.length() >= suffixLength) {
+                    result.computeIfAbsent(each.substring(each.length() - suffixLength), key -> new HashSet<>()).add(each);
+                }
+            }
+            return result;
+        }
+    }
 }
@@ -48,10 +48,13 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private InlineShardingExpressionEvaluator expressionEvaluator;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         allowRangeQuery = isAllowRangeQuery(props);
+        expressionEvaluator = new InlineShardingExpressionEvaluator(algorithmExpression);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -70,6 +73,10 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        Optional<String> result = expressionEvaluator.evaluate(columnName, shardingValue.getValue());
+        if (result.isPresent()) {
+            return result.get();
+        }
         Map<String, Comparable<?>> map = new LinkedHashMap<>();
         map.put(columnName, shardingValue.getValue());
         try {
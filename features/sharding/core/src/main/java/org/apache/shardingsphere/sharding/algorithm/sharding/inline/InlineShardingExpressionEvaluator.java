@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline sharding expression evaluator.
+ * 
+ * <p>Inline expressions with single placeholder in common forms, such as {@code t_order_${order_id % 2}}, {@code t_order_${Math.abs(order_id.hashCode() % 2)}}
+ * and {@code t_order_${order_id.substring(0, 2)}}, are compiled to java functions once, instead of evaluating Groovy closure for each sharding value.
+ * Other expressions and sharding value types are not supported and should be evaluated by inline expression parser.</p>
+ */
+public final class InlineShardingExpressionEvaluator {
+    
+    private static final String PLACEHOLDER_BEGIN = "${";
+    
+    private static final String PLACEHOLDER_END = "}";
+    
+    private static final Pattern ABS_METHOD_PATTERN = Pattern.compile("Math\\.abs\\((.+)\\)");
+    
+    private static final Pattern ABS_PATTERN = Pattern.compile("\\((.+)\\)\\.abs\\(\\)");
+    
+    private static final Pattern PARENTHESES_PATTERN = Pattern.compile("\\((.+)\\)");
+    
+    private static final Pattern MOD_PATTERN = Pattern.compile("(.+)%(\\d+)");
+    
+    private static final Pattern INT_DIV_PATTERN = Pattern.compile("(.+)\\.intdiv\\((\\d+)\\)");
+    
+    private static final Pattern HASH_CODE_PATTERN = Pattern.compile("([a-zA-Z_]\\w*)\\.hashCode\\(\\)");
+    
+    private static final Pattern SUBSTRING_PATTERN = Pattern.compile("([a-zA-Z_]\\w*)\\.substring\\((\\d+)(?:,(\\d+))?\\)");
+    
+    private static final Pattern RANGE_PATTERN = Pattern.compile("([a-zA-Z_]\\w*)\\[(\\d+)\\.\\.(\\d+)]");
+    
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("[a-zA-Z_]\\w*");
+    
+    private final String prefix;
+    
+    private final String suffix;
+    
+    private final String columnName;
+    
+    private final Function<Object, Object> function;
+    
+    public InlineShardingExpressionEvaluator(final String inlineExpression) {
+        int beginIndex = inlineExpression.indexOf(PLACEHOLDER_BEGIN);
+        int endIndex = inlineExpression.indexOf(PLACEHOLDER_END, beginIndex + 1);
+        Collection<String> columnNames = new HashSet<>(1, 1F);
+        Function<Object, Object> compiledFunction = isSinglePlaceholder(inlineExpression, beginIndex, endIndex)
+                ? compile(inlineExpression.substring(beginIndex + PLACEHOLDER_BEGIN.length(), endIndex).replaceAll("\\s", ""), columnNames)
+                : null;
+        boolean compiled = null != compiledFunction && 1 == columnNames.size();
+        prefix = compiled ? inlineExpression.substring(0, beginIndex) : null;
+        suffix = compiled ? inlineExpression.substring(endIndex + PLACEHOLDER_END.length()) : null;
+        columnName = compiled ? columnNames.iterator().next() : null;
+        function = compiled ? compiledFunction : null;
+    }
+    
+    private boolean isSinglePlaceholder(final String inlineExpression, final int beginIndex, final int endIndex) {
+        if (-1 == beginIndex || -1 == endIndex) {
+            return false;
+        }
+        String literals = inlineExpression.substring(0, beginIndex) + inlineExpression.substring(endIndex + PLACEHOLDER_END.length());
+        String placeholder = inlineExpression.substring(beginIndex + PLACEHOLDER_BEGIN.length(), endIndex);
+        return literals.chars().noneMatch(each -> '$' == each || '\\' == each || '"' == each || '{' == each || '}' == each) && -1 == placeholder.indexOf('{');
+    }
+    
+    private Function<Object, Object> compile(final String expression, final Collection<String> columnNames) {
+        Matcher matcher = ABS_METHOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return compileAbs(matcher.group(1), columnNames);
+        }
+        matcher = ABS_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return compileAbs(matcher.group(1), columnNames);
+        }
+        matcher = MOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return compileMod(matcher.group(1), matcher.group(2), columnNames);
+        }
+        matcher = INT_DIV_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return compileIntDiv(matcher.group(1), matcher.group(2), columnNames);
+        }
+        matcher = PARENTHESES_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return isBalanced(matcher.group(1)) ? compile(matcher.group(1), columnNames) : null;
+        }
+        matcher = HASH_CODE_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            columnNames.add(matcher.group(1));
+            return Object::hashCode;
+        }
+        matcher = SUBSTRING_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            columnNames.add(matcher.group(1));
+            return compileSubstring(matcher.group(2), matcher.group(3));
+        }
+        matcher = RANGE_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            columnNames.add(matcher.group(1));
+            return compileRange(matcher.group(2), matcher.group(3));
+        }
+        if (COLUMN_PATTERN.matcher(expression).matches()) {
+            columnNames.add(expression);
+            return value -> value;
+        }
+        return null;
+    }
+    
+    private boolean isBalanced(final String expression) {
+        int depth = 0;
+        for (char each : expression.toCharArray()) {
+            if ('(' == each) {
+                depth++;
+            } else if (')' == each && --depth < 0) {
+                return false;
+            }
+        }
+        return 0 == depth;
+    }
+    
+    private Function<Object, Object> compileAbs(final String operand, final Collection<String> columnNames) {
+        Function<Object, Object> operandFunction = isBalanced(operand) ? compile(operand, columnNames) : null;
+        if (null == operandFunction) {
+            return null;
+        }
+        return value -> {
+            Object operandValue = toIntegralValue(operandFunction.apply(value));
+            if (operandValue instanceof Integer) {
+                return Math.abs((int) operandValue);
+            }
+            return operandValue instanceof Long ? (Object) Math.abs((long) operandValue) : null;
+        };
+    }
+    
+    private Function<Object, Object> compileMod(final String operand, final String divisor, final Collection<String> columnNames) {
+        Function<Object, Object> operandFunction = isBalanced(operand) ? compile(operand, columnNames) : null;
+        Integer divisorValue = parseInt(divisor);
+        if (null == operandFunction || null == divisorValue) {
+            return null;
+        }
+        return value -> {
+            Object operandValue = toIntegralValue(operandFunction.apply(value));
+            if (operandValue instanceof Integer) {
+                return (int) operandValue % divisorValue;
+            }
+            return operandValue instanceof Long ? (Object) ((long) operandValue % divisorValue) : null;
+        };
+    }
+    
+    private Function<Object, Object> compileIntDiv(final String operand, final String divisor, final Collection<String> columnNames) {
+        Function<Object, Object> operandFunction = isBalanced(operand) ? compile(operand, columnNames) : null;
+        Integer divisorValue = parseInt(divisor);
+        if (null == operandFunction || null == divisorValue) {
+            return null;
+        }
+        return value -> {
+            Object operandValue = toIntegralValue(operandFunction.apply(value));
+            if (operandValue instanceof Integer) {
+                return (int) operandValue / divisorValue;
+            }
+            return operandValue instanceof Long ? (Object) ((long) operandValue / divisorValue) : null;
+        };
+    }
+    
+    private Function<Object, Object> compileSubstring(final String beginIndex, final String endIndex) {
+        Integer beginIndexValue = parseInt(beginIndex);
+        Integer endIndexValue = null == endIndex ? null : parseInt(endIndex);
+        if (null == beginIndexValue || null != endIndex && null == endIndexValue) {
+            return null;
+        }
+        return value -> {
+            if (!(value instanceof String)) {
+                return null;
+            }
+            return null == endIndexValue ? ((String) value).substring(beginIndexValue) : ((String) value).substring(beginIndexValue, endIndexValue);
+        };
+    }
+    
+    private Function<Object, Object> compileRange(final String from, final String to) {
+        Integer fromValue = parseInt(from);
+        Integer toValue = parseInt(to);
+        if (null == fromValue || null == toValue || fromValue > toValue) {
+            return null;
+        }
+        return value -> value instanceof String ? ((String) value).substring(fromValue, toValue + 1) : null;
+    }
+    
+    private Integer parseInt(final String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+    
+    private Object toIntegralValue(final Object value) {
+        return value instanceof Short || value instanceof Byte ? (Object) ((Number) value).intValue() : value;
+    }
+    
+    /**
+     * Evaluate inline expression with sharding value.
+     *
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return evaluated result, empty if the expression or the sharding value is not supported
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (null == function || !this.columnName.equals(columnName)) {
+            return Optional.empty();
+        }
+        Object result = function.apply(toIntegralValue(value));
+        return result instanceof String || result instanceof Integer || result instanceof Long ? Optional.of(prefix + result + suffix) : Optional.empty();
+    }
+}
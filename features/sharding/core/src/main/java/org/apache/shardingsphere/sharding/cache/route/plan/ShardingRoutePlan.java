@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding route plan.
+ * 
+ * <p>Route plan records which parameters the sharding condition values are extracted from,
+ * so sharding conditions of the same SQL can be bound with other parameters without evaluating SQL statement again.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRoutePlan {
+    
+    private final List<ShardingConditionPlan> conditionPlans;
+    
+    private final int maxParameterMarkerIndex;
+    
+    /**
+     * Create sharding route plan.
+     *
+     * @param shardingConditions sharding conditions created with parameters
+     * @param params SQL parameters
+     * @return created sharding route plan, empty if any sharding condition value is not bound to parameter markers one by one
+     */
+    public static Optional<ShardingRoutePlan> create(final List<ShardingCondition> shardingConditions, final List<Object> params) {
+        List<ShardingConditionPlan> conditionPlans = new ArrayList<>(shardingConditions.size());
+        int maxParameterMarkerIndex = -1;
+        for (ShardingCondition each : shardingConditions) {
+            if (ShardingCondition.class != each.getClass()) {
+                return Optional.empty();
+            }
+            List<ShardingConditionValuePlan> valuePlans = new ArrayList<>(each.getValues().size());
+            for (ShardingConditionValue eachValue : each.getValues()) {
+                if (!isBoundToParameterMarkers(eachValue, params)) {
+                    return Optional.empty();
+                }
+                for (int eachIndex : eachValue.getParameterMarkerIndexes()) {
+                    maxParameterMarkerIndex = Math.max(maxParameterMarkerIndex, eachIndex);
+                }
+                valuePlans.add(new ShardingConditionValuePlan(eachValue.getColumnName(), eachValue.getTableName(), new ArrayList<>(eachValue.getParameterMarkerIndexes())));
+            }
+            conditionPlans.add(new ShardingConditionPlan(each.getStartIndex(), valuePlans));
+        }
+        return Optional.of(new ShardingRoutePlan(conditionPlans, maxParameterMarkerIndex));
+    }
+    
+    private static boolean isBoundToParameterMarkers(final ShardingConditionValue conditionValue, final List<Object> params) {
+        if (!(conditionValue instanceof ListShardingConditionValue)) {
+            return false;
+        }
+        Collection<?> values = ((ListShardingConditionValue<?>) conditionValue).getValues();
+        List<Integer> parameterMarkerIndexes = conditionValue.getParameterMarkerIndexes();
+        if (parameterMarkerIndexes.isEmpty()) {
+            return 1 == values.size() && null == values.iterator().next();
+        }
+        if (values.size() != parameterMarkerIndexes.size()) {
+            return false;
+        }
+        Iterator<?> valueIterator = values.iterator();
+        for (int each : parameterMarkerIndexes) {
+            if (each >= params.size() || params.get(each) != valueIterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Judge whether sharding route plan can be bound with parameters.
+     *
+     * @param params SQL parameters
+     * @return can be bound or not
+     */
+    public boolean isBindable(final List<Object> params) {
+        return maxParameterMarkerIndex < params.size();
+    }
+    
+    /**
+     * Bind sharding conditions with parameters.
+     *
+     * @param params SQL parameters
+     * @return bound sharding conditions
+     */
+    public List<ShardingCondition> bind(final List<Object> params) {
+        List<ShardingCondition> result = new ArrayList<>(conditionPlans.size());
+        for (ShardingConditionPlan each : conditionPlans) {
+            result.add(each.bind(params));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ShardingConditionPlan {
+        
+        private final int startIndex;
+        
+        private final List<ShardingConditionValuePlan> valuePlans;
+        
+        private ShardingCondition bind(final List<Object> params) {
+            ShardingCondition result = new ShardingCondition();
+            result.setStartIndex(startIndex);
+            for (ShardingConditionValuePlan each : valuePlans) {
+                result.getValues().add(each.bind(params));
+            }
+            return result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ShardingConditionValuePlan {
+        
+        private final String columnName;
+        
+        private final String tableName;
+        
+        private final List<Integer> parameterMarkerIndexes;
+        
+        private ShardingConditionValue bind(final List<Object> params) {
+            if (parameterMarkerIndexes.isEmpty()) {
+                return new ListShardingConditionValue<>(columnName, tableName, Collections.singletonList(null));
+            }
+            List<Comparable<?>> values = new ArrayList<>(parameterMarkerIndexes.size());
+            for (int each : parameterMarkerIndexes) {
+                Object value = params.get(each);
+                ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Sharding", value));
+                values.add((Comparable<?>) value);
+            }
+            return new ListShardingConditionValue<>(columnName, tableName, values, parameterMarkerIndexes);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+
+import java.util.Optional;
+
+/**
+ * Cache for sharding route plan.
+ */
+public final class ShardingRoutePlanCache {
+    
+    private final Cache<String, ShardingRoutePlan> cache;
+    
+    public ShardingRoutePlanCache(final ShardingCacheOptionsConfiguration cacheOptions) {
+        cache = buildRoutePlanCache(cacheOptions);
+    }
+    
+    private Cache<String, ShardingRoutePlan> buildRoutePlanCache(final ShardingCacheOptionsConfiguration cacheOptions) {
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats();
+        if (cacheOptions.isSoftValues()) {
+            result.softValues();
+        }
+        return result.build();
+    }
+    
+    /**
+     * Cache route plan.
+     *
+     * @param sql SQL
+     * @param routePlan route plan
+     */
+    public void put(final String sql, final ShardingRoutePlan routePlan) {
+        cache.put(sql, routePlan);
+    }
+    
+    /**
+     * Get cached route plan.
+     *
+     * @param sql SQL
+     * @return optional cached route plan
+     */
+    public Optional<ShardingRoutePlan> get(final String sql) {
+        return Optional.ofNullable(cache.getIfPresent(sql));
+    }
+    
+    /**
+     * Get statistics of hit, miss and eviction.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Open addressing hash table which maps group by values to continuous group indexes.
+ * 
+ * <p>Group by values of current row are passed in a reusable buffer, the buffer is copied only when a new group is found.</p>
+ */
+public final class GroupByHashTable {
+    
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    private int[] buckets;
+    
+    private int mask;
+    
+    private Object[][] groupValues;
+    
+    private int[] groupHashes;
+    
+    private int size;
+    
+    public GroupByHashTable() {
+        buckets = new int[DEFAULT_CAPACITY];
+        mask = DEFAULT_CAPACITY - 1;
+        groupValues = new Object[DEFAULT_CAPACITY >> 1][];
+        groupHashes = new int[DEFAULT_CAPACITY >> 1];
+    }
+    
+    /**
+     * Find group index of group by values, or add a new group if absent.
+     *
+     * @param values group by values of current row
+     * @return group index, equals to {@link #size()} - 1 if a new group was added
+     */
+    public int findOrAdd(final Object[] values) {
+        int hash = hash(values);
+        int bucket = hash & mask;
+        while (0 != buckets[bucket]) {
+            int groupIndex = buckets[bucket] - 1;
+            if (groupHashes[groupIndex] == hash && Arrays.equals(groupValues[groupIndex], values)) {
+                return groupIndex;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        return add(bucket, hash, values);
+    }
+    
+    private int add(final int bucket, final int hash, final Object[] values) {
+        int result = size++;
+        if (result == groupValues.length) {
+            groupValues = Arrays.copyOf(groupValues, result << 1);
+            groupHashes = Arrays.copyOf(groupHashes, result << 1);
+        }
+        groupValues[result] = values.clone();
+        groupHashes[result] = hash;
+        buckets[bucket] = result + 1;
+        if (size << 1 > buckets.length) {
+            rehash();
+        }
+        return result;
+    }
+    
+    private void rehash() {
+        buckets = new int[buckets.length << 1];
+        mask = buckets.length - 1;
+        for (int i = 0; i < size; i++) {
+            int bucket = groupHashes[i] & mask;
+            while (0 != buckets[bucket]) {
+                bucket = (bucket + 1) & mask;
+            }
+            buckets[bucket] = i + 1;
+        }
+    }
+    
+    private int hash(final Object[] values) {
+        int result = 1;
+        for (Object each : values) {
+            result = 31 * result + Objects.hashCode(each);
+        }
+        return result ^ result >>> 16;
+    }
+    
+    /**
+     * Get group by values of group.
+     *
+     * @param groupIndex group index
+     * @return group by values
+     */
+    public Object[] getGroupValues(final int groupIndex) {
+        return groupValues[groupIndex];
+    }
+    
+    /**
+     * Get group count.
+     *
+     * @return group count
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -21,12 +21,15 @@ import com.google.common.collect.Maps;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.DistinctAggregationContext;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.DistinctAggregationOption;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 
 import java.sql.SQLException;
@@ -44,14 +47,23 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final DistinctAggregationOption distinctAggregationOption;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
                                      final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(queryResults, selectStatementContext, schema);
+        this(labelAndIndexMap, queryResults, selectStatementContext, schema,
+                Integer.parseInt(ConfigurationPropertyKey.LOSER_TREE_MERGE_THRESHOLD.getDefaultValue()), DistinctAggregationOption.DEFAULT);
+    }
+    
+    public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final ShardingSphereSchema schema, final int loserTreeMergeThreshold, final DistinctAggregationOption distinctAggregationOption) throws SQLException {
+        super(queryResults, selectStatementContext, schema, loserTreeMergeThreshold);
         this.selectStatementContext = selectStatementContext;
+        this.distinctAggregationOption = distinctAggregationOption;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
         currentGroupByValues = getOrderByValuesQueue().isEmpty()
                 ? Collections.emptyList()
@@ -76,20 +88,22 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-        while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
-            aggregate(aggregationUnitMap);
-            if (!cachedRow) {
-                cacheCurrentRow();
-                cachedRow = true;
-            }
-            result = super.next();
-            if (!result) {
-                break;
+        try (DistinctAggregationContext distinctAggregationContext = new DistinctAggregationContext(distinctAggregationOption)) {
+            Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(),
+                    input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, distinctAggregationContext));
+            while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
+                aggregate(aggregationUnitMap);
+                if (!cachedRow) {
+                    cacheCurrentRow();
+                    cachedRow = true;
+                }
+                result = super.next();
+                if (!result) {
+                    break;
+                }
             }
+            setAggregationValueToCurrentRow(aggregationUnitMap);
         }
-        setAggregationValueToCurrentRow(aggregationUnitMap);
         return result;
     }
     
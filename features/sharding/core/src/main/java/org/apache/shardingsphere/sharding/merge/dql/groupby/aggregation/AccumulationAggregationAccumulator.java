@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Accumulation aggregation accumulator for SUM and COUNT.
+ */
+public final class AccumulationAggregationAccumulator implements AggregationAccumulator {
+    
+    private final int columnIndex;
+    
+    private final SumArray sums = new SumArray();
+    
+    public AccumulationAggregationAccumulator(final int columnIndex) {
+        this.columnIndex = columnIndex;
+    }
+    
+    @Override
+    public void accumulate(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        sums.add(groupIndex, AggregationValueReader.read(queryResult, columnIndex));
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return sums.get(groupIndex);
+    }
+}
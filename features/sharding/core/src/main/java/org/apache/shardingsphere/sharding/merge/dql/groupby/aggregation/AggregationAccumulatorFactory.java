@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+
+import java.util.List;
+
+/**
+ * Aggregation accumulator factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AggregationAccumulatorFactory {
+    
+    /**
+     * Create aggregation accumulator.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param distinctAggregationContext distinct aggregation context
+     * @return aggregation accumulator
+     */
+    public static AggregationAccumulator create(final AggregationProjection aggregationProjection, final DistinctAggregationContext distinctAggregationContext) {
+        int[] columnIndexes = getColumnIndexes(aggregationProjection);
+        boolean distinct = aggregationProjection instanceof AggregationDistinctProjection;
+        if (!distinct) {
+            switch (aggregationProjection.getType()) {
+                case SUM:
+                case COUNT:
+                    return new AccumulationAggregationAccumulator(columnIndexes[0]);
+                case AVG:
+                    if (columnIndexes.length > 1) {
+                        return new AverageAggregationAccumulator(columnIndexes[0], columnIndexes[1]);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new AggregationUnitAccumulator(aggregationProjection.getType(), distinct, columnIndexes, distinctAggregationContext);
+    }
+    
+    private static int[] getColumnIndexes(final AggregationProjection aggregationProjection) {
+        List<AggregationProjection> derivedProjections = aggregationProjection.getDerivedAggregationProjections();
+        if (derivedProjections.isEmpty()) {
+            return new int[]{aggregationProjection.getIndex()};
+        }
+        int[] result = new int[derivedProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = derivedProjections.get(i).getIndex();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregation accumulator which delegates to one {@link AggregationUnit} per group, used by MAX, MIN, BIT_XOR and distinct aggregations.
+ */
+public final class AggregationUnitAccumulator implements AggregationAccumulator {
+    
+    private final AggregationType type;
+    
+    private final boolean distinct;
+    
+    private final int[] columnIndexes;
+    
+    private final DistinctAggregationContext distinctAggregationContext;
+    
+    private final List<Comparable<?>> values;
+    
+    private AggregationUnit[] units = new AggregationUnit[64];
+    
+    public AggregationUnitAccumulator(final AggregationType type, final boolean distinct, final int[] columnIndexes, final DistinctAggregationContext distinctAggregationContext) {
+        this.type = type;
+        this.distinct = distinct;
+        this.columnIndexes = columnIndexes;
+        this.distinctAggregationContext = distinctAggregationContext;
+        values = new ArrayList<>(columnIndexes.length);
+    }
+    
+    @Override
+    public void accumulate(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        values.clear();
+        for (int each : columnIndexes) {
+            values.add(AggregationValueReader.read(queryResult, each));
+        }
+        getUnit(groupIndex).merge(values);
+    }
+    
+    private AggregationUnit getUnit(final int groupIndex) {
+        if (groupIndex >= units.length) {
+            units = Arrays.copyOf(units, Math.max(units.length << 1, groupIndex + 1));
+        }
+        if (null == units[groupIndex]) {
+            units[groupIndex] = AggregationUnitFactory.create(type, distinct, distinctAggregationContext);
+        }
+        return units[groupIndex];
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return groupIndex < units.length && null != units[groupIndex] ? units[groupIndex].getResult() : AggregationUnitFactory.create(type, distinct, distinctAggregationContext).getResult();
+    }
+}
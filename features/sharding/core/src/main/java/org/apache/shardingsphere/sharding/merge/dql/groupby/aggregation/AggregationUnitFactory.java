@@ -37,21 +37,40 @@ public final class AggregationUnitFactory {
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+        return create(type, isDistinct, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT));
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param distinctAggregationContext distinct aggregation context
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final DistinctAggregationContext distinctAggregationContext) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
             case MIN:
                 return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? new DistinctSumAggregationUnit(distinctAggregationContext) : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? createDistinctCountAggregationUnit(distinctAggregationContext) : new AccumulationAggregationUnit();
             case AVG:
-                return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
+                return isDistinct ? new DistinctAverageAggregationUnit(distinctAggregationContext) : new AverageAggregationUnit();
             case BIT_XOR:
                 return new BitXorAggregationUnit();
             default:
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    private static AggregationUnit createDistinctCountAggregationUnit(final DistinctAggregationContext distinctAggregationContext) {
+        return distinctAggregationContext.getOption().isApproximateCount()
+                ? new ApproximateDistinctCountAggregationUnit()
+                : new DistinctCountAggregationUnit(distinctAggregationContext);
+    }
 }
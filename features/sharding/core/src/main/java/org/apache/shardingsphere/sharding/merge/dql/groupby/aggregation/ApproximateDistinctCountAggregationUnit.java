@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Approximate distinct count aggregation unit.
+ * 
+ * <p>Counts exactly until the distinct values exceed the exact count limit, then estimates with {@link HyperLogLog}.
+ * Values are deduplicated by the same rule as {@link DistinctCountAggregationUnit}, and the result is of the same type.</p>
+ */
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final int EXACT_COUNT_LIMIT = 256;
+    
+    private Collection<Comparable<?>> values = new TreeSet<>(SpillableDistinctValues.VALUE_COMPARATOR);
+    
+    private HyperLogLog hyperLogLog;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        if (null != hyperLogLog) {
+            hyperLogLog.add(normalize(values.get(0)));
+            return;
+        }
+        this.values.add(values.get(0));
+        if (this.values.size() > EXACT_COUNT_LIMIT) {
+            hyperLogLog = new HyperLogLog();
+            this.values.forEach(each -> hyperLogLog.add(normalize(each)));
+            this.values = null;
+        }
+    }
+    
+    private Object normalize(final Comparable<?> value) {
+        return value instanceof BigDecimal ? ((BigDecimal) value).stripTrailingZeros() : value;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return null == hyperLogLog ? values.size() : (int) Math.min(Integer.MAX_VALUE, hyperLogLog.estimate());
+    }
+}
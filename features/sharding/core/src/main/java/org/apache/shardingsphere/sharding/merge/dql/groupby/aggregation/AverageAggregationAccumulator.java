@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+
+/**
+ * Average aggregation accumulator for AVG, which accumulates derived COUNT and SUM.
+ */
+public final class AverageAggregationAccumulator implements AggregationAccumulator {
+    
+    private final int countColumnIndex;
+    
+    private final int sumColumnIndex;
+    
+    private final SumArray counts = new SumArray();
+    
+    private final SumArray sums = new SumArray();
+    
+    public AverageAggregationAccumulator(final int countColumnIndex, final int sumColumnIndex) {
+        this.countColumnIndex = countColumnIndex;
+        this.sumColumnIndex = sumColumnIndex;
+    }
+    
+    @Override
+    public void accumulate(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        Comparable<?> count = AggregationValueReader.read(queryResult, countColumnIndex);
+        Comparable<?> sum = AggregationValueReader.read(queryResult, sumColumnIndex);
+        if (null == count || null == sum) {
+            return;
+        }
+        counts.add(groupIndex, count);
+        sums.add(groupIndex, sum);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        BigDecimal count = counts.get(groupIndex);
+        if (null == count || BigDecimal.ZERO.equals(count)) {
+            return count;
+        }
+        // TODO use metadata to fetch float number precise for database field
+        return sums.get(groupIndex).divide(count, 4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Distinct aggregation context of one merge.
+ * 
+ * <p>All distinct values created by the context share one spill threshold, the largest in-memory distinct values are spilled to disk
+ * once the count of values kept in memory by all groups reaches the threshold. Closing the context removes all spilled run files.</p>
+ */
+@RequiredArgsConstructor
+public final class DistinctAggregationContext implements AutoCloseable {
+    
+    @Getter
+    private final DistinctAggregationOption option;
+    
+    private final Collection<SpillableDistinctValues> distinctValues = new LinkedHashSet<>();
+    
+    private int inMemoryValueCount;
+    
+    /**
+     * Create distinct values which share the spill threshold of current context.
+     *
+     * @return created distinct values
+     */
+    public SpillableDistinctValues createDistinctValues() {
+        SpillableDistinctValues result = new SpillableDistinctValues(this);
+        distinctValues.add(result);
+        return result;
+    }
+    
+    void increaseInMemoryValueCount() {
+        inMemoryValueCount++;
+        if (option.getSpillThreshold() > 0 && inMemoryValueCount >= option.getSpillThreshold()) {
+            spill();
+        }
+    }
+    
+    void decreaseInMemoryValueCount(final int count) {
+        inMemoryValueCount -= count;
+    }
+    
+    private void spill() {
+        List<SpillableDistinctValues> candidates = new ArrayList<>(distinctValues.size());
+        for (SpillableDistinctValues each : distinctValues) {
+            if (each.isSpillable()) {
+                candidates.add(each);
+            }
+        }
+        candidates.sort(Comparator.comparingInt(SpillableDistinctValues::getInMemorySize).reversed());
+        int targetCount = option.getSpillThreshold() / 2;
+        for (SpillableDistinctValues each : candidates) {
+            if (inMemoryValueCount <= targetCount) {
+                return;
+            }
+            each.spill();
+        }
+    }
+    
+    void release(final SpillableDistinctValues values) {
+        if (distinctValues.remove(values)) {
+            values.clear();
+        }
+    }
+    
+    @Override
+    public void close() {
+        for (SpillableDistinctValues each : distinctValues) {
+            each.clear();
+        }
+        distinctValues.clear();
+        inMemoryValueCount = 0;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+/**
+ * Distinct aggregation option.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DistinctAggregationOption {
+    
+    /**
+     * Default distinct aggregation option, which never spills distinct values to disk and always counts exactly.
+     */
+    public static final DistinctAggregationOption DEFAULT = new DistinctAggregationOption(0, false);
+    
+    private final int spillThreshold;
+    
+    private final boolean approximateCount;
+    
+    /**
+     * Create distinct aggregation option with configuration properties.
+     *
+     * @param props configuration properties
+     * @return distinct aggregation option
+     */
+    public static DistinctAggregationOption create(final ConfigurationProperties props) {
+        return new DistinctAggregationOption(props.getValue(ConfigurationPropertyKey.DISTINCT_AGGREGATION_SPILL_THRESHOLD),
+                props.getValue(ConfigurationPropertyKey.APPROXIMATE_DISTINCT_COUNT_ENABLED));
+    }
+}
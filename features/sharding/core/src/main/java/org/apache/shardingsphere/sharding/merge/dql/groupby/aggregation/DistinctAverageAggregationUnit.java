@@ -14,54 +14,56 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
-import lombok.RequiredArgsConstructor;
-
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
  * Distinct average aggregation unit.
  */
-@RequiredArgsConstructor
 public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
+    private final SpillableDistinctValues values;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
     
-    private final Collection<Comparable<?>> countValues = new LinkedHashSet<>();
+    private boolean calculated;
+    
+    public DistinctAverageAggregationUnit() {
+        this(new DistinctAggregationContext(DistinctAggregationOption.DEFAULT));
+    }
     
-    private final Collection<Comparable<?>> sumValues = new LinkedHashSet<>();
+    public DistinctAverageAggregationUnit(final DistinctAggregationContext context) {
+        values = context.createDistinctValues();
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (countValues.add(values.get(0)) && sumValues.add(values.get(0))) {
-            if (null == count) {
-                count = BigDecimal.ZERO;
-            }
-            if (null == sum) {
-                sum = BigDecimal.ZERO;
-            }
-            count = count.add(new BigDecimal(values.get(0).toString()));
-            sum = sum.add(new BigDecimal(values.get(1).toString()));
-        }
+        this.values.add(values.get(0), values.get(1));
     }
     
     @Override
     public Comparable<?> getResult() {
+        if (!calculated) {
+            values.forEach(this::accumulate);
+            calculated = true;
+        }
         if (null == count || BigDecimal.ZERO.equals(count)) {
             return count;
         }
         // TODO use metadata to fetch float number precise for database field
         return sum.divide(count, 4, RoundingMode.HALF_UP);
     }
+    
+    private void accumulate(final Comparable<?> countValue, final Comparable<?> sumValue) {
+        count = (null == count ? BigDecimal.ZERO : count).add(new BigDecimal(countValue.toString()));
+        sum = (null == sum ? BigDecimal.ZERO : sum).add(new BigDecimal(sumValue.toString()));
+    }
 }
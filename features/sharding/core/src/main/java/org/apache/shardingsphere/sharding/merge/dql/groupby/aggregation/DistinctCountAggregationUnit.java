@@ -14,33 +14,42 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
-import lombok.RequiredArgsConstructor;
-
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
  * Distinct count aggregation unit.
  */
-@RequiredArgsConstructor
 public final class DistinctCountAggregationUnit implements AggregationUnit {
     
-    private final Collection<Comparable<?>> values = new HashSet<>();
+    private final SpillableDistinctValues values;
+    
+    private Integer result;
+    
+    public DistinctCountAggregationUnit() {
+        this(new DistinctAggregationContext(DistinctAggregationOption.DEFAULT));
+    }
+    
+    public DistinctCountAggregationUnit(final DistinctAggregationContext context) {
+        values = context.createDistinctValues();
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        this.values.add(values.get(0));
+        this.values.add(values.get(0), null);
     }
     
     @Override
     public Comparable<?> getResult() {
-        return values.size();
+        if (null == result) {
+            int[] count = new int[1];
+            values.forEach((value, attachment) -> count[0]++);
+            result = count[0];
+        }
+        return result;
     }
 }
@@ -14,41 +14,44 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
-import lombok.RequiredArgsConstructor;
-
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
  * Distinct sum aggregation unit.
  */
-@RequiredArgsConstructor
 public final class DistinctSumAggregationUnit implements AggregationUnit {
     
+    private final SpillableDistinctValues values;
+    
     private BigDecimal result;
     
-    private final Collection<Comparable<?>> values = new HashSet<>();
+    private boolean calculated;
+    
+    public DistinctSumAggregationUnit() {
+        this(new DistinctAggregationContext(DistinctAggregationOption.DEFAULT));
+    }
+    
+    public DistinctSumAggregationUnit(final DistinctAggregationContext context) {
+        values = context.createDistinctValues();
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (this.values.add(values.get(0))) {
-            if (null == result) {
-                result = BigDecimal.ZERO;
-            }
-            result = result.add(new BigDecimal(values.get(0).toString()));
-        }
+        this.values.add(values.get(0), null);
     }
     
     @Override
     public Comparable<?> getResult() {
+        if (!calculated) {
+            values.forEach((value, attachment) -> result = (null == result ? BigDecimal.ZERO : result).add(new BigDecimal(value.toString())));
+            calculated = true;
+        }
         return result;
     }
 }
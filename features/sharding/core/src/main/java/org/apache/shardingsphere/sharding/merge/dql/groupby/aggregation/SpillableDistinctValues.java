@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Distinct values which spill to sorted run files on disk once the count of values kept in memory by the distinct aggregation context reaches the spill threshold.
+ * 
+ * <p>Each distinct value is kept with the attachment of its first occurrence. Values are deduplicated by {@link #VALUE_COMPARATOR} both in memory and on disk.
+ * Values are iterated only once, the spilled run files are removed after iterating or closing the distinct aggregation context.</p>
+ */
+public final class SpillableDistinctValues {
+    
+    /**
+     * Comparator to deduplicate distinct values, values of different types are never equal.
+     */
+    static final Comparator<Comparable<?>> VALUE_COMPARATOR = SpillableDistinctValues::compareValues;
+    
+    private static final int OBJECT_STREAM_RESET_INTERVAL = 1024;
+    
+    private final DistinctAggregationContext context;
+    
+    private final NavigableMap<Comparable<?>, Comparable<?>> values = new TreeMap<>(VALUE_COMPARATOR);
+    
+    private final Collection<File> runFiles = new LinkedList<>();
+    
+    @Getter(AccessLevel.PACKAGE)
+    private boolean spillable = true;
+    
+    SpillableDistinctValues(final DistinctAggregationContext context) {
+        this.context = context;
+    }
+    
+    /**
+     * Add distinct value.
+     *
+     * @param value value
+     * @param attachment attachment of value, only the attachment of first occurrence is kept
+     */
+    public void add(final Comparable<?> value, final Comparable<?> attachment) {
+        if (values.containsKey(value)) {
+            return;
+        }
+        values.put(value, attachment);
+        if (!spillable) {
+            return;
+        }
+        if (value instanceof Serializable && (null == attachment || attachment instanceof Serializable)) {
+            context.increaseInMemoryValueCount();
+        } else {
+            spillable = false;
+            context.decreaseInMemoryValueCount(values.size() - 1);
+        }
+    }
+    
+    /**
+     * Judge whether values spilled to disk or not.
+     *
+     * @return values spilled to disk or not
+     */
+    public boolean isSpilled() {
+        return !runFiles.isEmpty();
+    }
+    
+    int getInMemorySize() {
+        return values.size();
+    }
+    
+    /**
+     * Iterate distinct values with attachments.
+     *
+     * @param consumer consumer of value and attachment
+     */
+    public void forEach(final BiConsumer<Comparable<?>, Comparable<?>> consumer) {
+        try {
+            if (runFiles.isEmpty()) {
+                values.forEach(consumer);
+            } else {
+                mergeRuns(consumer);
+            }
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new UnknownSQLException(ex);
+        } finally {
+            context.release(this);
+        }
+    }
+    
+    void spill() {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            File runFile = Files.createTempFile("shardingsphere-distinct-", ".run").toFile();
+            runFiles.add(runFile);
+            try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile.toPath())))) {
+                int count = 0;
+                for (Entry<Comparable<?>, Comparable<?>> each : values.entrySet()) {
+                    outputStream.writeObject(each.getKey());
+                    outputStream.writeObject(each.getValue());
+                    if (0 == ++count % OBJECT_STREAM_RESET_INTERVAL) {
+                        outputStream.reset();
+                    }
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex);
+        }
+        context.decreaseInMemoryValueCount(values.size());
+        values.clear();
+    }
+    
+    void clear() {
+        if (spillable) {
+            context.decreaseInMemoryValueCount(values.size());
+        }
+        values.clear();
+        for (File each : runFiles) {
+            each.delete();
+        }
+        runFiles.clear();
+    }
+    
+    private void mergeRuns(final BiConsumer<Comparable<?>, Comparable<?>> consumer) throws IOException, ClassNotFoundException {
+        List<RunCursor> cursors = new ArrayList<>(runFiles.size() + 1);
+        try {
+            for (File each : runFiles) {
+                cursors.add(new FileRunCursor(each));
+            }
+            cursors.add(new MemoryRunCursor(values.entrySet().iterator()));
+            PriorityQueue<Integer> queue = new PriorityQueue<>(cursors.size(), (o1, o2) -> compareCursors(cursors.get(o1), o1, cursors.get(o2), o2));
+            for (int i = 0; i < cursors.size(); i++) {
+                if (cursors.get(i).next()) {
+                    queue.offer(i);
+                }
+            }
+            Comparable<?> previousValue = null;
+            while (!queue.isEmpty()) {
+                int index = queue.poll();
+                RunCursor cursor = cursors.get(index);
+                if (null == previousValue || 0 != compareValues(previousValue, cursor.getValue())) {
+                    previousValue = cursor.getValue();
+                    consumer.accept(cursor.getValue(), cursor.getAttachment());
+                }
+                if (cursor.next()) {
+                    queue.offer(index);
+                }
+            }
+        } finally {
+            for (RunCursor each : cursors) {
+                each.close();
+            }
+        }
+    }
+    
+    private static int compareCursors(final RunCursor cursor, final int index, final RunCursor otherCursor, final int otherIndex) {
+        int result = compareValues(cursor.getValue(), otherCursor.getValue());
+        return 0 == result ? Integer.compare(index, otherIndex) : result;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compareValues(final Comparable value, final Comparable otherValue) {
+        if (value.getClass() != otherValue.getClass()) {
+            return value.getClass().getName().compareTo(otherValue.getClass().getName());
+        }
+        return value.compareTo(otherValue);
+    }
+    
+    private interface RunCursor {
+        
+        boolean next() throws IOException, ClassNotFoundException;
+        
+        Comparable<?> getValue();
+        
+        Comparable<?> getAttachment();
+        
+        void close() throws IOException;
+    }
+    
+    private static final class MemoryRunCursor implements RunCursor {
+        
+        private final Iterator<Entry<Comparable<?>, Comparable<?>>> iterator;
+        
+        private Entry<Comparable<?>, Comparable<?>> current;
+        
+        MemoryRunCursor(final Iterator<Entry<Comparable<?>, Comparable<?>>> iterator) {
+            this.iterator = iterator;
+        }
+        
+        @Override
+        public boolean next() {
+            current = iterator.hasNext() ? iterator.next() : null;
+            return null != current;
+        }
+        
+        @Override
+        public Comparable<?> getValue() {
+            return current.getKey();
+        }
+        
+        @Override
+        public Comparable<?> getAttachment() {
+            return current.getValue();
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+    
+    private static final class FileRunCursor implements RunCursor {
+        
+        private final ObjectInputStream inputStream;
+        
+        private Comparable<?> value;
+        
+        private Comparable<?> attachment;
+        
+        FileRunCursor(final File runFile) throws IOException {
+            inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(runFile.toPath())));
+        }
+        
+        @Override
+        public boolean next() throws IOException, ClassNotFoundException {
+            try {
+                value = (Comparable<?>) inputStream.readObject();
+            } catch (final EOFException ignored) {
+                return false;
+            }
+            attachment = (Comparable<?>) inputStream.readObject();
+            return true;
+        }
+        
+        @Override
+        public Comparable<?> getValue() {
+            return value;
+        }
+        
+        @Override
+        public Comparable<?> getAttachment() {
+            return attachment;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Sum array, which sums integral values in primitive long and switches to big decimal only on overflow or non-integral values.
+ */
+public final class SumArray {
+    
+    private static final int DEFAULT_CAPACITY = 64;
+    
+    private long[] longSums = new long[DEFAULT_CAPACITY];
+    
+    private BigDecimal[] decimalSums = new BigDecimal[DEFAULT_CAPACITY];
+    
+    private boolean[] present = new boolean[DEFAULT_CAPACITY];
+    
+    /**
+     * Add value to sum of group.
+     *
+     * @param groupIndex group index
+     * @param value value to be added, null is ignored
+     */
+    public void add(final int groupIndex, final Object value) {
+        if (null == value) {
+            return;
+        }
+        ensureCapacity(groupIndex);
+        present[groupIndex] = true;
+        if (null == decimalSums[groupIndex] && isIntegral(value)) {
+            long longValue = ((Number) value).longValue();
+            long result = longSums[groupIndex] + longValue;
+            if (((longSums[groupIndex] ^ result) & (longValue ^ result)) >= 0) {
+                longSums[groupIndex] = result;
+                return;
+            }
+        }
+        BigDecimal decimalSum = null == decimalSums[groupIndex] ? BigDecimal.valueOf(longSums[groupIndex]) : decimalSums[groupIndex];
+        decimalSums[groupIndex] = decimalSum.add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private void ensureCapacity(final int groupIndex) {
+        if (groupIndex < present.length) {
+            return;
+        }
+        int newCapacity = Math.max(present.length << 1, groupIndex + 1);
+        longSums = Arrays.copyOf(longSums, newCapacity);
+        decimalSums = Arrays.copyOf(decimalSums, newCapacity);
+        present = Arrays.copyOf(present, newCapacity);
+    }
+    
+    /**
+     * Judge whether group has any value added.
+     *
+     * @param groupIndex group index
+     * @return has value or not
+     */
+    public boolean isPresent(final int groupIndex) {
+        return groupIndex < present.length && present[groupIndex];
+    }
+    
+    /**
+     * Get sum of group.
+     *
+     * @param groupIndex group index
+     * @return sum, null if no value added
+     */
+    public BigDecimal get(final int groupIndex) {
+        if (!isPresent(groupIndex)) {
+            return null;
+        }
+        return null == decimalSums[groupIndex] ? BigDecimal.valueOf(longSums[groupIndex]) : decimalSums[groupIndex];
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Loser tree queue.
+ * 
+ * <p>Each element occupies a leaf of a tournament tree, the winner is kept at the root and every inner node keeps the loser of its match.
+ * Polling the winner and offering it back after it advanced (the typical k-way merge step) replays one leaf-to-root path only,
+ * which costs exactly log(k) comparisons instead of the up to 2 * log(k) comparisons of a binary heap.</p>
+ *
+ * @param <T> type of element
+ */
+public final class LoserTreeQueue<T extends Comparable<T>> extends AbstractQueue<T> {
+    
+    private static final int NONE = -1;
+    
+    private final Object[] leaves;
+    
+    private final int[] tree;
+    
+    private int size;
+    
+    private int pendingLeaf = NONE;
+    
+    private boolean built;
+    
+    public LoserTreeQueue(final int capacity) {
+        leaves = new Object[Math.max(capacity, 1)];
+        tree = new int[leaves.length];
+    }
+    
+    @Override
+    public boolean offer(final T element) {
+        if (null == element) {
+            throw new NullPointerException();
+        }
+        if (NONE != pendingLeaf) {
+            leaves[pendingLeaf] = element;
+            size++;
+            replay(pendingLeaf);
+            pendingLeaf = NONE;
+            return true;
+        }
+        int emptyLeaf = findEmptyLeaf();
+        if (NONE == emptyLeaf) {
+            return false;
+        }
+        leaves[emptyLeaf] = element;
+        size++;
+        built = false;
+        return true;
+    }
+    
+    private int findEmptyLeaf() {
+        for (int i = 0; i < leaves.length; i++) {
+            if (null == leaves[i]) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+    
+    @Override
+    public T poll() {
+        settle();
+        if (0 == size) {
+            return null;
+        }
+        int winner = tree[0];
+        T result = getLeaf(winner);
+        leaves[winner] = null;
+        size--;
+        pendingLeaf = winner;
+        return result;
+    }
+    
+    @Override
+    public T peek() {
+        settle();
+        return 0 == size ? null : getLeaf(tree[0]);
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public void clear() {
+        Arrays.fill(leaves, null);
+        size = 0;
+        pendingLeaf = NONE;
+        built = false;
+    }
+    
+    @Override
+    public Iterator<T> iterator() {
+        Collection<T> result = new ArrayList<>(size);
+        for (int i = 0; i < leaves.length; i++) {
+            if (null != leaves[i]) {
+                result.add(getLeaf(i));
+            }
+        }
+        return result.iterator();
+    }
+    
+    private void settle() {
+        if (!built) {
+            build();
+            return;
+        }
+        if (NONE != pendingLeaf) {
+            replay(pendingLeaf);
+            pendingLeaf = NONE;
+        }
+    }
+    
+    private void build() {
+        Arrays.fill(tree, leaves.length);
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+        pendingLeaf = NONE;
+        built = true;
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + leaves.length) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (leaves.length == leaf) {
+            return true;
+        }
+        if (leaves.length == otherLeaf) {
+            return false;
+        }
+        if (null == leaves[leaf]) {
+            return false;
+        }
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        int result = getLeaf(leaf).compareTo(getLeaf(otherLeaf));
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private T getLeaf(final int leaf) {
+        return (T) leaves[leaf];
+    }
+}
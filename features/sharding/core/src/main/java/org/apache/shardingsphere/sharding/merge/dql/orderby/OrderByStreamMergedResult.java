@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 
 import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -45,12 +46,28 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this(queryResults, selectStatementContext, schema, Integer.parseInt(ConfigurationPropertyKey.LOSER_TREE_MERGE_THRESHOLD.getDefaultValue()));
+    }
+    
+    public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final ShardingSphereSchema schema, final int loserTreeMergeThreshold) throws SQLException {
         orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
+        orderByValuesQueue = createOrderByValuesQueue(queryResults.size(), loserTreeMergeThreshold);
         orderResultSetsToQueue(queryResults, selectStatementContext, schema);
         isFirstNext = true;
     }
     
+    /**
+     * Create order by values queue.
+     *
+     * @param capacity capacity
+     * @param loserTreeMergeThreshold minimum capacity to use loser tree, less than or equal to 0 means never use loser tree
+     * @return order by values queue
+     */
+    public static Queue<OrderByValue> createOrderByValuesQueue(final int capacity, final int loserTreeMergeThreshold) {
+        return loserTreeMergeThreshold > 0 && capacity >= loserTreeMergeThreshold ? new LoserTreeQueue<>(capacity) : new PriorityQueue<>(Math.max(capacity, 1));
+    }
+    
     private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         for (QueryResult each : queryResults) {
             OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
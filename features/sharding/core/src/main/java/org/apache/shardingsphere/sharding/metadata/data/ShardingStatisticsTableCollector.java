@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
@@ -35,10 +36,21 @@ import org.apache.shardingsphere.sharding.rule.TableRule;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Sharding statistics table data collector.
@@ -47,6 +59,18 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereSta
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
+    private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 60L;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = createExecutorService();
+    
+    private static ExecutorService createExecutorService() {
+        int threadCount = Runtime.getRuntime().availableProcessors() * 2;
+        ThreadPoolExecutor result = new ThreadPoolExecutor(threadCount, threadCount, EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build("sharding-statistics-collect-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
     @Override
     public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
                                                      final Map<String, ShardingSphereDatabase> shardingSphereDatabases) throws SQLException {
@@ -72,6 +96,8 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereSta
     }
     
     private void collectForShardingStatisticTable(final ShardingSphereDatabase database, final ShardingRule shardingRule, final ShardingSphereTableData tableData) throws SQLException {
+        Collection<List<Object>> rows = new LinkedList<>();
+        Map<String, Map<DataNode, List<Object>>> storageUnitDataNodeRows = new LinkedHashMap<>();
         int count = 1;
         for (TableRule each : shardingRule.getTableRules().values()) {
             for (DataNode dataNode : each.getActualDataNodes()) {
@@ -81,24 +107,53 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereSta
                 row.add(each.getLogicTable());
                 row.add(dataNode.getDataSourceName());
                 row.add(dataNode.getTableName());
-                addTableRowsAndDataLength(database.getResourceMetaData().getStorageUnits(), dataNode, row);
-                tableData.getRows().add(new ShardingSphereRowData(row));
+                rows.add(row);
+                storageUnitDataNodeRows.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedHashMap<>()).put(dataNode, row);
             }
         }
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (Entry<String, Map<DataNode, List<Object>>> entry : storageUnitDataNodeRows.entrySet()) {
+            StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(entry.getKey());
+            futures.add(EXECUTOR_SERVICE.submit(() -> {
+                addTableRowsAndDataLength(storageUnit, entry.getValue());
+                return null;
+            }));
+        }
+        waitForCompletion(futures);
+        for (List<Object> each : rows) {
+            tableData.getRows().add(new ShardingSphereRowData(each));
+        }
     }
     
-    private void addTableRowsAndDataLength(final Map<String, StorageUnit> storageUnits, final DataNode dataNode, final List<Object> row) throws SQLException {
-        DatabaseType databaseType = storageUnits.get(dataNode.getDataSourceName()).getStorageType();
-        Optional<DialectShardingStatisticsTableCollector> dialectCollector = DatabaseTypedSPILoader.findService(DialectShardingStatisticsTableCollector.class, databaseType);
-        boolean isAppended = false;
+    private void addTableRowsAndDataLength(final StorageUnit storageUnit, final Map<DataNode, List<Object>> dataNodeRows) throws SQLException {
+        Optional<DialectShardingStatisticsTableCollector> dialectCollector = DatabaseTypedSPILoader.findService(DialectShardingStatisticsTableCollector.class, storageUnit.getStorageType());
+        Collection<DataNode> appendedDataNodes = Collections.emptySet();
         if (dialectCollector.isPresent()) {
-            try (Connection connection = storageUnits.get(dataNode.getDataSourceName()).getDataSource().getConnection()) {
-                isAppended = dialectCollector.get().appendRow(connection, dataNode, row);
+            try (Connection connection = storageUnit.getDataSource().getConnection()) {
+                appendedDataNodes = new HashSet<>(dialectCollector.get().appendRows(connection, dataNodeRows));
             }
         }
-        if (!isAppended) {
-            row.add(BigDecimal.ZERO);
-            row.add(BigDecimal.ZERO);
+        for (Entry<DataNode, List<Object>> entry : dataNodeRows.entrySet()) {
+            if (!appendedDataNodes.contains(entry.getKey())) {
+                entry.getValue().add(BigDecimal.ZERO);
+                entry.getValue().add(BigDecimal.ZERO);
+            }
+        }
+    }
+    
+    private void waitForCompletion(final Collection<Future<?>> futures) throws SQLException {
+        try {
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
         }
     }
     
@@ -23,7 +23,11 @@ import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Dialect sharding statistics table data collector.
@@ -45,4 +49,22 @@ public interface DialectShardingStatisticsTableCollector extends DatabaseTypedSP
      * @throws SQLException SQL exception
      */
     boolean appendRow(Connection connection, DataNode dataNode, List<Object> row) throws SQLException;
+    
+    /**
+     * Append dialect contents into rows of data nodes which belong to the same storage unit.
+     *
+     * @param connection connection
+     * @param dataNodeRows rows to be appended, key is data node
+     * @return data nodes whose rows are appended, rows of other data nodes are left as they are
+     * @throws SQLException SQL exception
+     */
+    default Collection<DataNode> appendRows(final Connection connection, final Map<DataNode, List<Object>> dataNodeRows) throws SQLException {
+        Collection<DataNode> result = new LinkedList<>();
+        for (Entry<DataNode, List<Object>> entry : dataNodeRows.entrySet()) {
+            if (appendRow(connection, entry.getKey(), entry.getValue())) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
 
+import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingStatisticsTableCollector;
 
@@ -24,7 +25,13 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Sharding statistics table data collector of MySQL.
@@ -33,6 +40,10 @@ public final class MySQLShardingStatisticsTableCollector implements DialectShard
     
     private static final String MYSQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
     
+    private static final String MYSQL_TABLES_ROWS_AND_DATA_LENGTH = "SELECT TABLE_NAME, TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s)";
+    
+    private static final int BATCH_SIZE = 1000;
+    
     @Override
     public boolean appendRow(final Connection connection, final DataNode dataNode, final List<Object> row) throws SQLException {
         try (PreparedStatement preparedStatement = connection.prepareStatement(MYSQL_TABLE_ROWS_AND_DATA_LENGTH)) {
@@ -49,6 +60,32 @@ public final class MySQLShardingStatisticsTableCollector implements DialectShard
         return false;
     }
     
+    @Override
+    public Collection<DataNode> appendRows(final Connection connection, final Map<DataNode, List<Object>> dataNodeRows) throws SQLException {
+        Map<String, DataNode> dataNodes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        dataNodeRows.keySet().forEach(each -> dataNodes.put(each.getTableName(), each));
+        Collection<DataNode> result = new HashSet<>();
+        for (List<String> each : Lists.partition(new ArrayList<>(dataNodes.keySet()), BATCH_SIZE)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(MYSQL_TABLES_ROWS_AND_DATA_LENGTH, String.join(",", Collections.nCopies(each.size(), "?"))))) {
+                preparedStatement.setString(1, connection.getCatalog());
+                int parameterIndex = 2;
+                for (String tableName : each) {
+                    preparedStatement.setString(parameterIndex++, tableName);
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        DataNode dataNode = dataNodes.get(resultSet.getString("TABLE_NAME"));
+                        if (null != dataNode && result.add(dataNode)) {
+                            dataNodeRows.get(dataNode).add(resultSet.getBigDecimal(TABLE_ROWS_COLUMN_NAME));
+                            dataNodeRows.get(dataNode).add(resultSet.getBigDecimal(DATA_LENGTH_COLUMN_NAME));
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
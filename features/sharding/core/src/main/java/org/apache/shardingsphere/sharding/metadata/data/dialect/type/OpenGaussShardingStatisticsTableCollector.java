@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
 
+import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingStatisticsTableCollector;
 
@@ -24,7 +25,13 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding statistics table data collector of openGauss.
@@ -33,6 +40,11 @@ public final class OpenGaussShardingStatisticsTableCollector implements DialectS
     
     private static final String OPENGAUSS_TABLE_ROWS_AND_DATA_LENGTH = "SELECT RELTUPLES AS TABLE_ROWS, PG_TABLE_SIZE(?) AS DATA_LENGTH FROM PG_CLASS WHERE RELNAME = ?";
     
+    private static final String OPENGAUSS_TABLES_ROWS_AND_DATA_LENGTH = "SELECT C.RELNAME, C.RELTUPLES AS TABLE_ROWS, PG_TABLE_SIZE(C.OID) AS DATA_LENGTH "
+            + "FROM PG_CLASS C JOIN PG_NAMESPACE N ON C.RELNAMESPACE = N.OID WHERE N.NSPNAME = ? AND C.RELNAME IN (%s)";
+    
+    private static final int BATCH_SIZE = 1000;
+    
     @Override
     public boolean appendRow(final Connection connection, final DataNode dataNode, final List<Object> row) throws SQLException {
         if (!isTableExist(connection, dataNode.getTableName())) {
@@ -52,6 +64,32 @@ public final class OpenGaussShardingStatisticsTableCollector implements DialectS
         return false;
     }
     
+    @Override
+    public Collection<DataNode> appendRows(final Connection connection, final Map<DataNode, List<Object>> dataNodeRows) throws SQLException {
+        Map<String, DataNode> dataNodes = new HashMap<>();
+        dataNodeRows.keySet().forEach(each -> dataNodes.put(each.getTableName(), each));
+        Collection<DataNode> result = new HashSet<>();
+        for (List<String> each : Lists.partition(new ArrayList<>(dataNodes.keySet()), BATCH_SIZE)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(OPENGAUSS_TABLES_ROWS_AND_DATA_LENGTH, String.join(",", Collections.nCopies(each.size(), "?"))))) {
+                preparedStatement.setString(1, connection.getSchema());
+                int parameterIndex = 2;
+                for (String tableName : each) {
+                    preparedStatement.setString(parameterIndex++, tableName);
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        DataNode dataNode = dataNodes.get(resultSet.getString("RELNAME"));
+                        if (null != dataNode && result.add(dataNode)) {
+                            dataNodeRows.get(dataNode).add(resultSet.getBigDecimal(TABLE_ROWS_COLUMN_NAME));
+                            dataNodeRows.get(dataNode).add(resultSet.getBigDecimal(DATA_LENGTH_COLUMN_NAME));
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
     private boolean isTableExist(final Connection connection, final String tableNamePattern) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), tableNamePattern, null)) {
             return resultSet.next();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
 
+import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingStatisticsTableCollector;
 
@@ -25,7 +26,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -37,6 +45,11 @@ public final class PostgreSQLShardingStatisticsTableCollector implements Dialect
     
     private static final String POSTGRESQL_TABLE_DATA_LENGTH = "SELECT PG_RELATION_SIZE(RELID) as DATA_LENGTH FROM PG_STAT_ALL_TABLES T WHERE SCHEMANAME= ? AND RELNAME = ?";
     
+    private static final String POSTGRESQL_TABLES_ROWS_AND_DATA_LENGTH = "SELECT C.RELNAME, C.RELTUPLES AS TABLE_ROWS, PG_RELATION_SIZE(C.OID) AS DATA_LENGTH "
+            + "FROM PG_CLASS C JOIN PG_NAMESPACE N ON C.RELNAMESPACE = N.OID WHERE N.NSPNAME = ? AND C.RELNAME IN (%s)";
+    
+    private static final int BATCH_SIZE = 1000;
+    
     @Override
     public boolean appendRow(final Connection connection, final DataNode dataNode, final List<Object> row) throws SQLException {
         row.add(getRowValue(connection, dataNode, POSTGRESQL_TABLE_ROWS_LENGTH, TABLE_ROWS_COLUMN_NAME).orElse(BigDecimal.ZERO));
@@ -54,6 +67,39 @@ public final class PostgreSQLShardingStatisticsTableCollector implements Dialect
         }
     }
     
+    @Override
+    public Collection<DataNode> appendRows(final Connection connection, final Map<DataNode, List<Object>> dataNodeRows) throws SQLException {
+        Map<String, Map<String, DataNode>> schemaDataNodes = new HashMap<>();
+        dataNodeRows.keySet().forEach(each -> schemaDataNodes.computeIfAbsent(each.getSchemaName(), key -> new HashMap<>()).put(each.getTableName(), each));
+        Collection<DataNode> result = new HashSet<>();
+        for (Entry<String, Map<String, DataNode>> entry : schemaDataNodes.entrySet()) {
+            for (List<String> each : Lists.partition(new ArrayList<>(entry.getValue().keySet()), BATCH_SIZE)) {
+                appendRows(connection, entry.getKey(), each, entry.getValue(), dataNodeRows, result);
+            }
+        }
+        return result;
+    }
+    
+    private void appendRows(final Connection connection, final String schemaName, final List<String> tableNames, final Map<String, DataNode> dataNodes,
+                            final Map<DataNode, List<Object>> dataNodeRows, final Collection<DataNode> appendedDataNodes) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(POSTGRESQL_TABLES_ROWS_AND_DATA_LENGTH, String.join(",", Collections.nCopies(tableNames.size(), "?"))))) {
+            preparedStatement.setString(1, schemaName);
+            int parameterIndex = 2;
+            for (String each : tableNames) {
+                preparedStatement.setString(parameterIndex++, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    DataNode dataNode = dataNodes.get(resultSet.getString("RELNAME"));
+                    if (null != dataNode && appendedDataNodes.add(dataNode)) {
+                        dataNodeRows.get(dataNode).add(resultSet.getBigDecimal(TABLE_ROWS_COLUMN_NAME));
+                        dataNodeRows.get(dataNode).add(resultSet.getBigDecimal(DATA_LENGTH_COLUMN_NAME));
+                    }
+                }
+            }
+        }
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
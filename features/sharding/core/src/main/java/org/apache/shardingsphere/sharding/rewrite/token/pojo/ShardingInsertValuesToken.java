@@ -23,6 +23,10 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValu
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
  * Insert values token for sharding.
  */
@@ -46,18 +50,19 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     }
     
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
+        Map<Collection<DataNode>, Boolean> appendedDataNodes = new IdentityHashMap<>();
         for (InsertValue each : getInsertValues()) {
-            if (isAppend(routeUnit, (ShardingInsertValue) each)) {
+            if (appendedDataNodes.computeIfAbsent(((ShardingInsertValue) each).getDataNodes(), dataNodes -> isAppend(routeUnit, dataNodes))) {
                 stringBuilder.append(each).append(", ");
             }
         }
     }
     
-    private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
-        if (insertValueToken.getDataNodes().isEmpty() || null == routeUnit) {
+    private boolean isAppend(final RouteUnit routeUnit, final Collection<DataNode> dataNodes) {
+        if (dataNodes.isEmpty() || null == routeUnit) {
             return true;
         }
-        for (DataNode each : insertValueToken.getDataNodes()) {
+        for (DataNode each : dataNodes) {
             if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
                 return true;
             }
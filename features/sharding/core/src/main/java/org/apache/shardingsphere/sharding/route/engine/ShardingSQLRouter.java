@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sharding.route.engine;
 
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.CursorAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -26,6 +28,8 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.cache.route.CachedShardingSQLRouter;
+import org.apache.shardingsphere.sharding.cache.route.plan.ShardingRoutePlan;
+import org.apache.shardingsphere.sharding.cache.route.plan.ShardingRoutePlanCache;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
@@ -77,13 +81,40 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
                                                         final RuleMetaData globalRuleMetaData, final ShardingSphereDatabase database, final ShardingRule rule) {
         List<ShardingCondition> shardingConditions;
         if (queryContext.getSqlStatementContext().getSqlStatement() instanceof DMLStatement || queryContext.getSqlStatementContext() instanceof CursorAvailable) {
-            shardingConditions = new ShardingConditionEngine(globalRuleMetaData, database, rule).createShardingConditions(queryContext.getSqlStatementContext(), queryContext.getParameters());
+            shardingConditions = isRoutePlanCacheable(queryContext, rule)
+                    ? loadShardingConditions(queryContext, globalRuleMetaData, database, rule)
+                    : new ShardingConditionEngine(globalRuleMetaData, database, rule).createShardingConditions(queryContext.getSqlStatementContext(), queryContext.getParameters());
         } else {
             shardingConditions = Collections.emptyList();
         }
         return new ShardingConditions(shardingConditions, queryContext.getSqlStatementContext(), rule);
     }
     
+    private boolean isRoutePlanCacheable(final QueryContext queryContext, final ShardingRule rule) {
+        if (!rule.isShardingCacheEnabled() || !(queryContext.getSqlStatementContext().getSqlStatement() instanceof DMLStatement)
+                || queryContext.getSql().length() > rule.getShardingCache().getConfiguration().getAllowedMaxSqlLength()) {
+            return false;
+        }
+        if (queryContext.getSqlStatementContext() instanceof InsertStatementContext) {
+            InsertStatementContext insertStatementContext = (InsertStatementContext) queryContext.getSqlStatementContext();
+            return null == insertStatementContext.getInsertSelectContext() && !insertStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+        }
+        return true;
+    }
+    
+    private List<ShardingCondition> loadShardingConditions(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ShardingSphereDatabase database, final ShardingRule rule) {
+        ShardingRoutePlanCache routePlanCache = rule.getShardingCache().getRoutePlanCache();
+        Optional<ShardingRoutePlan> routePlan = routePlanCache.get(queryContext.getSql());
+        if (routePlan.isPresent() && routePlan.get().isBindable(queryContext.getParameters())) {
+            return routePlan.get().bind(queryContext.getParameters());
+        }
+        List<ShardingCondition> result = new ShardingConditionEngine(globalRuleMetaData, database, rule).createShardingConditions(queryContext.getSqlStatementContext(), queryContext.getParameters());
+        if (!routePlan.isPresent()) {
+            ShardingRoutePlan.create(result, queryContext.getParameters()).ifPresent(optional -> routePlanCache.put(queryContext.getSql(), optional));
+        }
+        return result;
+    }
+    
     @Override
     public void decorateRouteContext(final RouteContext routeContext, final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingRule rule,
                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
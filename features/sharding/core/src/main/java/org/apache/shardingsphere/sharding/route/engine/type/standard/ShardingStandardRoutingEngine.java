@@ -45,8 +45,11 @@ import org.apache.shardingsphere.sharding.rule.TableRule;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -137,17 +140,40 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final TableRule tableRule,
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new LinkedHashSet<>();
+        Map<List<List<Object>>, Collection<DataNode>> routedDataNodes = new HashMap<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(tableRule,
-                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
-                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+            List<ShardingConditionValue> databaseShardingValues = getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each);
+            List<ShardingConditionValue> tableShardingValues = getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each);
+            Optional<List<List<Object>>> routedDataNodesKey = createRoutedDataNodesKey(databaseShardingValues, tableShardingValues);
+            Collection<DataNode> dataNodes = routedDataNodesKey.isPresent()
+                    ? routedDataNodes.computeIfAbsent(routedDataNodesKey.get(),
+                            unused -> route0(tableRule, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues))
+                    : route0(tableRule, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues);
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
+    private Optional<List<List<Object>>> createRoutedDataNodesKey(final List<ShardingConditionValue> databaseShardingValues, final List<ShardingConditionValue> tableShardingValues) {
+        List<List<Object>> result = new ArrayList<>(databaseShardingValues.size() + tableShardingValues.size() + 1);
+        for (ShardingConditionValue each : databaseShardingValues) {
+            if (!(each instanceof ListShardingConditionValue)) {
+                return Optional.empty();
+            }
+            result.add(Arrays.asList(each.getColumnName(), each.getTableName(), ((ListShardingConditionValue<?>) each).getValues()));
+        }
+        result.add(Collections.emptyList());
+        for (ShardingConditionValue each : tableShardingValues) {
+            if (!(each instanceof ListShardingConditionValue)) {
+                return Optional.empty();
+            }
+            result.add(Arrays.asList(each.getColumnName(), each.getTableName(), ((ListShardingConditionValue<?>) each).getValues()));
+        }
+        return Optional.of(result);
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final TableRule tableRule,
                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         return shardingConditions.getConditions().isEmpty()
@@ -165,6 +165,37 @@ class IntervalShardingAlgorithmTest {
                 new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-07-02 00:00:01")), is("t_order_20210701"));
     }
     
+    @Test
+    void assertPreciseDoShardingByMonthsWithMonthEndLower() {
+        IntervalShardingAlgorithm algorithm = createAlgorithm("yyyy-MM-dd HH:mm:ss", "2021-01-31 00:00:00", "2021-12-31 00:00:00", "yyyyMMdd", 1, "Months");
+        Collection<String> availableTargetNames = new LinkedList<>();
+        availableTargetNames.add("t_order_20210131");
+        for (int i = 2; i <= 12; i++) {
+            availableTargetNames.add(String.format("t_order_2021%02d28", i));
+        }
+        assertThat(algorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-04-29 00:00:01")), is("t_order_20210428"));
+        assertThat(algorithm.doSharding(availableTargetNames, createShardingValue("2021-02-27 00:00:00", "2021-04-30 00:00:00")).size(), is(4));
+    }
+    
+    @Test
+    void assertPreciseDoShardingByDayAfterAvailableTargetNamesChanged() {
+        assertThat(shardingAlgorithmByDay.doSharding(availableTablesForDayDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-07-01 00:00:01")), is("t_order_20210701"));
+        availableTablesForDayDataSources.remove("t_order_20210701");
+        assertNull(shardingAlgorithmByDay.doSharding(availableTablesForDayDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-07-01 00:00:01")));
+    }
+    
+    @Test
+    void assertPreciseDoShardingByDayAfterAvailableTargetNamesReplacedWithSameSize() {
+        assertThat(shardingAlgorithmByDay.doSharding(availableTablesForDayDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-07-01 00:00:01")), is("t_order_20210701"));
+        availableTablesForDayDataSources.remove("t_order_20210701");
+        availableTablesForDayDataSources.add("t_order_history_20210701");
+        assertThat(shardingAlgorithmByDay.doSharding(availableTablesForDayDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-07-01 00:00:01")), is("t_order_history_20210701"));
+    }
+    
     @Test
     void assertFormat() {
         String inputFormat = "yyyy-MM-dd HH:mm:ss.SSS";
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class InlineShardingExpressionEvaluatorTest {
+    
+    @Test
+    void assertEvaluateWithMod() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${order_id % 4}");
+        assertThat(evaluator.evaluate("order_id", 5), is(Optional.of("t_order_1")));
+        assertThat(evaluator.evaluate("order_id", -5L), is(Optional.of("t_order_-1")));
+        assertThat(evaluator.evaluate("order_id", (short) 6), is(Optional.of("t_order_2")));
+    }
+    
+    @Test
+    void assertEvaluateWithAbs() {
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${(order_id % 4).abs()}").evaluate("order_id", -5), is(Optional.of("t_order_1")));
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${Math.abs(order_id.hashCode() % 4)}").evaluate("order_id", "abc"), is(Optional.of("t_order_" + Math.abs("abc".hashCode() % 4))));
+    }
+    
+    @Test
+    void assertEvaluateWithIntDiv() {
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_id.intdiv(2) % 2}").evaluate("order_id", 7L), is(Optional.of("t_order_1")));
+    }
+    
+    @Test
+    void assertEvaluateWithSubstring() {
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_no.substring(0, 2)}").evaluate("order_no", "abcd"), is(Optional.of("t_order_ab")));
+        assertThat(new InlineShardingExpressionEvaluator("t_order_${order_no[1..2]}").evaluate("order_no", "abcd"), is(Optional.of("t_order_bc")));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${order_id % 4}");
+        assertFalse(evaluator.evaluate("order_id", new BigInteger("5")).isPresent());
+        assertFalse(evaluator.evaluate("user_id", 5).isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedExpression() {
+        assertFalse(new InlineShardingExpressionEvaluator("t_${order_id % 2}_${order_id % 4}").evaluate("order_id", 1).isPresent());
+        assertFalse(new InlineShardingExpressionEvaluator("t_order_${order_id.toString().length()}").evaluate("order_id", 1).isPresent());
+    }
+}
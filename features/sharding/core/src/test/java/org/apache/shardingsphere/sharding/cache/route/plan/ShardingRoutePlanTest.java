@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.cache.route.plan;
+
+import org.apache.shardingsphere.sharding.route.engine.condition.AlwaysFalseShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingRoutePlanTest {
+    
+    @Test
+    void assertCreateAndBind() {
+        List<Object> params = Arrays.asList("foo", 1, 2);
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.setStartIndex(10);
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", new ArrayList<>(Arrays.asList(params.get(1), params.get(2))), Arrays.asList(1, 2)));
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("user_id", "t_order", Collections.singletonList(null)));
+        Optional<ShardingRoutePlan> routePlan = ShardingRoutePlan.create(Collections.singletonList(shardingCondition), params);
+        assertTrue(routePlan.isPresent());
+        assertFalse(routePlan.get().isBindable(Arrays.asList("bar", 3)));
+        List<ShardingCondition> actual = routePlan.get().bind(Arrays.asList("bar", 3, 4));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getStartIndex(), is(10));
+        ShardingConditionValue actualOrderIdValue = actual.get(0).getValues().get(0);
+        assertThat(actualOrderIdValue.getColumnName(), is("order_id"));
+        assertThat(((ListShardingConditionValue<?>) actualOrderIdValue).getValues(), is(Arrays.asList(3, 4)));
+        assertThat(actualOrderIdValue.getParameterMarkerIndexes(), is(Arrays.asList(1, 2)));
+        assertThat(((ListShardingConditionValue<?>) actual.get(0).getValues().get(1)).getValues(), is(Collections.singletonList(null)));
+    }
+    
+    @Test
+    void assertCreateWithLiteralValue() {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", Collections.singletonList(1)));
+        assertFalse(ShardingRoutePlan.create(Collections.singletonList(shardingCondition), Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithMergedValues() {
+        List<Object> params = Arrays.asList(1, 1);
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", Collections.singletonList(params.get(0)), Arrays.asList(0, 1)));
+        assertFalse(ShardingRoutePlan.create(Collections.singletonList(shardingCondition), params).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithAlwaysFalseCondition() {
+        assertFalse(ShardingRoutePlan.create(Collections.singletonList(new AlwaysFalseShardingCondition()), Collections.emptyList()).isPresent());
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByHashTableTest {
+    
+    @Test
+    void assertFindOrAdd() {
+        GroupByHashTable hashTable = new GroupByHashTable();
+        Object[] groupValues = new Object[2];
+        for (int i = 0; i < 10000; i++) {
+            groupValues[0] = i % 3000;
+            groupValues[1] = null;
+            assertThat(hashTable.findOrAdd(groupValues), is(i % 3000));
+        }
+        assertThat(hashTable.size(), is(3000));
+        assertThat(hashTable.getGroupValues(2999), is(new Object[]{2999, null}));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+class HyperLogLogTest {
+    
+    @Test
+    void assertEstimateSmallCardinality() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (int i = 0; i < 3000; i++) {
+            hyperLogLog.add(i % 1000);
+        }
+        assertThat((double) hyperLogLog.estimate(), closeTo(1000D, 30D));
+    }
+    
+    @Test
+    void assertEstimateLargeCardinality() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (int i = 0; i < 200000; i++) {
+            hyperLogLog.add("user_" + i);
+        }
+        assertThat((double) hyperLogLog.estimate(), closeTo(200000D, 6000D));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableDistinctValuesTest {
+    
+    @Test
+    void assertForEachWithoutSpill() {
+        SpillableDistinctValues values = new DistinctAggregationContext(DistinctAggregationOption.DEFAULT).createDistinctValues();
+        for (int i = 0; i < 100; i++) {
+            values.add(i % 10, i);
+        }
+        assertFalse(values.isSpilled());
+        Map<Comparable<?>, Comparable<?>> actual = new LinkedHashMap<>();
+        values.forEach(actual::put);
+        assertThat(actual.size(), is(10));
+        assertThat(actual.get(3), is(3));
+    }
+    
+    @Test
+    void assertForEachWithSpill() {
+        SpillableDistinctValues values = new DistinctAggregationContext(new DistinctAggregationOption(16, false)).createDistinctValues();
+        for (int i = 0; i < 1000; i++) {
+            values.add((long) (i * 7 % 300), i);
+        }
+        assertTrue(values.isSpilled());
+        Map<Comparable<?>, Comparable<?>> actual = new LinkedHashMap<>();
+        values.forEach((value, attachment) -> assertThat(actual.put(value, attachment), is((Comparable<?>) null)));
+        assertThat(actual.size(), is(300));
+        assertThat(actual.get(7L), is(1));
+        assertThat(actual.get(1L), is(43));
+        assertFalse(values.isSpilled());
+    }
+    
+    @Test
+    void assertForEachWithNumericallyEqualDecimals() {
+        SpillableDistinctValues values = new DistinctAggregationContext(new DistinctAggregationOption(2, false)).createDistinctValues();
+        values.add(new BigDecimal("1.0"), 1);
+        values.add(new BigDecimal("2"), 2);
+        values.add(new BigDecimal("1.00"), 3);
+        values.add(new BigDecimal("2.0"), 4);
+        assertTrue(values.isSpilled());
+        List<Comparable<?>> actual = new LinkedList<>();
+        values.forEach((value, attachment) -> actual.add(attachment));
+        assertThat(actual, is(Arrays.<Comparable<?>>asList(1, 2)));
+    }
+    
+    @Test
+    void assertSpillThresholdSharedByAllValues() {
+        DistinctAggregationContext context = new DistinctAggregationContext(new DistinctAggregationOption(10, false));
+        SpillableDistinctValues smallValues = context.createDistinctValues();
+        SpillableDistinctValues largeValues = context.createDistinctValues();
+        for (int i = 0; i < 3; i++) {
+            smallValues.add(i, null);
+        }
+        for (int i = 0; i < 6; i++) {
+            largeValues.add(i, null);
+        }
+        assertFalse(smallValues.isSpilled());
+        assertFalse(largeValues.isSpilled());
+        largeValues.add(6, null);
+        assertFalse(smallValues.isSpilled());
+        assertTrue(largeValues.isSpilled());
+    }
+    
+    @Test
+    void assertCloseContextRemovesRunFiles() throws IOException {
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        int originalRunFileCount = countRunFiles(tempDir);
+        DistinctAggregationContext context = new DistinctAggregationContext(new DistinctAggregationOption(4, false));
+        SpillableDistinctValues values = context.createDistinctValues();
+        for (int i = 0; i < 20; i++) {
+            values.add(i, null);
+        }
+        assertTrue(values.isSpilled());
+        context.close();
+        assertFalse(values.isSpilled());
+        assertThat(countRunFiles(tempDir), is(originalRunFileCount));
+    }
+    
+    private int countRunFiles(final Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return (int) files.filter(each -> each.getFileName().toString().startsWith("shardingsphere-distinct-")).count();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SumArrayTest {
+    
+    @Test
+    void assertAddIntegralValues() {
+        SumArray sumArray = new SumArray();
+        sumArray.add(0, null);
+        sumArray.add(0, 1);
+        sumArray.add(0, 10L);
+        sumArray.add(100, (short) 2);
+        assertThat(sumArray.get(0), is(new BigDecimal("11")));
+        assertThat(sumArray.get(100), is(new BigDecimal("2")));
+        assertNull(sumArray.get(1));
+    }
+    
+    @Test
+    void assertAddWithOverflow() {
+        SumArray sumArray = new SumArray();
+        sumArray.add(0, Long.MAX_VALUE);
+        sumArray.add(0, 1);
+        assertThat(sumArray.get(0), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+    
+    @Test
+    void assertAddDecimalValues() {
+        SumArray sumArray = new SumArray();
+        sumArray.add(0, 1);
+        sumArray.add(0, new BigDecimal("1.50"));
+        sumArray.add(0, 2);
+        assertThat(sumArray.get(0), is(new BigDecimal("4.50")));
+    }
+}
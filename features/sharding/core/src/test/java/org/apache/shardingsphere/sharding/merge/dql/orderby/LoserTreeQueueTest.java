@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoserTreeQueueTest {
+    
+    @Test
+    void assertPollInOrder() {
+        Queue<Integer> queue = new LoserTreeQueue<>(5);
+        queue.addAll(Arrays.asList(3, 1, 4, 1, 5));
+        assertThat(queue.size(), is(5));
+        assertThat(queue.peek(), is(1));
+        assertThat(queue.poll(), is(1));
+        assertThat(queue.poll(), is(1));
+        assertThat(queue.poll(), is(3));
+        assertThat(queue.poll(), is(4));
+        assertThat(queue.poll(), is(5));
+        assertTrue(queue.isEmpty());
+        assertThat(queue.poll(), nullValue());
+        assertThat(queue.peek(), nullValue());
+    }
+    
+    @Test
+    void assertOfferWhenFull() {
+        Queue<Integer> queue = new LoserTreeQueue<>(1);
+        assertTrue(queue.offer(1));
+        assertFalse(queue.offer(2));
+    }
+    
+    @Test
+    void assertOfferAfterPoll() {
+        Queue<Integer> queue = new LoserTreeQueue<>(3);
+        queue.addAll(Arrays.asList(2, 6, 4));
+        assertThat(queue.poll(), is(2));
+        assertTrue(queue.offer(5));
+        assertThat(queue.poll(), is(4));
+        assertThat(queue.poll(), is(5));
+        assertTrue(queue.offer(1));
+        assertThat(queue.peek(), is(1));
+        assertThat(queue.size(), is(2));
+    }
+    
+    @Test
+    void assertIterator() {
+        Queue<Integer> queue = new LoserTreeQueue<>(3);
+        queue.addAll(Arrays.asList(2, 3));
+        List<Integer> actual = new ArrayList<>(2);
+        Iterator<Integer> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            actual.add(iterator.next());
+        }
+        assertThat(actual, is(Arrays.asList(2, 3)));
+    }
+    
+    @Test
+    void assertKWayMerge() {
+        Random random = new Random(7L);
+        List<LinkedList<Integer>> sources = new ArrayList<>(37);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 37; i++) {
+            LinkedList<Integer> source = new LinkedList<>();
+            for (int j = random.nextInt(20); j > 0; j--) {
+                source.add(random.nextInt(100));
+            }
+            Collections.sort(source);
+            expected.addAll(source);
+            sources.add(source);
+        }
+        Collections.sort(expected);
+        Queue<MergeSource> queue = new LoserTreeQueue<>(sources.size());
+        for (LinkedList<Integer> each : sources) {
+            if (!each.isEmpty()) {
+                queue.offer(new MergeSource(each));
+            }
+        }
+        List<Integer> actual = new ArrayList<>(expected.size());
+        while (!queue.isEmpty()) {
+            MergeSource first = queue.poll();
+            actual.add(first.values.poll());
+            if (!first.values.isEmpty()) {
+                queue.offer(first);
+            }
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    private static final class MergeSource implements Comparable<MergeSource> {
+        
+        private final LinkedList<Integer> values;
+        
+        MergeSource(final LinkedList<Integer> values) {
+            this.values = values;
+        }
+        
+        @Override
+        public int compareTo(final MergeSource other) {
+            return values.peek().compareTo(other.values.peek());
+        }
+    }
+}
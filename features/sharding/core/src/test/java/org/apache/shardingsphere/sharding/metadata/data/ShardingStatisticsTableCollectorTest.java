@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardingStatisticsTableCollectorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertCollectWithoutShardingRule() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getProtocolType()).thenReturn(databaseType);
+        when(database.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.empty());
+        assertFalse(new ShardingStatisticsTableCollector().collect("foo_db", mock(ShardingSphereTable.class), Collections.singletonMap("foo_db", database)).isPresent());
+    }
+    
+    @Test
+    void assertCollect() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("t_order_0");
+        when(resultSet.getBigDecimal("TABLE_ROWS")).thenReturn(new BigDecimal("10"));
+        when(resultSet.getBigDecimal("DATA_LENGTH")).thenReturn(new BigDecimal("100"));
+        Connection connection0 = mockConnection(resultSet);
+        Connection connection1 = mockConnection(mock(ResultSet.class));
+        DataSource dataSource0 = mockDataSource(connection0);
+        DataSource dataSource1 = mockDataSource(connection1);
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit(dataSource0));
+        storageUnits.put("ds_1", mockStorageUnit(dataSource1));
+        ShardingSphereDatabase database = mockDatabase(storageUnits);
+        Optional<ShardingSphereTableData> actual = new ShardingStatisticsTableCollector().collect("foo_db", mock(ShardingSphereTable.class), Collections.singletonMap("foo_db", database));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRows().size(), is(3));
+        Iterator<ShardingSphereRowData> rows = actual.get().getRows().iterator();
+        assertThat(rows.next().getRows(), is(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("10"), new BigDecimal("100"))));
+        assertThat(rows.next().getRows(), is(Arrays.asList(2, "foo_db", "t_order", "ds_0", "t_order_1", BigDecimal.ZERO, BigDecimal.ZERO)));
+        assertThat(rows.next().getRows(), is(Arrays.asList(3, "foo_db", "t_order", "ds_1", "t_order_0", BigDecimal.ZERO, BigDecimal.ZERO)));
+        verify(dataSource0).getConnection();
+        verify(dataSource1).getConnection();
+        verify(connection0, times(1)).prepareStatement(anyString());
+        verify(connection1, times(1)).prepareStatement(anyString());
+    }
+    
+    private Connection mockConnection(final ResultSet resultSet) throws SQLException {
+        Connection result = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(result.prepareStatement(anyString())).thenReturn(preparedStatement);
+        return result;
+    }
+    
+    private DataSource mockDataSource(final Connection connection) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    private StorageUnit mockStorageUnit(final DataSource dataSource) {
+        StorageUnit result = mock(StorageUnit.class);
+        when(result.getStorageType()).thenReturn(databaseType);
+        when(result.getDataSource()).thenReturn(dataSource);
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final Map<String, StorageUnit> storageUnits) {
+        TableRule tableRule = mock(TableRule.class);
+        when(tableRule.getLogicTable()).thenReturn("t_order");
+        when(tableRule.getActualDataNodes()).thenReturn(Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_0.t_order_1"), new DataNode("ds_1.t_order_0")));
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getTableRules()).thenReturn(Collections.singletonMap("t_order", tableRule));
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getProtocolType()).thenReturn(databaseType);
+        when(result.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(shardingRule));
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(storageUnits);
+        return result;
+    }
+}
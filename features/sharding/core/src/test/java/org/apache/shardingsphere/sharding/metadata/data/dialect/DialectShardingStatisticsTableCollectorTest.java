@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class DialectShardingStatisticsTableCollectorTest {
+    
+    @Test
+    void assertAppendRowsWithAppendRow() throws SQLException {
+        Connection connection = mock(Connection.class);
+        DataNode appendedDataNode = new DataNode("ds_0.t_order_0");
+        DataNode notAppendedDataNode = new DataNode("ds_0.t_order_1");
+        Map<DataNode, List<Object>> dataNodeRows = new LinkedHashMap<>(2, 1F);
+        dataNodeRows.put(appendedDataNode, new LinkedList<>());
+        dataNodeRows.put(notAppendedDataNode, new LinkedList<>());
+        DialectShardingStatisticsTableCollector collector = mock(DialectShardingStatisticsTableCollector.class, CALLS_REAL_METHODS);
+        doReturn(true).when(collector).appendRow(connection, appendedDataNode, dataNodeRows.get(appendedDataNode));
+        doReturn(false).when(collector).appendRow(connection, notAppendedDataNode, dataNodeRows.get(notAppendedDataNode));
+        assertThat(collector.appendRows(connection, dataNodeRows), is(Collections.singletonList(appendedDataNode)));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLShardingStatisticsTableCollectorTest {
+    
+    @Test
+    void assertAppendRowsInChunks() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        Map<DataNode, List<Object>> dataNodeRows = new LinkedHashMap<>(1001, 1F);
+        for (int i = 0; i < 1001; i++) {
+            dataNodeRows.put(new DataNode("ds_0.t_order_" + i), new LinkedList<>());
+        }
+        assertTrue(new MySQLShardingStatisticsTableCollector().appendRows(connection, dataNodeRows).isEmpty());
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(connection, times(2)).prepareStatement(sqlCaptor.capture());
+        assertThat(countPlaceholders(sqlCaptor.getAllValues().get(0)), is(1001));
+        assertThat(countPlaceholders(sqlCaptor.getAllValues().get(1)), is(2));
+        assertTrue(dataNodeRows.values().stream().allMatch(List::isEmpty));
+    }
+    
+    private int countPlaceholders(final String sql) {
+        return sql.length() - sql.replace("?", "").length();
+    }
+    
+    @Test
+    void assertAppendRows() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("T_ORDER_0");
+        when(resultSet.getBigDecimal("TABLE_ROWS")).thenReturn(new BigDecimal("10"));
+        when(resultSet.getBigDecimal("DATA_LENGTH")).thenReturn(new BigDecimal("100"));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        DataNode dataNode = new DataNode("ds_0.t_order_0");
+        Map<DataNode, List<Object>> dataNodeRows = new LinkedHashMap<>(2, 1F);
+        dataNodeRows.put(dataNode, new LinkedList<>());
+        dataNodeRows.put(new DataNode("ds_0.t_order_1"), new LinkedList<>());
+        assertThat(new MySQLShardingStatisticsTableCollector().appendRows(connection, dataNodeRows), is(Collections.singleton(dataNode)));
+        assertThat(dataNodeRows.get(dataNode), is(Arrays.asList(new BigDecimal("10"), new BigDecimal("100"))));
+        assertTrue(dataNodeRows.get(new DataNode("ds_0.t_order_1")).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLShardingStatisticsTableCollectorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
+    
+    @Test
+    void assertAppendRowsWithoutZeroFill() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("RELNAME")).thenReturn("t_order_0");
+        when(resultSet.getBigDecimal("TABLE_ROWS")).thenReturn(new BigDecimal("10"));
+        when(resultSet.getBigDecimal("DATA_LENGTH")).thenReturn(new BigDecimal("100"));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        DataNode appendedDataNode = new DataNode("foo_db", databaseType, "ds_0.public.t_order_0");
+        DataNode notAppendedDataNode = new DataNode("foo_db", databaseType, "ds_0.public.t_order_1");
+        Map<DataNode, List<Object>> dataNodeRows = new LinkedHashMap<>(2, 1F);
+        dataNodeRows.put(appendedDataNode, new LinkedList<>());
+        dataNodeRows.put(notAppendedDataNode, new LinkedList<>());
+        assertThat(new PostgreSQLShardingStatisticsTableCollector().appendRows(connection, dataNodeRows), is(Collections.singleton(appendedDataNode)));
+        verify(preparedStatement).setString(1, "public");
+        assertThat(dataNodeRows.get(appendedDataNode), is(Arrays.asList(new BigDecimal("10"), new BigDecimal("100"))));
+        assertTrue(dataNodeRows.get(notAppendedDataNode).isEmpty());
+    }
+}
@@ -54,6 +54,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Thread type of worker group to execute SQL, PLATFORM or VIRTUAL.
+     * VIRTUAL uses virtual threads on JDK 21 and later, and falls back to bounded work-stealing pool on earlier JDK.
+     */
+    KERNEL_EXECUTOR_THREAD_TYPE("kernel-executor-thread-type", ExecutorThreadType.PLATFORM.name(), ExecutorThreadType.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -64,6 +70,28 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Minimum count of query results to merge order by stream with loser tree instead of priority queue.
+     * The default value is 32, a value less than or equal to 0 means never use loser tree.
+     */
+    LOSER_TREE_MERGE_THRESHOLD("loser-tree-merge-threshold", String.valueOf(32), int.class, false),
+    
+    /**
+     * Maximum count of distinct values kept in memory for each distinct aggregation, the exceeded values will be spilled to sorted run files.
+     * The default value is 1000000, a value less than or equal to 0 means never spill to disk.
+     */
+    DISTINCT_AGGREGATION_SPILL_THRESHOLD("distinct-aggregation-spill-threshold", String.valueOf(1000000), int.class, false),
+    
+    /**
+     * Whether estimate COUNT(DISTINCT) with HyperLogLog instead of counting exactly.
+     */
+    APPROXIMATE_DISTINCT_COUNT_ENABLED("approximate-distinct-count-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether parse simple statements with dialect fast path parser before the full SQL parser.
+     */
+    SQL_FAST_PATH_PARSER_ENABLED("sql-fast-path-parser-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -90,6 +118,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Whether parameterize literals of text protocol SQL for ShardingSphere-Proxy, SQL differs only by literals shares the same cached SQL statement.
+     */
+    PROXY_FRONTEND_SQL_LITERAL_PARAMETERIZE_ENABLED("proxy-frontend-sql-literal-parameterize-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * SQL file parsed at startup of ShardingSphere-Proxy to warm up SQL parser, one SQL per line.
+     */
+    PROXY_PARSER_WARM_UP_SQL_FILE("proxy-parser-warm-up-sql-file", "", String.class, true),
+    
+    /**
+     * Max rows of one insert statement which bulk loaded rows are flushed by for ShardingSphere-Proxy.
+     */
+    PROXY_BULK_LOAD_BATCH_SIZE("proxy-bulk-load-batch-size", "1000", int.class, false),
+    
     /**
      * Proxy default start port.
      */
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.config.props;
+
+/**
+ * Executor thread type.
+ */
+public enum ExecutorThreadType {
+    
+    /**
+     * Platform threads pooled by fixed or cached thread pool.
+     */
+    PLATFORM,
+    
+    /**
+     * Virtual threads on JDK 21 and later, bounded work-stealing pool on earlier JDK.
+     */
+    VIRTUAL;
+    
+    /**
+     * Get executor thread type from configuration properties.
+     *
+     * @param props configuration properties
+     * @return executor thread type
+     */
+    public static ExecutorThreadType valueFrom(final ConfigurationProperties props) {
+        return props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_THREAD_TYPE);
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecuteResult;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -30,8 +32,10 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Executor engine.
@@ -41,8 +45,11 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private final int maxConcurrencyPerQuery;
+    
+    private ExecutorEngine(final int executorSize, final ExecutorThreadType threadType, final int maxConcurrencyPerQuery) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, threadType);
+        this.maxConcurrencyPerQuery = ExecutorThreadType.VIRTUAL == threadType ? maxConcurrencyPerQuery : 0;
     }
     
     /**
@@ -52,7 +59,21 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, ExecutorThreadType.PLATFORM, 0);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread type.
+     * 
+     * <p>For virtual thread type, max concurrency per query limits the count of execution groups running concurrently for each query, 0 means unlimited.</p>
+     *
+     * @param executorSize executor size
+     * @param threadType executor thread type
+     * @param maxConcurrencyPerQuery max concurrency per query, usually max connections size per query
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final ExecutorThreadType threadType, final int maxConcurrencyPerQuery) {
+        return new ExecutorEngine(executorSize, threadType, maxConcurrencyPerQuery);
     }
     
     /**
@@ -72,10 +93,41 @@ public final class ExecutorEngine implements AutoCloseable {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
+        if (serial) {
+            return serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+        }
+        return maxConcurrencyPerQuery > 0
+                ? boundedParallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute and iterate results in completion order.
+     * 
+     * <p>Results of execution groups can be consumed as soon as their execution finished, instead of waiting for the slowest execution group.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param inputCanceller canceller for inputs of running execution groups when the execute result is closed
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result in completion order
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> CompletionOrderExecuteResult<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                                          final ExecutorCallback<I, O> callback, final boolean serial, final Consumer<I> inputCanceller) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return new CompletionOrderExecuteResult<>(Collections.emptyList());
+        }
+        if (serial) {
+            return new CompletionOrderExecuteResult<>(serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback));
+        }
+        return new CompletionOrderExecuteResult<>(
+                executorServiceManager.getExecutorService(), executionGroupContext.getInputGroups().iterator(), firstCallback, callback, maxConcurrencyPerQuery, inputCanceller);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -91,6 +143,29 @@ public final class ExecutorEngine implements AutoCloseable {
         return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
+    private <I, O> List<O> boundedParallelExecute(final Iterator<ExecutionGroup<I>> executionGroups,
+                                                  final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        Queue<Future<Collection<O>>> restResultFutures = new LinkedList<>();
+        while (executionGroups.hasNext() && restResultFutures.size() < maxConcurrencyPerQuery) {
+            restResultFutures.add(asyncExecute(executionGroups.next(), callback));
+        }
+        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        try {
+            while (!restResultFutures.isEmpty()) {
+                result.addAll(restResultFutures.poll().get());
+                if (executionGroups.hasNext()) {
+                    restResultFutures.add(asyncExecute(executionGroups.next(), callback));
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            return throwException(ex);
+        }
+        return result;
+    }
+    
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true);
     }
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Execute result in completion order.
+ * 
+ * <p>Results of the first execution group are executed in the caller thread and come first, results of other execution groups are fetched lazily as soon as their execution finished.
+ * {@link #iterator()} and {@link #get(int)} only wait for the results they need, {@link #size()} waits for all execution groups to finish
+ * and reports the count of results really returned, which may be fewer than the inputs if callbacks skip some of them.</p>
+ * 
+ * <p>{@link #close()} cancels the execution groups not started yet, cancels the inputs of the running ones, waits for them and closes every completed result.
+ * The result is consumed by one thread only.</p>
+ *
+ * @param <O> type of return value
+ */
+public final class CompletionOrderExecuteResult<O> extends AbstractList<O> implements AutoCloseable {
+    
+    private final Object lock = new Object();
+    
+    private final ExecutorService executorService;
+    
+    private final int maxConcurrency;
+    
+    private final Queue<GroupTask> pendingTasks = new LinkedList<>();
+    
+    private final Collection<GroupTask> runningTasks = new LinkedList<>();
+    
+    private final Queue<GroupTask> completedTasks = new LinkedList<>();
+    
+    private final List<O> fetchedResults = new ArrayList<>();
+    
+    private boolean closed;
+    
+    public CompletionOrderExecuteResult(final Collection<O> completedResults) {
+        executorService = null;
+        maxConcurrency = 0;
+        fetchedResults.addAll(completedResults);
+    }
+    
+    public <I> CompletionOrderExecuteResult(final ExecutorService executorService, final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback,
+                                            final ExecutorCallback<I, O> callback, final int maxConcurrency, final Consumer<I> inputCanceller) throws SQLException {
+        this.executorService = executorService;
+        this.maxConcurrency = maxConcurrency;
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            pendingTasks.add(new GroupTask(() -> callback.execute(each.getInputs(), false), () -> each.getInputs().forEach(inputCanceller)));
+        }
+        synchronized (lock) {
+            submitPendingTasks();
+        }
+        try {
+            fetchedResults.addAll((null == firstCallback ? callback : firstCallback).execute(firstInputs.getInputs(), true));
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private void submitPendingTasks() {
+        while (!closed && !pendingTasks.isEmpty() && (maxConcurrency <= 0 || runningTasks.size() < maxConcurrency)) {
+            GroupTask task = pendingTasks.poll();
+            runningTasks.add(task);
+            task.future = executorService.submit(task);
+        }
+    }
+    
+    @Override
+    public O get(final int index) {
+        if (!fetch(index)) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, fetched size: %d", index, fetchedResults.size()));
+        }
+        return fetchedResults.get(index);
+    }
+    
+    @Override
+    public int size() {
+        fetch(Integer.MAX_VALUE);
+        return fetchedResults.size();
+    }
+    
+    @Override
+    public Iterator<O> iterator() {
+        return new CompletionOrderIterator();
+    }
+    
+    private boolean fetch(final int index) {
+        while (fetchedResults.size() <= index) {
+            GroupTask completedTask = takeCompletedTask();
+            if (null == completedTask) {
+                return false;
+            }
+            if (null != completedTask.failure) {
+                close();
+                if (completedTask.failure instanceof SQLException) {
+                    throw new SQLWrapperException((SQLException) completedTask.failure);
+                }
+                throw new UnknownSQLException(completedTask.failure);
+            }
+            fetchedResults.addAll(completedTask.results);
+        }
+        return true;
+    }
+    
+    private GroupTask takeCompletedTask() {
+        synchronized (lock) {
+            try {
+                while (!closed && completedTasks.isEmpty() && !runningTasks.isEmpty()) {
+                    lock.wait();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+            return closed ? null : completedTasks.poll();
+        }
+    }
+    
+    /**
+     * Cancel the execution groups not finished yet and close all completed results.
+     */
+    @Override
+    public void close() {
+        Collection<GroupTask> startedTasks = new LinkedList<>();
+        synchronized (lock) {
+            closed = true;
+            pendingTasks.clear();
+            for (Iterator<GroupTask> iterator = runningTasks.iterator(); iterator.hasNext();) {
+                GroupTask each = iterator.next();
+                if (each.started) {
+                    startedTasks.add(each);
+                } else {
+                    each.future.cancel(false);
+                    iterator.remove();
+                }
+            }
+            for (GroupTask each : completedTasks) {
+                closeResults(each.results);
+            }
+            completedTasks.clear();
+        }
+        closeResults(fetchedResults);
+        startedTasks.forEach(each -> each.inputCanceller.run());
+        awaitStartedTasks();
+    }
+    
+    private void awaitStartedTasks() {
+        synchronized (lock) {
+            try {
+                while (!runningTasks.isEmpty()) {
+                    lock.wait();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void closeResults(final Collection<O> results) {
+        if (null == results) {
+            return;
+        }
+        for (O each : results) {
+            if (each instanceof AutoCloseable) {
+                QuietlyCloser.close((AutoCloseable) each);
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class GroupTask implements Runnable {
+        
+        private final Callable<Collection<O>> execution;
+        
+        private final Runnable inputCanceller;
+        
+        private Future<?> future;
+        
+        private boolean started;
+        
+        private Collection<O> results = Collections.emptyList();
+        
+        private Exception failure;
+        
+        @Override
+        public void run() {
+            synchronized (lock) {
+                if (closed) {
+                    return;
+                }
+                started = true;
+            }
+            try {
+                results = execution.call();
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                failure = ex;
+            }
+            synchronized (lock) {
+                runningTasks.remove(this);
+                if (closed) {
+                    closeResults(results);
+                } else {
+                    completedTasks.add(this);
+                    submitPendingTasks();
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+    
+    private final class CompletionOrderIterator implements Iterator<O> {
+        
+        private int cursor;
+        
+        @Override
+        public boolean hasNext() {
+            return fetch(cursor);
+        }
+        
+        @Override
+        public O next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return fetchedResults.get(cursor++);
+        }
+    }
+}
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -35,21 +38,48 @@ public final class ExecutorServiceManager {
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    private final ExecutorThreadType threadType;
+    
     private final ExecutorService executorService;
     
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final ExecutorThreadType threadType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, threadType);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, ExecutorThreadType.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorThreadType threadType) {
+        this.threadType = threadType;
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, threadType));
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final ExecutorThreadType threadType) {
+        if (ExecutorThreadType.VIRTUAL == threadType) {
+            return ExecutorThreadFactoryBuilder.buildVirtual(nameFormat).flatMap(this::newThreadPerTaskExecutor).orElseGet(() -> newWorkStealingPool(executorSize, nameFormat));
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private Optional<ExecutorService> newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private ExecutorService newWorkStealingPool(final int executorSize, final String nameFormat) {
+        int parallelism = 0 == executorSize ? Runtime.getRuntime().availableProcessors() : executorSize;
+        return new ForkJoinPool(parallelism, ExecutorThreadFactoryBuilder.buildForkJoinWorker(nameFormat), null, true);
+    }
+    
     /**
      * Close executor service.
      */
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecuteResult;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
@@ -70,4 +71,33 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and iterate results in completion order.
+     * 
+     * <p>Statements of the running execution groups are canceled when the execute result is closed.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute result in completion order
+     * @throws SQLException SQL exception
+     */
+    public <T> CompletionOrderExecuteResult<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                                        final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        try {
+            return executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInTransaction(), this::cancel);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return new CompletionOrderExecuteResult<>(Collections.emptyList());
+        }
+    }
+    
+    private void cancel(final JDBCExecutionUnit executionUnit) {
+        try {
+            executionUnit.getStorageResource().cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
 }
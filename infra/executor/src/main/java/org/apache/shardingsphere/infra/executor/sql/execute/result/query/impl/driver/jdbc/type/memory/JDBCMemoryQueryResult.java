@@ -25,11 +25,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 /**
- * JDBC query result for memory loading.
+ * JDBC query result for memory loading, rows are stored in typed column vectors.
  */
 public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
     
     public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+        this(new JDBCQueryResultMetaData(resultSet.getMetaData()), resultSet, databaseType);
+    }
+    
+    private JDBCMemoryQueryResult(final JDBCQueryResultMetaData metaData, final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
+        super(metaData, new QueryResultDataRowLoader(databaseType).loadColumnar(metaData, resultSet));
     }
 }
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.vector.ColumnarMemoryQueryResultData;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -59,4 +61,25 @@ public final class QueryResultDataRowLoader {
         }
         return result;
     }
+    
+    /**
+     * Load query result data as columnar data.
+     *
+     * @param metaData query result meta data
+     * @param resultSet result set
+     * @return columnar memory query result data
+     * @throws SQLException SQL exception
+     */
+    public ColumnarMemoryQueryResultData loadColumnar(final QueryResultMetaData metaData, final ResultSet resultSet) throws SQLException {
+        ColumnarMemoryQueryResultData result = new ColumnarMemoryQueryResultData(metaData);
+        int columnCount = result.getColumnCount();
+        while (resultSet.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                Object rowValue = resultSetMapper.load(resultSet, columnIndex);
+                result.appendValue(columnIndex, resultSet.wasNull() ? null : rowValue);
+            }
+            result.completeRow();
+        }
+        return result;
+    }
 }
@@ -22,6 +22,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.vector.ColumnarMemoryQueryResultData;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -34,6 +35,7 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 
 /**
@@ -46,7 +48,10 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     
     private final Iterator<MemoryQueryResultDataRow> rows;
     
-    @Getter
+    private final ColumnarMemoryQueryResultData columnarData;
+    
+    private int columnarRowIndex = -1;
+    
     private MemoryQueryResultDataRow currentRow;
     
     @Getter
@@ -57,11 +62,22 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
         this.metaData = metaData;
         this.rows = rows.iterator();
+        columnarData = null;
         rowCount = rows.size();
     }
     
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final ColumnarMemoryQueryResultData columnarData) {
+        this.metaData = metaData;
+        rows = Collections.emptyIterator();
+        this.columnarData = columnarData;
+        rowCount = columnarData.getRowCount();
+    }
+    
     @Override
     public final boolean next() {
+        if (null != columnarData) {
+            return nextColumnarRow();
+        }
         if (rows.hasNext()) {
             currentRow = rows.next();
             rowCount--;
@@ -71,27 +87,57 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
         return false;
     }
     
+    private boolean nextColumnarRow() {
+        currentRow = null;
+        if (columnarRowIndex + 1 < columnarData.getRowCount()) {
+            columnarRowIndex++;
+            rowCount--;
+            return true;
+        }
+        columnarRowIndex = columnarData.getRowCount();
+        return false;
+    }
+    
+    /**
+     * Get current row.
+     * 
+     * <p>For columnar data, the row is materialized only when it is requested.</p>
+     *
+     * @return current row, null if cursor is not on a row
+     */
+    public final MemoryQueryResultDataRow getCurrentRow() {
+        if (null == columnarData || null != currentRow || columnarRowIndex < 0 || columnarRowIndex >= columnarData.getRowCount()) {
+            return currentRow;
+        }
+        currentRow = new MemoryQueryResultDataRow(columnarData.getRow(columnarRowIndex));
+        return currentRow;
+    }
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCurrentValue(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCurrentValue(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        Object value = currentRow.getValue().get(columnIndex - 1);
+        Object value = getCurrentValue(columnIndex);
         wasNull = null == value;
         return getInputStream(value);
     }
     
+    private Object getCurrentValue(final int columnIndex) {
+        return null == columnarData ? currentRow.getValue().get(columnIndex - 1) : columnarData.getValue(columnarRowIndex, columnIndex);
+    }
+    
     @SneakyThrows(IOException.class)
     private InputStream getInputStream(final Object value) {
         ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
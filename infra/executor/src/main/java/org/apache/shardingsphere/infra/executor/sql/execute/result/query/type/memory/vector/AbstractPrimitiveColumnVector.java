@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.vector;
+
+import java.util.BitSet;
+
+/**
+ * Abstract primitive column vector, nulls are kept in bitmap and values are boxed lazily when read.
+ */
+public abstract class AbstractPrimitiveColumnVector implements ColumnVector {
+    
+    protected static final int DEFAULT_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    @Override
+    public final boolean append(final Object value) {
+        if (null == value) {
+            nulls.set(size++);
+            return true;
+        }
+        if (!accept(value)) {
+            return false;
+        }
+        set(size++, value);
+        return true;
+    }
+    
+    @Override
+    public final Object getValue(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : get(rowIndex);
+    }
+    
+    @Override
+    public final int size() {
+        return size;
+    }
+    
+    protected final int getNewCapacity(final int capacity, final int rowIndex) {
+        return rowIndex < capacity ? capacity : Math.max(capacity << 1, rowIndex + 1);
+    }
+    
+    protected abstract boolean accept(Object value);
+    
+    protected abstract void set(int rowIndex, Object value);
+    
+    protected abstract Object get(int rowIndex);
+}
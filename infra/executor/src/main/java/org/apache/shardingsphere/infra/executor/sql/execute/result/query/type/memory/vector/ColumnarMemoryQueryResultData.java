@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.vector;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columnar memory query result data.
+ * 
+ * <p>Values are appended column by column and row is completed by {@link #completeRow()}.
+ * If a value can not be stored in the typed column vector, the column vector is promoted to {@link ObjectColumnVector}.</p>
+ */
+public final class ColumnarMemoryQueryResultData {
+    
+    private final ColumnVector[] columnVectors;
+    
+    @Getter
+    private int rowCount;
+    
+    public ColumnarMemoryQueryResultData(final QueryResultMetaData metaData) throws SQLException {
+        columnVectors = new ColumnVector[metaData.getColumnCount()];
+        for (int i = 0; i < columnVectors.length; i++) {
+            columnVectors[i] = ColumnVectorFactory.newInstance(metaData.getColumnType(i + 1));
+        }
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnVectors.length;
+    }
+    
+    /**
+     * Append value of current row.
+     *
+     * @param columnIndex column index, start from 1
+     * @param value value
+     */
+    public void appendValue(final int columnIndex, final Object value) {
+        ColumnVector columnVector = columnVectors[columnIndex - 1];
+        if (!columnVector.append(value)) {
+            ColumnVector promoted = new ObjectColumnVector(columnVector);
+            promoted.append(value);
+            columnVectors[columnIndex - 1] = promoted;
+        }
+    }
+    
+    /**
+     * Complete current row.
+     */
+    public void completeRow() {
+        rowCount++;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        return columnVectors[columnIndex - 1].getValue(rowIndex);
+    }
+    
+    /**
+     * Get row values.
+     *
+     * @param rowIndex row index, start from 0
+     * @return row values
+     */
+    public List<Object> getRow(final int rowIndex) {
+        List<Object> result = new ArrayList<>(columnVectors.length);
+        for (ColumnVector each : columnVectors) {
+            result.add(each.getValue(rowIndex));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.vector;
+
+import java.util.Arrays;
+
+/**
+ * Double column vector for approximate numeric values.
+ * 
+ * <p>The boxed type of the first non-null value is remembered, so that values are read back as the same type which JDBC driver returned.</p>
+ */
+public final class DoubleColumnVector extends AbstractPrimitiveColumnVector {
+    
+    private double[] values = new double[DEFAULT_CAPACITY];
+    
+    private Class<?> valueClass;
+    
+    @Override
+    protected boolean accept(final Object value) {
+        Class<?> clazz = value.getClass();
+        if (null == valueClass && (Double.class == clazz || Float.class == clazz)) {
+            valueClass = clazz;
+        }
+        return valueClass == clazz;
+    }
+    
+    @Override
+    protected void set(final int rowIndex, final Object value) {
+        if (rowIndex >= values.length) {
+            values = Arrays.copyOf(values, getNewCapacity(values.length, rowIndex));
+        }
+        values[rowIndex] = ((Number) value).doubleValue();
+    }
+    
+    @Override
+    protected Object get(final int rowIndex) {
+        return Double.class == valueClass ? values[rowIndex] : (Object) (float) values[rowIndex];
+    }
+}
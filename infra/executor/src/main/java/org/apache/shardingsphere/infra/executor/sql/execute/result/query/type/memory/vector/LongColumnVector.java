@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.vector;
+
+import java.util.Arrays;
+
+/**
+ * Long column vector for integral values.
+ * 
+ * <p>The boxed type of the first non-null value is remembered, so that values are read back as the same type which JDBC driver returned.</p>
+ */
+public final class LongColumnVector extends AbstractPrimitiveColumnVector {
+    
+    private long[] values = new long[DEFAULT_CAPACITY];
+    
+    private Class<?> valueClass;
+    
+    @Override
+    protected boolean accept(final Object value) {
+        Class<?> clazz = value.getClass();
+        if (null == valueClass && (Long.class == clazz || Integer.class == clazz || Short.class == clazz || Byte.class == clazz)) {
+            valueClass = clazz;
+        }
+        return valueClass == clazz;
+    }
+    
+    @Override
+    protected void set(final int rowIndex, final Object value) {
+        if (rowIndex >= values.length) {
+            values = Arrays.copyOf(values, getNewCapacity(values.length, rowIndex));
+        }
+        values[rowIndex] = ((Number) value).longValue();
+    }
+    
+    @Override
+    protected Object get(final int rowIndex) {
+        long result = values[rowIndex];
+        if (Long.class == valueClass) {
+            return result;
+        }
+        if (Integer.class == valueClass) {
+            return (int) result;
+        }
+        if (Short.class == valueClass) {
+            return (short) result;
+        }
+        return (byte) result;
+    }
+}
@@ -17,23 +17,34 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecuteResult;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class ExecutorEngineTest {
     
@@ -82,6 +93,131 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertParallelExecuteWithVirtualThreadType() throws SQLException, InterruptedException {
+        try (ExecutorEngine virtualExecutorEngine = ExecutorEngine.createExecutorEngine(1, ExecutorThreadType.VIRTUAL, 1)) {
+            ExecutionGroupContext<Object> executionGroupContext = createMockedExecutionGroups(3, 2);
+            CountDownLatch latch = new CountDownLatch(6);
+            List<String> actual = virtualExecutorEngine.execute(executionGroupContext, new ExecutorCallbackFixture(latch), new ExecutorCallbackFixture(latch), false);
+            latch.await();
+            assertThat(actual.size(), is(6));
+        }
+    }
+    
+    @Test
+    void assertParallelExecuteWithVirtualThreadTypeInSubmissionOrder() throws SQLException {
+        try (ExecutorEngine virtualExecutorEngine = ExecutorEngine.createExecutorEngine(4, ExecutorThreadType.VIRTUAL, 2)) {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (int i = 0; i < 4; i++) {
+                executionGroups.add(new ExecutionGroup<>(Collections.singletonList("group_" + i)));
+            }
+            CountDownLatch lastGroupLatch = new CountDownLatch(1);
+            ExecutorCallback<Object, String> callback = (inputs, isTrunkThread) -> {
+                String input = inputs.iterator().next().toString();
+                if ("group_1".equals(input)) {
+                    try {
+                        lastGroupLatch.await();
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                if ("group_2".equals(input)) {
+                    lastGroupLatch.countDown();
+                }
+                return Collections.singletonList(input);
+            };
+            List<String> actual = virtualExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups, mock(ExecutionGroupReportContext.class)), callback, callback, false);
+            assertThat(actual, is(Arrays.asList("group_0", "group_1", "group_2", "group_3")));
+        }
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        int actual = 0;
+        try (CompletionOrderExecuteResult<String> executeResult = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, false, each -> {
+        })) {
+            assertThat(executeResult.size(), is(4));
+            for (String each : executeResult) {
+                assertThat(each, is("succeed"));
+                actual++;
+            }
+        }
+        latch.await();
+        assertThat(actual, is(4));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFirstGroupInCallerThread() throws SQLException {
+        List<Thread> trunkThreads = new CopyOnWriteArrayList<>();
+        ExecutorCallback<Object, String> trunkThreadCallback = (inputs, isTrunkThread) -> {
+            if (isTrunkThread) {
+                trunkThreads.add(Thread.currentThread());
+            }
+            return Collections.singletonList(isTrunkThread ? "trunk" : "branch");
+        };
+        try (CompletionOrderExecuteResult<String> executeResult = executorEngine.executeInCompletionOrder(executionGroupContext, trunkThreadCallback, trunkThreadCallback, false, each -> {
+        })) {
+            assertThat(executeResult.get(0), is("trunk"));
+            assertThat(executeResult.get(1), is("branch"));
+        }
+        assertThat(trunkThreads, is(Collections.singletonList(Thread.currentThread())));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithoutWaitingForSlowGroup() throws SQLException {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> slowCallback = (inputs, isTrunkThread) -> {
+            try {
+                slowGroupLatch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singletonList("slow");
+        };
+        CompletionOrderExecuteResult<String> executeResult = executorEngine.executeInCompletionOrder(
+                executionGroupContext, new ExecutorCallbackFixture(latch), slowCallback, false, each -> slowGroupLatch.countDown());
+        Iterator<String> iterator = executeResult.iterator();
+        assertTrue(iterator.hasNext());
+        assertThat(iterator.next(), is("succeed"));
+        assertThat(iterator.next(), is("succeed"));
+        executeResult.close();
+        assertThat(slowGroupLatch.getCount(), is(0L));
+        assertFalse(iterator.hasNext());
+    }
+    
+    @Test
+    void assertSizeInCompletionOrderWhenCallbackSkipsInputs() throws SQLException {
+        ExecutorCallback<Object, String> skippingCallback = (inputs, isTrunkThread) -> Collections.emptyList();
+        try (CompletionOrderExecuteResult<String> executeResult = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, skippingCallback, false, each -> {
+        })) {
+            assertThat(executeResult.size(), is(2));
+            assertThat(executeResult.get(1), is("succeed"));
+            assertThrows(IndexOutOfBoundsException.class, () -> executeResult.get(2));
+            List<String> actual = new LinkedList<>();
+            executeResult.forEach(actual::add);
+            assertThat(actual.size(), is(executeResult.size()));
+        }
+    }
+    
+    @Test
+    void assertCloseCompletedResultsInCompletionOrder() throws Exception {
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        AutoCloseable completedResult = mock(AutoCloseable.class);
+        ExecutorCallback<Object, AutoCloseable> restCallback = (inputs, isTrunkThread) -> {
+            startedLatch.countDown();
+            return Collections.singletonList(completedResult);
+        };
+        AutoCloseable firstResult = mock(AutoCloseable.class);
+        ExecutionGroupContext<Object> executionGroupContext = createMockedExecutionGroups(2, 1);
+        CompletionOrderExecuteResult<AutoCloseable> executeResult = executorEngine.executeInCompletionOrder(executionGroupContext,
+                (inputs, isTrunkThread) -> Collections.singletonList(firstResult), restCallback, false, each -> {
+                });
+        startedLatch.await();
+        executeResult.close();
+        verify(firstResult).close();
+        verify(completedResult).close();
+    }
+    
     @Test
     void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.vector;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ColumnarMemoryQueryResultDataTest {
+    
+    @Test
+    void assertGetValueWithTypedColumns() throws SQLException {
+        ColumnarMemoryQueryResultData actual = new ColumnarMemoryQueryResultData(mockMetaData(Types.INTEGER, Types.DOUBLE, Types.BOOLEAN, Types.VARCHAR));
+        for (int i = 0; i < 100; i++) {
+            actual.appendValue(1, 0 == i % 10 ? null : i);
+            actual.appendValue(2, i * 1.5D);
+            actual.appendValue(3, 0 == i % 2);
+            actual.appendValue(4, "foo_" + i);
+            actual.completeRow();
+        }
+        assertThat(actual.getRowCount(), is(100));
+        assertNull(actual.getValue(0, 1));
+        assertThat(actual.getValue(99, 1), instanceOf(Integer.class));
+        assertThat(actual.getValue(99, 1), is(99));
+        assertThat(actual.getValue(99, 2), is(148.5D));
+        assertThat(actual.getValue(98, 3), is(true));
+        assertThat(actual.getValue(99, 3), is(false));
+        assertThat(actual.getRow(1), is(Arrays.<Object>asList(1, 1.5D, false, "foo_1")));
+    }
+    
+    @Test
+    void assertPromoteToObjectColumnVector() throws SQLException {
+        ColumnarMemoryQueryResultData actual = new ColumnarMemoryQueryResultData(mockMetaData(Types.BIGINT));
+        actual.appendValue(1, 1L);
+        actual.completeRow();
+        actual.appendValue(1, null);
+        actual.completeRow();
+        actual.appendValue(1, new BigInteger("18446744073709551615"));
+        actual.completeRow();
+        assertThat(actual.getValue(0, 1), is(1L));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(2, 1), is(new BigInteger("18446744073709551615")));
+    }
+    
+    private QueryResultMetaData mockMetaData(final int... columnTypes) throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            when(result.getColumnType(i + 1)).thenReturn(columnTypes[i]);
+        }
+        return result;
+    }
+}
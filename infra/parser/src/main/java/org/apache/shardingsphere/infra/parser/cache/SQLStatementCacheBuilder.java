@@ -37,11 +37,12 @@ public final class SQLStatementCacheBuilder {
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
      * @param databaseType database type
+     * @param fastPathParserEnabled whether fast path parser enabled
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
-                                                           final CacheOption parseTreeCacheOption) {
+                                                           final CacheOption parseTreeCacheOption, final boolean fastPathParserEnabled) {
         return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption));
+                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, fastPathParserEnabled));
     }
 }
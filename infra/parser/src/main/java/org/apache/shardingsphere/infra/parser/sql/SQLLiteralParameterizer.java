@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ * 
+ * <p>Replaces string and number literals of text protocol DML with placeholders, so statements which differ only by literals share one fingerprint and one cached SQL statement.
+ * Literals are only replaced where a placeholder is always legal, SQL with comments, hints, variables, quoted identifiers in double quotes or backslash escapes is left untouched.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLLiteralParameterizer {
+    
+    private static final int MAX_PARAMETER_COUNT = 65535;
+    
+    private static final Collection<String> STATEMENT_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE", "REPLACE"));
+    
+    private static final Collection<String> LITERAL_PRECEDING_TOKENS = new HashSet<>(Arrays.asList(
+            "=", "<", ">", "<=", ">=", "<>", "!=", "(", ",", "LIKE", "BETWEEN", "AND", "OR", "THEN", "ELSE", "WHEN", "LIMIT", "OFFSET"));
+    
+    private static final Collection<String> PARAMETERIZABLE_PARENTHESES_PRECEDING_KEYWORDS = new HashSet<>(Arrays.asList(
+            "IN", "VALUES", "VALUE", "WHERE", "AND", "OR", "NOT", "ON", "HAVING", "EXISTS", "ANY", "ALL", "UNION"));
+    
+    private static final Collection<String> ORDER_BY_TERMINATING_KEYWORDS = new HashSet<>(Arrays.asList("HAVING", "LIMIT", "OFFSET", "UNION", "INTERSECT", "EXCEPT", "WINDOW", "FOR", "LOCK"));
+    
+    private static final String UNSUPPORTED_CHARACTERS = "?\";:@#{}";
+    
+    /**
+     * Parameterize literals of SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, empty if SQL is not suitable or contains no replaceable literal
+     */
+    public static Optional<ParameterizedSQL> parameterize(final String sql) {
+        if (!isSupportedStatement(sql)) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder(sql.length());
+        List<Object> parameters = new LinkedList<>();
+        Deque<ClauseState> clauseStates = new LinkedList<>();
+        clauseStates.push(new ClauseState(true, false));
+        String previousToken = "";
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (Character.isWhitespace(each)) {
+                result.append(each);
+                index++;
+                continue;
+            }
+            if (isComment(sql, index) || isJsonPathOperator(sql, index) || UNSUPPORTED_CHARACTERS.indexOf(each) >= 0) {
+                return Optional.empty();
+            }
+            if ('\'' == each) {
+                int end = findStringLiteralEnd(sql, index);
+                if (end < 0 || isFollowedByStringLiteral(sql, end)) {
+                    return Optional.empty();
+                }
+                if (isReplaceable(clauseStates.peek(), previousToken)) {
+                    parameters.add(sql.substring(index + 1, end - 1).replace("''", "'"));
+                    result.append('?');
+                } else {
+                    result.append(sql, index, end);
+                }
+                previousToken = "'";
+                index = end;
+                continue;
+            }
+            if (isDigit(each)) {
+                int end = findNumberLiteralEnd(sql, index);
+                if (end < sql.length() && isIdentifierPart(sql.charAt(end))) {
+                    end = findIdentifierEnd(sql, end);
+                    result.append(sql, index, end);
+                    previousToken = "`";
+                } else if (isReplaceable(clauseStates.peek(), previousToken)) {
+                    parameters.add(new NumberLiteralValue(sql.substring(index, end)).getValue());
+                    result.append('?');
+                    previousToken = "0";
+                } else {
+                    result.append(sql, index, end);
+                    previousToken = "0";
+                }
+                index = end;
+                continue;
+            }
+            if (isIdentifierPart(each)) {
+                int end = findIdentifierEnd(sql, index);
+                String keyword = sql.substring(index, end).toUpperCase();
+                updateClauseState(clauseStates.peek(), keyword);
+                result.append(sql, index, end);
+                previousToken = keyword;
+                index = end;
+                continue;
+            }
+            if ('`' == each) {
+                int end = sql.indexOf('`', index + 1);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                result.append(sql, index, end + 1);
+                previousToken = "`";
+                index = end + 1;
+                continue;
+            }
+            if ('(' == each) {
+                ClauseState current = clauseStates.peek();
+                ClauseState nested = new ClauseState(current.parameterizable && isParameterizableParentheses(previousToken), current.projection);
+                nested.orderBy = current.orderBy;
+                clauseStates.push(nested);
+            } else if (')' == each) {
+                if (1 == clauseStates.size()) {
+                    return Optional.empty();
+                }
+                clauseStates.pop();
+            }
+            int end = isComparisonOperator(each) ? findComparisonOperatorEnd(sql, index) : index + 1;
+            result.append(sql, index, end);
+            previousToken = sql.substring(index, end);
+            index = end;
+        }
+        return parameters.isEmpty() || parameters.size() > MAX_PARAMETER_COUNT || 1 != clauseStates.size() ? Optional.empty() : Optional.of(new ParameterizedSQL(result.toString(), parameters));
+    }
+    
+    private static boolean isSupportedStatement(final String sql) {
+        int index = 0;
+        while (index < sql.length() && (Character.isWhitespace(sql.charAt(index)) || '(' == sql.charAt(index))) {
+            index++;
+        }
+        int end = index;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return STATEMENT_KEYWORDS.contains(sql.substring(index, end).toUpperCase());
+    }
+    
+    private static boolean isComment(final String sql, final int index) {
+        return index + 1 < sql.length() && ('/' == sql.charAt(index) && '*' == sql.charAt(index + 1) || '-' == sql.charAt(index) && '-' == sql.charAt(index + 1));
+    }
+    
+    private static boolean isJsonPathOperator(final String sql, final int index) {
+        return index + 1 < sql.length() && '-' == sql.charAt(index) && '>' == sql.charAt(index + 1);
+    }
+    
+    private static int findStringLiteralEnd(final String sql, final int start) {
+        int index = start + 1;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\\' == each) {
+                return -1;
+            }
+            if ('\'' == each) {
+                if (index + 1 < sql.length() && '\'' == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private static boolean isFollowedByStringLiteral(final String sql, final int end) {
+        int index = end;
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return index < sql.length() && '\'' == sql.charAt(index);
+    }
+    
+    private static int findNumberLiteralEnd(final String sql, final int start) {
+        int result = findDigitsEnd(sql, start);
+        if (result < sql.length() && '.' == sql.charAt(result)) {
+            result = findDigitsEnd(sql, result + 1);
+        }
+        if (result + 1 < sql.length() && ('e' == sql.charAt(result) || 'E' == sql.charAt(result))) {
+            int exponentStart = '+' == sql.charAt(result + 1) || '-' == sql.charAt(result + 1) ? result + 2 : result + 1;
+            if (exponentStart < sql.length() && isDigit(sql.charAt(exponentStart))) {
+                result = findDigitsEnd(sql, exponentStart);
+            }
+        }
+        return result;
+    }
+    
+    private static int findDigitsEnd(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static int findIdentifierEnd(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && isIdentifierPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isComparisonOperator(final char ch) {
+        return '=' == ch || '<' == ch || '>' == ch || '!' == ch;
+    }
+    
+    private static int findComparisonOperatorEnd(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && isComparisonOperator(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static void updateClauseState(final ClauseState clauseState, final String keyword) {
+        if ("SELECT".equals(keyword)) {
+            clauseState.projection = true;
+            clauseState.orderBy = false;
+        } else if ("FROM".equals(keyword)) {
+            clauseState.projection = false;
+        } else if ("ORDER".equals(keyword) || "GROUP".equals(keyword)) {
+            clauseState.orderBy = true;
+        } else if (ORDER_BY_TERMINATING_KEYWORDS.contains(keyword)) {
+            clauseState.orderBy = false;
+        }
+    }
+    
+    private static boolean isParameterizableParentheses(final String previousToken) {
+        return previousToken.isEmpty() || !isIdentifierPart(previousToken.charAt(0)) && '`' != previousToken.charAt(0) && '\'' != previousToken.charAt(0)
+                || PARAMETERIZABLE_PARENTHESES_PRECEDING_KEYWORDS.contains(previousToken);
+    }
+    
+    private static boolean isReplaceable(final ClauseState clauseState, final String previousToken) {
+        return clauseState.parameterizable && !clauseState.projection && !clauseState.orderBy && LITERAL_PRECEDING_TOKENS.contains(previousToken);
+    }
+    
+    private static final class ClauseState {
+        
+        private final boolean parameterizable;
+        
+        private boolean projection;
+        
+        private boolean orderBy;
+        
+        private ClauseState(final boolean parameterizable, final boolean projection) {
+            this.parameterizable = parameterizable;
+            this.projection = projection;
+        }
+    }
+}
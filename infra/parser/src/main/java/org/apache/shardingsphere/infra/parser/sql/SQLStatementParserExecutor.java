@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLFastPathParser;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser executor.
  */
@@ -32,9 +36,12 @@ public final class SQLStatementParserExecutor {
     
     private final SQLStatementVisitorEngine visitorEngine;
     
-    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
+    private final DialectSQLFastPathParser fastPathParser;
+    
+    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final boolean fastPathParserEnabled) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLStatementVisitorEngine(databaseType);
+        fastPathParser = fastPathParserEnabled ? DatabaseTypedSPILoader.findService(DialectSQLFastPathParser.class, databaseType).orElse(null) : null;
     }
     
     /**
@@ -44,6 +51,12 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
+        if (null != fastPathParser) {
+            Optional<SQLStatement> result = fastPathParser.parse(sql);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         return visitorEngine.visit(parserEngine.parse(sql, false));
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLLiteralParameterizerTest {
+    
+    @Test
+    void assertParameterizeSelect() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT id, 'x' FROM t_order WHERE user_id = 10 AND status = 'it''s' ORDER BY 1 LIMIT 5, 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT id, 'x' FROM t_order WHERE user_id = ? AND status = ? ORDER BY 1 LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "it's", 5, 10)));
+    }
+    
+    @Test
+    void assertParameterizeInsertValues() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("INSERT INTO t_order (order_id, status) VALUES (12345678901, 'x'), (2, NOW())");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, NOW())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(12345678901L, "x", 2)));
+    }
+    
+    @Test
+    void assertParameterizeWithSubqueryAndFunctions() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize(
+                "SELECT * FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE item_id = 3) AND CONCAT(status, 'a') = 'ba' AND DATE_FORMAT(d, '%Y') > -1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE item_id = ?) AND CONCAT(status, 'a') = ? AND DATE_FORMAT(d, '%Y') > -1"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(3, "ba")));
+    }
+    
+    @Test
+    void assertParameterizeSkipTypedLiteralAndIdentifier() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE status = N'x' AND d = DATE '2020-01-01' AND c = 1t AND b = 0x1F AND order_id = 1.5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE status = N'x' AND d = DATE '2020-01-01' AND c = 1t AND b = 0x1F AND order_id = ?"));
+    }
+    
+    @Test
+    void assertParameterizeUnsupportedSQL() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SHOW TABLES").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT 1").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1 /* comment */").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = ?").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("UPDATE t_order SET status = 'a' WHERE order_id = 1; DELETE FROM t_order").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE content->'$.a' = 1").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE status = 'a' 'b'").isPresent());
+    }
+}
@@ -40,7 +40,10 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatem
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.context.SQLTranslatorContext;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -69,18 +72,21 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final QueryContext queryContext) {
         Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
+        Map<RouteUnit, int[]> routeParameterGroupIndexes = isNeedRouteParameters(sqlRewriteContext.getParameterBuilder(), routeContext)
+                ? groupParameterGroupIndexes(routeContext)
+                : null;
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeParameterGroupIndexes, routeUnits));
             } else {
-                addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
+                addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeParameterGroupIndexes, routeUnits);
             }
         }
         return new RouteSQLRewriteResult(translate(queryContext, sqlRewriteUnits));
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final Map<RouteUnit, int[]> routeParameterGroupIndexes, final Collection<RouteUnit> routeUnits) {
         Collection<String> sql = new LinkedList<>();
         List<Object> params = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
@@ -90,15 +96,16 @@ public final class RouteSQLRewriteEngine {
             if (containsDollarMarker && !params.isEmpty()) {
                 continue;
             }
-            params.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            params.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeParameterGroupIndexes, each));
         }
         return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
     }
     
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
-                                    final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+                                    final Map<RouteUnit, int[]> routeParameterGroupIndexes, final Collection<RouteUnit> routeUnits) {
         for (RouteUnit each : routeUnits) {
-            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            sqlRewriteUnits.put(each,
+                    new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeParameterGroupIndexes, each)));
         }
     }
     
@@ -124,23 +131,61 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
-    private List<Object> getParameters(final ParameterBuilder paramBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
+    private boolean isNeedRouteParameters(final ParameterBuilder paramBuilder, final RouteContext routeContext) {
+        return paramBuilder instanceof GroupedParameterBuilder && !routeContext.getOriginalDataNodes().isEmpty();
+    }
+    
+    private Map<RouteUnit, int[]> groupParameterGroupIndexes(final RouteContext routeContext) {
+        Map<Collection<DataNode>, Collection<RouteUnit>> matchedRouteUnits = new IdentityHashMap<>();
+        List<Collection<RouteUnit>> parameterGroupRouteUnits = new ArrayList<>(routeContext.getOriginalDataNodes().size());
+        Map<RouteUnit, int[]> result = new HashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            Collection<RouteUnit> routeUnits = matchedRouteUnits.computeIfAbsent(each, unused -> findSameDataNodeRouteUnits(each, routeContext.getRouteUnits()));
+            for (RouteUnit routeUnit : routeUnits) {
+                result.computeIfAbsent(routeUnit, unused -> new int[1])[0]++;
+            }
+            parameterGroupRouteUnits.add(routeUnits);
+        }
+        Map<RouteUnit, Integer> positions = new HashMap<>(result.size(), 1F);
+        for (Entry<RouteUnit, int[]> entry : result.entrySet()) {
+            entry.setValue(new int[entry.getValue()[0]]);
+            positions.put(entry.getKey(), 0);
+        }
+        int parameterGroupIndex = 0;
+        for (Collection<RouteUnit> each : parameterGroupRouteUnits) {
+            for (RouteUnit routeUnit : each) {
+                int position = positions.get(routeUnit);
+                result.get(routeUnit)[position] = parameterGroupIndex;
+                positions.put(routeUnit, position + 1);
+            }
+            parameterGroupIndex++;
+        }
+        return result;
+    }
+    
+    private Collection<RouteUnit> findSameDataNodeRouteUnits(final Collection<DataNode> dataNodes, final Collection<RouteUnit> routeUnits) {
+        Collection<RouteUnit> result = new LinkedList<>();
+        for (RouteUnit each : routeUnits) {
+            if (isInSameDataNode(dataNodes, each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private List<Object> getParameters(final ParameterBuilder paramBuilder, final Map<RouteUnit, int[]> routeParameterGroupIndexes, final RouteUnit routeUnit) {
         if (paramBuilder instanceof StandardParameterBuilder) {
             return paramBuilder.getParameters();
         }
-        return routeContext.getOriginalDataNodes().isEmpty()
+        return null == routeParameterGroupIndexes
                 ? ((GroupedParameterBuilder) paramBuilder).getParameters()
-                : buildRouteParameters((GroupedParameterBuilder) paramBuilder, routeContext, routeUnit);
+                : buildRouteParameters((GroupedParameterBuilder) paramBuilder, routeParameterGroupIndexes.getOrDefault(routeUnit, new int[0]));
     }
     
-    private List<Object> buildRouteParameters(final GroupedParameterBuilder paramBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
-        List<Object> result = new LinkedList<>();
-        int count = 0;
-        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
-            if (isInSameDataNode(each, routeUnit)) {
-                result.addAll(paramBuilder.getParameters(count));
-            }
-            count++;
+    private List<Object> buildRouteParameters(final GroupedParameterBuilder paramBuilder, final int[] parameterGroupIndexes) {
+        List<Object> result = new ArrayList<>();
+        for (int each : parameterGroupIndexes) {
+            result.addAll(paramBuilder.getParameters(each));
         }
         result.addAll(paramBuilder.getGenericParameterBuilder().getParameters());
         return result;
@@ -24,9 +24,9 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRec
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -39,7 +39,7 @@ public final class MultiplexPipelineChannel implements PipelineChannel {
     
     private final List<PipelineChannel> channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<Long, PipelineChannel> channelAssignment = new ConcurrentHashMap<>();
     
     public MultiplexPipelineChannel(final int channelCount, final PipelineChannelCreator channelCreator, final int importerBatchSize, final PipelineChannelAckCallback ackCallback) {
         this.channelCount = channelCount;
@@ -99,27 +99,17 @@ public final class MultiplexPipelineChannel implements PipelineChannel {
     }
     
     private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels.get(channelAssignment.get(threadId));
+        long threadId = Thread.currentThread().getId();
+        PipelineChannel result = channelAssignment.get(threadId);
+        return null == result ? assignChannel(threadId) : result;
     }
     
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
-            }
-        }
-    }
-    
-    private void assignmentChannel(final String threadId) {
-        for (int i = 0; i < channels.size(); i++) {
-            if (!channelAssignment.containsValue(i)) {
-                channelAssignment.put(threadId, i);
-                return;
-            }
+    private synchronized PipelineChannel assignChannel(final long threadId) {
+        PipelineChannel result = channelAssignment.get(threadId);
+        if (null == result) {
+            result = channels.stream().filter(each -> !channelAssignment.containsValue(each)).findFirst().orElseThrow(() -> new IllegalStateException("All channels are assigned."));
+            channelAssignment.put(threadId, result);
         }
+        return result;
     }
 }
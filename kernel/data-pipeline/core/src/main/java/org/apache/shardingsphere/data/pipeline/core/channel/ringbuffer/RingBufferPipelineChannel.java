@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>Slots are pre-allocated and claimed by producers with CAS, so pushing does not take any lock.
+ * Channel is consumed by one thread only, which is guaranteed by importers, so fetching drains all published slots without any lock.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final AtomicReferenceArray<List<Record>> slots;
+    
+    private final int mask;
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final AtomicLong claimedSequence = new AtomicLong();
+    
+    private volatile long consumedSequence;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final RingBufferWaitStrategy waitStrategy, final PipelineChannelAckCallback ackCallback) {
+        int capacity = getCeilingPowerOfTwo(Math.max(1, bufferSize));
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    private int getCeilingPowerOfTwo(final int value) {
+        return 1 == value ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        slots.lazySet((int) claim() & mask, records);
+    }
+    
+    private long claim() throws InterruptedException {
+        int idleCount = 0;
+        while (true) {
+            long result = claimedSequence.get();
+            if (result - consumedSequence < slots.length()) {
+                if (claimedSequence.compareAndSet(result, result + 1L)) {
+                    return result;
+                }
+                continue;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(idleCount++);
+        }
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long startMillis = System.currentTimeMillis();
+        int idleCount = 0;
+        while (result.size() < batchSize) {
+            List<Record> records = take();
+            if (null != records) {
+                result.addAll(records);
+                idleCount = 0;
+                continue;
+            }
+            if (System.currentTimeMillis() - startMillis >= timeoutMillis) {
+                break;
+            }
+            waitStrategy.idle(idleCount++);
+        }
+        return result;
+    }
+    
+    private List<Record> take() {
+        long sequence = consumedSequence;
+        int index = (int) sequence & mask;
+        List<Record> result = slots.get(index);
+        if (null != result) {
+            slots.lazySet(index, null);
+            consumedSequence = sequence + 1L;
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        List<Record> result = slots.get((int) consumedSequence & mask);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = take();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wait strategy of ring buffer pipeline channel, used by producers waiting for free slots and consumer waiting for published slots.
+ */
+public enum RingBufferWaitStrategy {
+    
+    BUSY_SPIN {
+        
+        @Override
+        public void idle(final int idleCount) {
+        }
+    },
+    
+    YIELDING {
+        
+        @Override
+        public void idle(final int idleCount) {
+            if (idleCount >= SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    },
+    
+    SLEEPING {
+        
+        @Override
+        public void idle(final int idleCount) {
+            if (idleCount >= SPIN_TRIES + YIELD_TRIES) {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            } else if (idleCount >= SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    };
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private static final int YIELD_TRIES = 100;
+    
+    private static final long SLEEP_NANOS = 100_000L;
+    
+    /**
+     * Idle for one round.
+     *
+     * @param idleCount count of successive idle rounds before this one
+     */
+    public abstract void idle(int idleCount);
+}
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RangeDigestCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32RangeDigestCalculator;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressUpdatedParameter;
+import org.apache.shardingsphere.data.pipeline.core.metadata.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.InventoryRecordsCountCalculator;
+import org.apache.shardingsphere.data.pipeline.core.util.IntervalToRangeIterator;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Chunked CRC32 match table data consistency checker.
+ *
+ * <p>Unique key values range is split into chunks, CRC32 digests of chunks are calculated on source and target in parallel.
+ * Mismatched chunks are split in halves recursively to locate the mismatched ranges.</p>
+ */
+@SPIDescription("Match CRC32 of records chunk by chunk in parallel, and drill down into mismatched chunks.")
+public final class ChunkedCRC32MatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 1000000;
+    
+    private static final String LEAF_CHUNK_SIZE_KEY = "leaf-chunk-size";
+    
+    private static final int DEFAULT_LEAF_CHUNK_SIZE = 1000;
+    
+    private static final String WORKER_THREAD_KEY = "worker-thread";
+    
+    private static final int DEFAULT_WORKER_THREAD = 4;
+    
+    private int chunkSize;
+    
+    private int leafChunkSize;
+    
+    private int workerThread;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getPositiveIntegerValue(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        leafChunkSize = getPositiveIntegerValue(props, LEAF_CHUNK_SIZE_KEY, DEFAULT_LEAF_CHUNK_SIZE);
+        workerThread = getPositiveIntegerValue(props, WORKER_THREAD_KEY, DEFAULT_WORKER_THREAD);
+    }
+    
+    private int getPositiveIntegerValue(final Properties props, final String key, final int defaultValue) {
+        String text = props.getProperty(key);
+        if (Strings.isNullOrEmpty(text)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(text);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException(String.format("'%s' is not a valid number: `%s`", key, text));
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException(String.format("Invalid '%s': %d", key, result));
+        }
+        return result;
+    }
+    
+    @Override
+    public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        return new ChunkedCRC32MatchTableInventoryChecker(param, chunkSize, leafChunkSize, workerThread);
+    }
+    
+    @Override
+    public Collection<DatabaseType> getSupportedDatabaseTypes() {
+        Collection<DatabaseType> result = new LinkedList<>();
+        DatabaseType supportedDatabaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        result.add(supportedDatabaseType);
+        result.addAll(new DatabaseTypeRegistry(supportedDatabaseType).getAllBranchDatabaseTypes());
+        return result;
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNKED_CRC32_MATCH";
+    }
+    
+    @RequiredArgsConstructor
+    @Slf4j
+    private static final class ChunkedCRC32MatchTableInventoryChecker implements TableInventoryChecker {
+        
+        private static final int MAX_MISMATCHED_RANGES = 100;
+        
+        private final TableInventoryCheckParameter param;
+        
+        private final int chunkSize;
+        
+        private final int leafChunkSize;
+        
+        private final int workerThread;
+        
+        private final Collection<CRC32RangeDigestCalculator> calculators = new LinkedList<>();
+        
+        @Override
+        public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+            if (1 != param.getUniqueKeys().size() || !PipelineJdbcUtils.isIntegerColumn(param.getUniqueKeys().get(0).getDataType())) {
+                throw new UnsupportedOperationException("Data consistency of CHUNKED_CRC32_MATCH type only support table with single integer unique key now");
+            }
+            PipelineColumnMetaData uniqueKey = param.getUniqueKeys().get(0);
+            CRC32RangeDigestCalculator sourceCalculator = new CRC32RangeDigestCalculator(param.getSourceDataSource(), param.getSourceTable(), param.getColumnNames(), uniqueKey.getName());
+            CRC32RangeDigestCalculator targetCalculator = new CRC32RangeDigestCalculator(param.getTargetDataSource(), param.getTargetTable(), param.getColumnNames(), uniqueKey.getName());
+            calculators.add(sourceCalculator);
+            calculators.add(targetCalculator);
+            ExecutorService executor = Executors.newFixedThreadPool(workerThread * 2, ExecutorThreadFactoryBuilder.build("job-" + getJobIdDigest(param.getJobId()) + "-chunked-check-%d"));
+            try {
+                return new TableDataConsistencyCheckResult(check(sourceCalculator, targetCalculator, executor));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        
+        private boolean check(final CRC32RangeDigestCalculator sourceCalculator, final CRC32RangeDigestCalculator targetCalculator, final ExecutorService executor) {
+            Future<Optional<Range<Long>>> sourceRangeFuture = executor.submit(sourceCalculator::getUniqueKeyValuesRange);
+            Future<Optional<Range<Long>>> targetRangeFuture = executor.submit(targetCalculator::getUniqueKeyValuesRange);
+            Optional<Range<Long>> uniqueKeyValuesRange = merge(waitFuture(sourceRangeFuture), waitFuture(targetRangeFuture));
+            if (!uniqueKeyValuesRange.isPresent()) {
+                return true;
+            }
+            List<Range<Long>> chunks = splitChunks(uniqueKeyValuesRange.get(), getSourceRecordsCount());
+            List<Future<RangeDigestCalculatedResult>> sourceFutures = new ArrayList<>(chunks.size());
+            List<Future<RangeDigestCalculatedResult>> targetFutures = new ArrayList<>(chunks.size());
+            for (Range<Long> each : chunks) {
+                sourceFutures.add(executor.submit(() -> calculate(sourceCalculator, each)));
+                targetFutures.add(executor.submit(() -> calculate(targetCalculator, each)));
+            }
+            Collection<Range<Long>> mismatchedRanges = new LinkedList<>();
+            for (int i = 0; i < chunks.size() && mismatchedRanges.size() < MAX_MISMATCHED_RANGES; i++) {
+                RangeDigestCalculatedResult sourceResult = waitFuture(sourceFutures.get(i));
+                RangeDigestCalculatedResult targetResult = waitFuture(targetFutures.get(i));
+                if (sourceResult.equals(targetResult)) {
+                    if (mismatchedRanges.isEmpty()) {
+                        updateCheckPositions(chunks.get(i).getMaximum());
+                    }
+                } else {
+                    locateMismatchedRanges(chunks.get(i), sourceResult, targetResult, sourceCalculator, targetCalculator, executor, mismatchedRanges);
+                }
+                param.getProgressContext().onProgressUpdated(new PipelineJobProgressUpdatedParameter((int) sourceResult.getRecordsCount()));
+            }
+            if (!mismatchedRanges.isEmpty()) {
+                log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}, mismatchedRanges={}",
+                        param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys().get(0).getName(), mismatchedRanges);
+            }
+            return mismatchedRanges.isEmpty();
+        }
+        
+        private Optional<Range<Long>> merge(final Optional<Range<Long>> sourceRange, final Optional<Range<Long>> targetRange) {
+            if (!sourceRange.isPresent()) {
+                return targetRange;
+            }
+            if (!targetRange.isPresent()) {
+                return sourceRange;
+            }
+            return Optional.of(Range.between(Math.min(sourceRange.get().getMinimum(), targetRange.get().getMinimum()), Math.max(sourceRange.get().getMaximum(), targetRange.get().getMaximum())));
+        }
+        
+        private long getSourceRecordsCount() {
+            CaseInsensitiveQualifiedTable sourceTable = param.getSourceTable();
+            try {
+                return InventoryRecordsCountCalculator.getTableRecordsCount(sourceTable.getSchemaName().toString(), sourceTable.getTableName().toString(), param.getSourceDataSource());
+            } catch (final SQLException ex) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(sourceTable.getSchemaName().toString(), sourceTable.getTableName().toString(), ex);
+            }
+        }
+        
+        private List<Range<Long>> splitChunks(final Range<Long> uniqueKeyValuesRange, final long recordsCount) {
+            long minimum = getCheckedMinimum(uniqueKeyValuesRange);
+            if (minimum > uniqueKeyValuesRange.getMaximum()) {
+                return new ArrayList<>();
+            }
+            long splitCount = Math.max(1L, recordsCount / chunkSize + (recordsCount % chunkSize > 0 ? 1 : 0));
+            long interval = (uniqueKeyValuesRange.getMaximum() - minimum) / splitCount;
+            List<Range<Long>> result = new ArrayList<>();
+            IntervalToRangeIterator rangeIterator = new IntervalToRangeIterator(minimum, uniqueKeyValuesRange.getMaximum(), interval);
+            while (rangeIterator.hasNext()) {
+                result.add(rangeIterator.next());
+            }
+            return result;
+        }
+        
+        private long getCheckedMinimum(final Range<Long> uniqueKeyValuesRange) {
+            Object sourceCheckPosition = param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName().toString());
+            Object targetCheckPosition = param.getProgressContext().getTargetTableCheckPositions().get(param.getTargetTable().getTableName().toString());
+            if (null == sourceCheckPosition || null == targetCheckPosition) {
+                return uniqueKeyValuesRange.getMinimum();
+            }
+            long checkedMaximum = Math.min(Long.parseLong(sourceCheckPosition.toString()), Long.parseLong(targetCheckPosition.toString()));
+            return Math.max(uniqueKeyValuesRange.getMinimum(), checkedMaximum + 1L);
+        }
+        
+        private RangeDigestCalculatedResult calculate(final CRC32RangeDigestCalculator calculator, final Range<Long> range) {
+            if (null != param.getReadRateLimitAlgorithm()) {
+                param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+            }
+            return calculator.calculate(range);
+        }
+        
+        private void locateMismatchedRanges(final Range<Long> range, final RangeDigestCalculatedResult sourceResult, final RangeDigestCalculatedResult targetResult,
+                                            final CRC32RangeDigestCalculator sourceCalculator, final CRC32RangeDigestCalculator targetCalculator,
+                                            final ExecutorService executor, final Collection<Range<Long>> mismatchedRanges) {
+            if (mismatchedRanges.size() >= MAX_MISMATCHED_RANGES) {
+                return;
+            }
+            if (Math.max(sourceResult.getRecordsCount(), targetResult.getRecordsCount()) <= leafChunkSize || range.getMinimum().equals(range.getMaximum())) {
+                mismatchedRanges.add(range);
+                return;
+            }
+            long middle = range.getMinimum() + (range.getMaximum() - range.getMinimum()) / 2L;
+            Range<Long> lowerRange = Range.between(range.getMinimum(), middle);
+            Range<Long> upperRange = Range.between(middle + 1L, range.getMaximum());
+            Future<RangeDigestCalculatedResult> lowerSourceFuture = executor.submit(() -> calculate(sourceCalculator, lowerRange));
+            Future<RangeDigestCalculatedResult> lowerTargetFuture = executor.submit(() -> calculate(targetCalculator, lowerRange));
+            Future<RangeDigestCalculatedResult> upperSourceFuture = executor.submit(() -> calculate(sourceCalculator, upperRange));
+            Future<RangeDigestCalculatedResult> upperTargetFuture = executor.submit(() -> calculate(targetCalculator, upperRange));
+            RangeDigestCalculatedResult lowerSourceResult = waitFuture(lowerSourceFuture);
+            RangeDigestCalculatedResult lowerTargetResult = waitFuture(lowerTargetFuture);
+            RangeDigestCalculatedResult upperSourceResult = waitFuture(upperSourceFuture);
+            RangeDigestCalculatedResult upperTargetResult = waitFuture(upperTargetFuture);
+            if (!lowerSourceResult.equals(lowerTargetResult)) {
+                locateMismatchedRanges(lowerRange, lowerSourceResult, lowerTargetResult, sourceCalculator, targetCalculator, executor, mismatchedRanges);
+            }
+            if (!upperSourceResult.equals(upperTargetResult)) {
+                locateMismatchedRanges(upperRange, upperSourceResult, upperTargetResult, sourceCalculator, targetCalculator, executor, mismatchedRanges);
+            }
+        }
+        
+        private void updateCheckPositions(final long checkedMaximum) {
+            param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName().toString(), checkedMaximum);
+            param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName().toString(), checkedMaximum);
+        }
+        
+        private String getJobIdDigest(final String jobId) {
+            return jobId.length() <= 6 ? jobId : jobId.substring(0, 6);
+        }
+        
+        private <T> T waitFuture(final Future<T> future) {
+            try {
+                return future.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLWrapperException(new SQLException(ex));
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof PipelineSQLException) {
+                    throw (PipelineSQLException) ex.getCause();
+                }
+                throw new SQLWrapperException(new SQLException(ex));
+            }
+        }
+        
+        @Override
+        public void cancel() {
+            for (CRC32RangeDigestCalculator each : calculators) {
+                each.cancel();
+            }
+        }
+        
+        @Override
+        public boolean isCanceling() {
+            return calculators.stream().anyMatch(CRC32RangeDigestCalculator::isCanceling);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.PipelineCancellable;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RangeDigestCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedCRC32SingleTableInventoryCalculatorException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CRC32 range digest calculator, which could calculate digests of different unique key ranges concurrently.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class CRC32RangeDigestCalculator implements PipelineCancellable {
+    
+    private final PipelineDataSourceWrapper dataSource;
+    
+    private final CaseInsensitiveQualifiedTable table;
+    
+    private final List<String> columnNames;
+    
+    private final String uniqueKey;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    private final Set<Statement> runningStatements = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Get unique key values range.
+     *
+     * @return unique key values range, empty if table is empty
+     */
+    public Optional<Range<Long>> getUniqueKeyValuesRange() {
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(getSchemaName(), getTableName(), uniqueKey);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatements.add(preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                long minimum = resultSet.getLong(1);
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(Range.between(minimum, resultSet.getLong(2)));
+            } finally {
+                runningStatements.remove(preparedStatement);
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(getSchemaName(), getTableName(), ex);
+        }
+    }
+    
+    /**
+     * Calculate digest of records in unique key range.
+     *
+     * @param range unique key range, both ends are inclusive
+     * @return calculated result
+     */
+    public RangeDigestCalculatedResult calculate(final Range<Long> range) {
+        ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineTableDataConsistencyCheckLoadingFailedException(getSchemaName(), getTableName()));
+        Optional<String> sql = new PipelineDataConsistencyCalculateSQLBuilder(dataSource.getDatabaseType()).buildRangeCRC32SQL(getSchemaName(), getTableName(), columnNames, uniqueKey);
+        ShardingSpherePreconditions.checkState(sql.isPresent(), () -> new UnsupportedCRC32SingleTableInventoryCalculatorException(dataSource.getDatabaseType()));
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql.get())) {
+            runningStatements.add(preparedStatement);
+            preparedStatement.setLong(1, range.getMinimum());
+            preparedStatement.setLong(2, range.getMaximum());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                List<Long> columnsCrc32 = new ArrayList<>(columnNames.size());
+                for (int i = 1; i <= columnNames.size(); i++) {
+                    columnsCrc32.add(resultSet.getLong(i));
+                }
+                return new RangeDigestCalculatedResult(resultSet.getLong(columnNames.size() + 1), columnsCrc32);
+            } finally {
+                runningStatements.remove(preparedStatement);
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(getSchemaName(), getTableName(), ex);
+        }
+    }
+    
+    private String getSchemaName() {
+        return table.getSchemaName().toString();
+    }
+    
+    private String getTableName() {
+        return table.getTableName().toString();
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        Collection<Statement> statements = new ArrayList<>(runningStatements);
+        for (Statement each : statements) {
+            try {
+                each.cancel();
+            } catch (final SQLFeatureNotSupportedException ex) {
+                log.info("cancel is not supported: {}", ex.getMessage());
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.info("cancel failed: {}", ex.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+}
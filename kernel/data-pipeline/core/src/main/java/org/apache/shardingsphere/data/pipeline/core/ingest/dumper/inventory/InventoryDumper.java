@@ -165,7 +165,10 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         Collection<String> columnNames = Collections.singleton("*");
         if (PipelineJdbcUtils.isIntegerColumn(firstColumn.getDataType()) || PipelineJdbcUtils.isStringColumn(firstColumn.getDataType())) {
             if (null != primaryKeyPosition.getBeginValue() && null != primaryKeyPosition.getEndValue()) {
-                return inventoryDumpSQLBuilder.buildDivisibleSQL(schemaName, dumperContext.getActualTableName(), columnNames, firstColumn.getName());
+                // String end value is exclusive, since the previous value of a string boundary could not be calculated
+                return PipelineJdbcUtils.isStringColumn(firstColumn.getDataType())
+                        ? inventoryDumpSQLBuilder.buildRightOpenDivisibleSQL(schemaName, dumperContext.getActualTableName(), columnNames, firstColumn.getName())
+                        : inventoryDumpSQLBuilder.buildDivisibleSQL(schemaName, dumperContext.getActualTableName(), columnNames, firstColumn.getName());
             }
             if (null != primaryKeyPosition.getBeginValue() && null == primaryKeyPosition.getEndValue()) {
                 return inventoryDumpSQLBuilder.buildUnlimitedDivisibleSQL(schemaName, dumperContext.getActualTableName(), columnNames, firstColumn.getName());
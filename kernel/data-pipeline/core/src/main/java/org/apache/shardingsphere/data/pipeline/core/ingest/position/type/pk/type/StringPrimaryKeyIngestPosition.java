@@ -22,7 +22,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
 
 /**
- * String primary key ingest position.
+ * String primary key ingest position, the end value is exclusive.
  */
 @Getter
 public final class StringPrimaryKeyIngestPosition implements PrimaryKeyIngestPosition<String> {
@@ -52,22 +52,34 @@ public final class InventoryRecordsCountCalculator {
      */
     public static long getTableRecordsCount(final InventoryDumperContext dumperContext, final PipelineDataSourceWrapper dataSource) {
         String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
-        String actualTableName = dumperContext.getActualTableName();
-        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType());
-        Optional<String> sql = pipelineSQLBuilder.buildEstimatedCountSQL(schemaName, actualTableName);
         try {
-            if (sql.isPresent()) {
-                DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, dataSource.getDatabaseType().getType());
-                long result = getEstimatedCount(databaseType, dataSource, sql.get());
-                return result > 0 ? result : getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, actualTableName));
-            }
-            return getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, actualTableName));
+            return getTableRecordsCount(schemaName, dumperContext.getActualTableName(), dataSource);
         } catch (final SQLException ex) {
             String uniqueKey = dumperContext.hasUniqueKey() ? dumperContext.getUniqueKeyColumns().get(0).getName() : "";
             throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
         }
     }
     
+    /**
+     * Get table records count, estimated count is preferred if database supports it.
+     *
+     * @param schemaName schema name
+     * @param actualTableName actual table name
+     * @param dataSource data source
+     * @return table records count
+     * @throws SQLException SQL exception
+     */
+    public static long getTableRecordsCount(final String schemaName, final String actualTableName, final PipelineDataSourceWrapper dataSource) throws SQLException {
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType());
+        Optional<String> sql = pipelineSQLBuilder.buildEstimatedCountSQL(schemaName, actualTableName);
+        if (sql.isPresent()) {
+            DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, dataSource.getDatabaseType().getType());
+            long result = getEstimatedCount(databaseType, dataSource, sql.get());
+            return result > 0 ? result : getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, actualTableName));
+        }
+        return getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, actualTableName));
+    }
+    
     private static long getEstimatedCount(final DatabaseType databaseType, final DataSource dataSource, final String estimatedCountSQL) throws SQLException {
         try (
                 Connection connection = dataSource.getConnection();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.preparer.inventory;
 
+import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.Range;
@@ -52,10 +53,12 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -65,6 +68,14 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int SAMPLE_SIZE_PER_SPLIT = 32;
+    
+    private static final int MAX_SAMPLE_SIZE = 100000;
+    
+    private static final double MIN_SAMPLE_PERCENT = 0.01D;
+    
+    private static final long SPARSE_INTEGER_KEY_FACTOR = 4L;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperContext dumperContext;
@@ -167,16 +178,13 @@ public final class InventoryTaskSplitter {
         if (!dumperContext.hasUniqueKey()) {
             return Collections.singleton(new UnsupportedKeyIngestPosition());
         }
-        List<PipelineColumnMetaData> uniqueKeyColumns = dumperContext.getUniqueKeyColumns();
-        if (1 == uniqueKeyColumns.size()) {
-            int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
-            if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
-                return getPositionByIntegerUniqueKeyRange(dumperContext, tableRecordsCount, jobItemContext, dataSource);
-            }
-            if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                // TODO Support string unique key table splitting. Ascii characters ordering are different in different versions of databases.
-                return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
-            }
+        // Composite unique key is split by its first column, since inventory dumper only uses the first column to query and resume
+        int firstColumnDataType = dumperContext.getUniqueKeyColumns().get(0).getDataType();
+        if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
+            return getPositionByIntegerUniqueKeyRange(dumperContext, tableRecordsCount, jobItemContext, dataSource);
+        }
+        if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
+            return getPositionByStringUniqueKeySamples(dumperContext, tableRecordsCount, jobItemContext, dataSource);
         }
         return Collections.singleton(new UnsupportedKeyIngestPosition());
     }
@@ -186,10 +194,15 @@ public final class InventoryTaskSplitter {
         if (0 == tableRecordsCount) {
             return Collections.singletonList(new IntegerPrimaryKeyIngestPosition(0, 0));
         }
-        Collection<IngestPosition> result = new LinkedList<>();
         Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dataSource, dumperContext);
-        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfig().getRead().getShardingSize();
-        long splitCount = tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0);
+        long splitCount = getSplitCount(tableRecordsCount, jobItemContext);
+        if (splitCount > 1 && (uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum()) / tableRecordsCount > SPARSE_INTEGER_KEY_FACTOR) {
+            List<Object> boundaries = getSampledUniqueKeyBoundaries(dumperContext, tableRecordsCount, splitCount, jobItemContext, dataSource);
+            if (!boundaries.isEmpty()) {
+                return getPositionByIntegerBoundaries(uniqueKeyValuesRange, boundaries);
+            }
+        }
+        Collection<IngestPosition> result = new LinkedList<>();
         long interval = (uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum()) / splitCount;
         IntervalToRangeIterator rangeIterator = new IntervalToRangeIterator(uniqueKeyValuesRange.getMinimum(), uniqueKeyValuesRange.getMaximum(), interval);
         while (rangeIterator.hasNext()) {
@@ -199,6 +212,97 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
+    private Collection<IngestPosition> getPositionByIntegerBoundaries(final Range<Long> uniqueKeyValuesRange, final List<Object> boundaries) {
+        Collection<IngestPosition> result = new LinkedList<>();
+        long beginValue = uniqueKeyValuesRange.getMinimum();
+        for (Object each : boundaries) {
+            long boundary = ((Number) each).longValue();
+            if (boundary > beginValue && boundary <= uniqueKeyValuesRange.getMaximum()) {
+                result.add(new IntegerPrimaryKeyIngestPosition(beginValue, boundary - 1L));
+                beginValue = boundary;
+            }
+        }
+        result.add(new IntegerPrimaryKeyIngestPosition(beginValue, uniqueKeyValuesRange.getMaximum()));
+        return result;
+    }
+    
+    private Collection<IngestPosition> getPositionByStringUniqueKeySamples(final InventoryDumperContext dumperContext, final long tableRecordsCount,
+                                                                           final TransmissionJobItemContext jobItemContext, final PipelineDataSourceWrapper dataSource) {
+        long splitCount = getSplitCount(tableRecordsCount, jobItemContext);
+        List<Object> boundaries = splitCount > 1 ? getSampledUniqueKeyBoundaries(dumperContext, tableRecordsCount, splitCount, jobItemContext, dataSource) : Collections.emptyList();
+        String minimumValue = boundaries.isEmpty() ? null : getStringUniqueKeyMinimumValue(jobItemContext, dataSource, dumperContext);
+        if (!isValidStringPositionValue(minimumValue)) {
+            return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+        }
+        Collection<IngestPosition> result = new LinkedList<>();
+        String beginValue = minimumValue;
+        for (Object each : boundaries) {
+            String boundary = each.toString();
+            if (isValidStringPositionValue(boundary) && !boundary.equals(beginValue)) {
+                result.add(new StringPrimaryKeyIngestPosition(beginValue, boundary));
+                beginValue = boundary;
+            }
+        }
+        result.add(new StringPrimaryKeyIngestPosition(beginValue, null));
+        return result;
+    }
+    
+    private boolean isValidStringPositionValue(final String value) {
+        // Empty value means unlimited and comma is the separator of persisted position
+        return !Strings.isNullOrEmpty(value) && !value.contains(",");
+    }
+    
+    private long getSplitCount(final long tableRecordsCount, final TransmissionJobItemContext jobItemContext) {
+        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfig().getRead().getShardingSize();
+        return tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0);
+    }
+    
+    private List<Object> getSampledUniqueKeyBoundaries(final InventoryDumperContext dumperContext, final long tableRecordsCount, final long splitCount,
+                                                       final TransmissionJobItemContext jobItemContext, final DataSource dataSource) {
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        double samplePercent = Math.min(100D, Math.max(MIN_SAMPLE_PERCENT, 100D * Math.min(splitCount * SAMPLE_SIZE_PER_SPLIT, MAX_SAMPLE_SIZE) / tableRecordsCount));
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        Optional<String> sql = pipelineSQLBuilder.buildSampleUniqueKeyValuesSQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(), uniqueKey, samplePercent);
+        if (!sql.isPresent()) {
+            return Collections.emptyList();
+        }
+        List<Object> samples = new ArrayList<>();
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql.get())) {
+            while (resultSet.next()) {
+                samples.add(resultSet.getObject(1));
+            }
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+        List<Object> result = new ArrayList<>();
+        for (long i = 1; i < splitCount && !samples.isEmpty(); i++) {
+            Object each = samples.get((int) (i * samples.size() / splitCount));
+            if (null != each && (result.isEmpty() || !each.equals(result.get(result.size() - 1)))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private String getStringUniqueKeyMinimumValue(final TransmissionJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperContext dumperContext) {
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String sql = pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(), uniqueKey);
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final TransmissionJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperContext dumperContext) {
         String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
         PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
@@ -79,6 +79,30 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build CRC32 SQL of records in unique key range.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @return built SQL
+     */
+    default Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final Collection<String> columnNames, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build sample unique key values SQL, sampled values are ordered by unique key ascending.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param uniqueKey unique key
+     * @param samplePercent sample percent, between 0 and 100
+     * @return built SQL
+     */
+    default Optional<String> buildSampleUniqueKeyValuesSQL(final String qualifiedTableName, final String uniqueKey, final double samplePercent) {
+        return Optional.empty();
+    }
+    
     /**
      * Build create table SQLs.
      *
@@ -94,6 +94,19 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build sample unique key values SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param samplePercent sample percent
+     * @return sample unique key values SQL
+     */
+    public Optional<String> buildSampleUniqueKeyValuesSQL(final String schemaName, final String tableName, final String uniqueKey, final double samplePercent) {
+        return dialectSQLBuilder.buildSampleUniqueKeyValuesSQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey), samplePercent);
+    }
+    
     /**
      * Build check empty table SQL.
      *
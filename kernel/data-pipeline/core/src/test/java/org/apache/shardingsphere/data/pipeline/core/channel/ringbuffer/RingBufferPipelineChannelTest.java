@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.SLEEPING, mock(PipelineChannelAckCallback.class));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(10, 0L), is(records));
+    }
+    
+    @Test
+    void assertFetchDrainsPublishedSlotsUntilBatchSize() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.BUSY_SPIN, mock(PipelineChannelAckCallback.class));
+        Record record1 = new PlaceholderRecord(new IngestFinishedPosition());
+        Record record2 = new PlaceholderRecord(new IngestFinishedPosition());
+        Record record3 = new PlaceholderRecord(new IngestFinishedPosition());
+        channel.push(Collections.singletonList(record1));
+        channel.push(Collections.singletonList(record2));
+        channel.push(Collections.singletonList(record3));
+        assertThat(channel.fetch(2, 1000L), is(Arrays.asList(record1, record2)));
+        assertThat(channel.fetch(2, 0L), is(Collections.singletonList(record3)));
+        assertTrue(channel.fetch(2, 0L).isEmpty());
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, RingBufferWaitStrategy.YIELDING, mock(PipelineChannelAckCallback.class));
+        assertTrue(channel.peek().isEmpty());
+        assertTrue(channel.poll().isEmpty());
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertTrue(channel.peek().isEmpty());
+    }
+    
+    @Test
+    void assertPushWaitsForFreeSlot() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, RingBufferWaitStrategy.SLEEPING, mock(PipelineChannelAckCallback.class));
+        List<Record> records1 = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        List<Record> records2 = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records1);
+        CountDownLatch latch = new CountDownLatch(1);
+        new Thread(() -> {
+            channel.push(records2);
+            latch.countDown();
+        }).start();
+        assertThat(channel.poll(), is(records1));
+        assertTrue(latch.await(1L, TimeUnit.SECONDS));
+        assertThat(channel.poll(), is(records2));
+    }
+    
+    @Test
+    void assertPushWithMultipleProducers() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(8, RingBufferWaitStrategy.SLEEPING, mock(PipelineChannelAckCallback.class));
+        int producerCount = 4;
+        int pushCountPerProducer = 1000;
+        for (int i = 0; i < producerCount; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < pushCountPerProducer; j++) {
+                    channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+                }
+            }).start();
+        }
+        List<Record> actual = new ArrayList<>(producerCount * pushCountPerProducer);
+        long startMillis = System.currentTimeMillis();
+        while (actual.size() < producerCount * pushCountPerProducer && System.currentTimeMillis() - startMillis < 10000L) {
+            actual.addAll(channel.fetch(100, 100L));
+        }
+        assertThat(actual.size(), is(producerCount * pushCountPerProducer));
+    }
+    
+    @Test
+    void assertAck() {
+        PipelineChannelAckCallback ackCallback = mock(PipelineChannelAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingBufferPipelineChannel(1, RingBufferWaitStrategy.SLEEPING, ackCallback).ack(records);
+        verify(ackCallback).onAck(records);
+    }
+}
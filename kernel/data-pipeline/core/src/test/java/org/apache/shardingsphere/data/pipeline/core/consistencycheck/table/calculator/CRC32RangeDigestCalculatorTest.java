@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RangeDigestCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CRC32RangeDigestCalculatorTest {
+    
+    @Mock
+    private PipelineDataSourceWrapper dataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    private CRC32RangeDigestCalculator calculator;
+    
+    @BeforeEach
+    void setUp() {
+        calculator = new CRC32RangeDigestCalculator(dataSource, new CaseInsensitiveQualifiedTable(null, "foo_tbl"), Arrays.asList("foo_col", "bar_col"), "id");
+    }
+    
+    private void mockDataSource() throws SQLException {
+        when(dataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+    
+    @Test
+    void assertGetUniqueKeyValuesRange() throws SQLException {
+        mockDataSource();
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        when(resultSet.getLong(2)).thenReturn(100L);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement("SELECT MIN(id), MAX(id) FROM foo_tbl")).thenReturn(preparedStatement);
+        Optional<Range<Long>> actual = calculator.getUniqueKeyValuesRange();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Range.between(1L, 100L)));
+    }
+    
+    @Test
+    void assertGetUniqueKeyValuesRangeOfEmptyTable() throws SQLException {
+        mockDataSource();
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.wasNull()).thenReturn(true);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement("SELECT MIN(id), MAX(id) FROM foo_tbl")).thenReturn(preparedStatement);
+        assertFalse(calculator.getUniqueKeyValuesRange().isPresent());
+    }
+    
+    @Test
+    void assertCalculate() throws SQLException {
+        mockDataSource();
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(123L);
+        when(resultSet.getLong(2)).thenReturn(456L);
+        when(resultSet.getLong(3)).thenReturn(10L);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement("SELECT foo_col, bar_col, COUNT(1) FROM foo_tbl WHERE id>=? AND id<=?")).thenReturn(preparedStatement);
+        RangeDigestCalculatedResult actual = calculator.calculate(Range.between(1L, 50L));
+        verify(preparedStatement).setLong(1, 1L);
+        verify(preparedStatement).setLong(2, 50L);
+        assertThat(actual, is(new RangeDigestCalculatedResult(10L, Arrays.asList(123L, 456L))));
+    }
+    
+    @Test
+    void assertCalculateFailed() throws SQLException {
+        mockDataSource();
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException());
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, () -> calculator.calculate(Range.between(1L, 50L)));
+    }
+    
+    @Test
+    void assertCalculateAfterCanceled() {
+        calculator.cancel();
+        assertTrue(calculator.isCanceling());
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, () -> calculator.calculate(Range.between(1L, 50L)));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.ChunkedCRC32MatchTableDataConsistencyChecker;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableInventoryCheckParameter;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChunkedCRC32MatchTableDataConsistencyCheckerTest {
+    
+    @Test
+    void assertInitSuccess() throws ReflectiveOperationException {
+        ChunkedCRC32MatchTableDataConsistencyChecker checker = new ChunkedCRC32MatchTableDataConsistencyChecker();
+        checker.init(PropertiesBuilder.build(new Property("chunk-size", "100"), new Property("leaf-chunk-size", "10"), new Property("worker-thread", "2")));
+        assertThat(Plugins.getMemberAccessor().get(ChunkedCRC32MatchTableDataConsistencyChecker.class.getDeclaredField("chunkSize"), checker), is(100));
+        assertThat(Plugins.getMemberAccessor().get(ChunkedCRC32MatchTableDataConsistencyChecker.class.getDeclaredField("leafChunkSize"), checker), is(10));
+        assertThat(Plugins.getMemberAccessor().get(ChunkedCRC32MatchTableDataConsistencyChecker.class.getDeclaredField("workerThread"), checker), is(2));
+    }
+    
+    @Test
+    void assertInitFailure() {
+        assertThrows(PipelineInvalidParameterException.class, () -> new ChunkedCRC32MatchTableDataConsistencyChecker().init(PropertiesBuilder.build(new Property("chunk-size", "xyz"))));
+        assertThrows(PipelineInvalidParameterException.class, () -> new ChunkedCRC32MatchTableDataConsistencyChecker().init(PropertiesBuilder.build(new Property("worker-thread", "0"))));
+    }
+    
+    @Test
+    void assertCheckMatched() throws SQLException {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        assertTrue(createChecker().buildTableInventoryChecker(createParameter(mockDataSource(123L, true), mockDataSource(123L, false), progressContext)).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("foo_tbl"), is(10L));
+        assertThat(progressContext.getTargetTableCheckPositions().get("foo_tbl"), is(10L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(10L));
+    }
+    
+    @Test
+    void assertCheckNotMatched() throws SQLException {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        assertFalse(createChecker().buildTableInventoryChecker(createParameter(mockDataSource(123L, true), mockDataSource(456L, false), progressContext)).checkSingleTableInventoryData().isMatched());
+        assertTrue(progressContext.getSourceTableCheckPositions().isEmpty());
+    }
+    
+    private ChunkedCRC32MatchTableDataConsistencyChecker createChecker() {
+        ChunkedCRC32MatchTableDataConsistencyChecker result = new ChunkedCRC32MatchTableDataConsistencyChecker();
+        result.init(new Properties());
+        return result;
+    }
+    
+    private TableInventoryCheckParameter createParameter(final PipelineDataSourceWrapper sourceDataSource, final PipelineDataSourceWrapper targetDataSource,
+                                                         final ConsistencyCheckJobItemProgressContext progressContext) {
+        CaseInsensitiveQualifiedTable table = new CaseInsensitiveQualifiedTable(null, "foo_tbl");
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true);
+        return new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, table, table,
+                Collections.singletonList("foo_col"), Collections.singletonList(uniqueKey), null, progressContext);
+    }
+    
+    private PipelineDataSourceWrapper mockDataSource(final long crc32, final boolean source) throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement uniqueKeyValuesRangeStatement = mockPreparedStatement(1L, 10L);
+        when(connection.prepareStatement("SELECT MIN(id), MAX(id) FROM foo_tbl")).thenReturn(uniqueKeyValuesRangeStatement);
+        PreparedStatement digestStatement = mockPreparedStatement(crc32, 10L);
+        when(connection.prepareStatement("SELECT foo_col, COUNT(1) FROM foo_tbl WHERE id>=? AND id<=?")).thenReturn(digestStatement);
+        if (source) {
+            PreparedStatement countStatement = mockPreparedStatement(10L, 0L);
+            when(connection.prepareStatement("SELECT COUNT(*) FROM foo_tbl")).thenReturn(countStatement);
+        }
+        PipelineDataSourceWrapper result = mock(PipelineDataSourceWrapper.class);
+        when(result.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    private PreparedStatement mockPreparedStatement(final long firstValue, final long secondValue) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(firstValue);
+        when(resultSet.getLong(2)).thenReturn(secondValue);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+}
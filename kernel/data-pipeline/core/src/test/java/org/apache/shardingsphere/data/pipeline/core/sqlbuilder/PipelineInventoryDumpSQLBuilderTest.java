@@ -37,6 +37,12 @@ class PipelineInventoryDumpSQLBuilderTest {
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>=? AND order_id<=? ORDER BY order_id ASC"));
     }
     
+    @Test
+    void assertBuildRightOpenDivisibleSQL() {
+        String actual = inventoryDumpSQLBuilder.buildRightOpenDivisibleSQL(null, "t_order", Arrays.asList("order_id", "user_id", "status"), "order_id");
+        assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>=? AND order_id<? ORDER BY order_id ASC"));
+    }
+    
     @Test
     void assertBuildUnlimitedDivisibleSQL() {
         String actual = inventoryDumpSQLBuilder.buildUnlimitedDivisibleSQL(null, "t_order", Arrays.asList("order_id", "user_id", "status"), "order_id");
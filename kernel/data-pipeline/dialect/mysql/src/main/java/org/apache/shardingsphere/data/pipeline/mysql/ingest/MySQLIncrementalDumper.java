@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumper;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTabl
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogDecodeMetrics;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
@@ -49,15 +51,24 @@ import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropert
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropertiesParser;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MySQL incremental dumper.
@@ -65,6 +76,12 @@ import java.util.Optional;
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunnable implements IncrementalDumper {
     
+    private static final int DECODE_WORKER_THREAD = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    
+    private static final int MAX_PENDING_DECODE_TASKS = DECODE_WORKER_THREAD * 64;
+    
+    private static final long METRICS_LOG_INTERVAL_MILLIS = 60000L;
+    
     private final IncrementalDumperContext dumperContext;
     
     private final BinlogPosition binlogPosition;
@@ -77,6 +94,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     
     private final String catalog;
     
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new ConcurrentHashMap<>();
+    
+    private final BinlogDecodeMetrics decodeMetrics = new BinlogDecodeMetrics();
+    
     public MySQLIncrementalDumper(final IncrementalDumperContext dumperContext, final IngestPosition binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperContext.getCommonContext().getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration,
@@ -104,25 +125,64 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     protected void runBlocking() {
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
-        while (isRunning()) {
-            List<AbstractBinlogEvent> events = client.poll();
-            if (events.isEmpty()) {
+        ExecutorService decodeExecutor = Executors.newFixedThreadPool(DECODE_WORKER_THREAD, ExecutorThreadFactoryBuilder.build("pipeline-binlog-decode-%d"));
+        Queue<Future<List<Record>>> pendingDecodeTasks = new LinkedList<>();
+        long lastMetricsLogMillis = System.currentTimeMillis();
+        try {
+            while (isRunning()) {
+                List<AbstractBinlogEvent> events = client.poll();
+                if (!events.isEmpty()) {
+                    pendingDecodeTasks.add(decodeExecutor.submit(() -> handleEvents(events)));
+                }
+                pushDecodedRecords(pendingDecodeTasks, events.isEmpty());
+                if (System.currentTimeMillis() - lastMetricsLogMillis >= METRICS_LOG_INTERVAL_MILLIS) {
+                    logDecodeMetrics();
+                    lastMetricsLogMillis = System.currentTimeMillis();
+                }
+            }
+        } finally {
+            decodeExecutor.shutdownNow();
+        }
+    }
+    
+    private void pushDecodedRecords(final Queue<Future<List<Record>>> pendingDecodeTasks, final boolean idle) {
+        while (!pendingDecodeTasks.isEmpty() && (idle || pendingDecodeTasks.size() >= MAX_PENDING_DECODE_TASKS || pendingDecodeTasks.peek().isDone())) {
+            List<Record> records = waitFuture(pendingDecodeTasks.poll());
+            if (records.isEmpty()) {
                 continue;
             }
-            handleEvents(events);
+            channel.push(records);
+            decodeMetrics.onPushed(records.get(records.size() - 1).getCommitTime());
         }
     }
     
-    private void handleEvents(final List<AbstractBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
-        for (AbstractBinlogEvent each : events) {
-            List<? extends Record> records = handleEvent(each);
-            dataRecords.addAll(records);
+    private <T> T waitFuture(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IngestException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IngestException(ex.getCause());
         }
-        if (dataRecords.isEmpty()) {
-            return;
+    }
+    
+    private void logDecodeMetrics() {
+        log.info("Binlog decode metrics, jobId={}, events={}, records={}, averageDecodeMicros={}, lagMillis={}", dumperContext.getJobId(),
+                decodeMetrics.getDecodedEventCount(), decodeMetrics.getDecodedRecordCount(), decodeMetrics.getAverageDecodeMicros(), decodeMetrics.getLagMillis());
+    }
+    
+    private List<Record> handleEvents(final List<AbstractBinlogEvent> events) {
+        long startNanos = System.nanoTime();
+        List<Record> result = new ArrayList<>(events.size());
+        for (AbstractBinlogEvent each : events) {
+            result.addAll(handleEvent(each));
         }
-        channel.push(dataRecords);
+        decodeMetrics.onDecoded(events.size(), result.size(), System.nanoTime() - startNanos);
+        return result;
     }
     
     private List<? extends Record> handleEvent(final AbstractBinlogEvent event) {
@@ -210,7 +270,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
             }
             return new String(((MySQLBinaryString) value).getBytes(), Charset.defaultCharset());
         }
-        Optional<MySQLDataTypeHandler> dataTypeHandler = TypedSPILoader.findService(MySQLDataTypeHandler.class, columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), key -> TypedSPILoader.findService(MySQLDataTypeHandler.class, key));
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Binlog decode metrics.
+ */
+public final class BinlogDecodeMetrics {
+    
+    private final AtomicLong decodedEventCount = new AtomicLong();
+    
+    private final AtomicLong decodedRecordCount = new AtomicLong();
+    
+    private final AtomicLong decodeNanos = new AtomicLong();
+    
+    private volatile long lastEventTimestampMillis;
+    
+    private volatile long lastPushTimeMillis;
+    
+    /**
+     * Called after binlog events are decoded to records.
+     *
+     * @param eventCount decoded event count
+     * @param recordCount decoded record count
+     * @param nanos decode time in nanoseconds
+     */
+    public void onDecoded(final int eventCount, final int recordCount, final long nanos) {
+        decodedEventCount.addAndGet(eventCount);
+        decodedRecordCount.addAndGet(recordCount);
+        decodeNanos.addAndGet(nanos);
+    }
+    
+    /**
+     * Called after decoded records are pushed to channel.
+     *
+     * @param eventTimestampMillis timestamp of the last pushed binlog event in milliseconds
+     */
+    public void onPushed(final long eventTimestampMillis) {
+        lastEventTimestampMillis = eventTimestampMillis;
+        lastPushTimeMillis = System.currentTimeMillis();
+    }
+    
+    /**
+     * Get decoded event count.
+     *
+     * @return decoded event count
+     */
+    public long getDecodedEventCount() {
+        return decodedEventCount.get();
+    }
+    
+    /**
+     * Get decoded record count.
+     *
+     * @return decoded record count
+     */
+    public long getDecodedRecordCount() {
+        return decodedRecordCount.get();
+    }
+    
+    /**
+     * Get average decode time of events in microseconds.
+     *
+     * @return average decode time in microseconds
+     */
+    public long getAverageDecodeMicros() {
+        long eventCount = decodedEventCount.get();
+        return 0L == eventCount ? 0L : TimeUnit.NANOSECONDS.toMicros(decodeNanos.get()) / eventCount;
+    }
+    
+    /**
+     * Get lag between commit time of the last pushed binlog event and the time it was pushed to channel.
+     *
+     * @return lag in milliseconds
+     */
+    public long getLagMillis() {
+        return 0L == lastEventTimestampMillis ? 0L : Math.max(0L, lastPushTimeMillis - lastEventTimestampMillis);
+    }
+}
@@ -31,6 +31,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -64,6 +65,17 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final Collection<String> columnNames, final String uniqueKey) {
+        String checksums = columnNames.stream().map(each -> String.format("BIT_XOR(CAST(CRC32(%s) AS UNSIGNED))", each)).collect(Collectors.joining(", "));
+        return Optional.of(String.format("SELECT %s, COUNT(1) AS cnt FROM %s WHERE %s>=? AND %s<=?", checksums, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
+    @Override
+    public Optional<String> buildSampleUniqueKeyValuesSQL(final String qualifiedTableName, final String uniqueKey, final double samplePercent) {
+        return Optional.of(String.format("SELECT %s FROM %s WHERE RAND()*100<%s ORDER BY %s ASC", uniqueKey, qualifiedTableName, samplePercent, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
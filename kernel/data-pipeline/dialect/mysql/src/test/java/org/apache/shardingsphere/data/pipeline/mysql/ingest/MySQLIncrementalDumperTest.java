@@ -27,6 +27,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.In
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.ActualAndLogicTableNameMapper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.metadata.CaseInsensitiveIdentifier;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
@@ -58,12 +59,16 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -77,6 +82,8 @@ class MySQLIncrementalDumperTest {
     
     private PipelineTableMetaData pipelineTableMetaData;
     
+    private MemoryPipelineChannel channel;
+    
     @BeforeAll
     static void init() throws ClassNotFoundException {
         Class.forName(MockedDriver.class.getName());
@@ -87,7 +94,7 @@ class MySQLIncrementalDumperTest {
         IncrementalDumperContext dumperContext = createDumperContext();
         initTableData(dumperContext);
         PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
-        MemoryPipelineChannel channel = new MemoryPipelineChannel(10000, records -> {
+        channel = new MemoryPipelineChannel(10000, records -> {
             
         });
         incrementalDumper = new MySQLIncrementalDumper(dumperContext, new BinlogPosition("binlog-000001", 4L, 0L), channel, metaDataLoader);
@@ -216,4 +223,24 @@ class MySQLIncrementalDumperTest {
         result.setAfterRows(Collections.singletonList(new Serializable[]{1}));
         return result;
     }
+    
+    @Test
+    void assertPushDecodedRecordsInSubmittedOrder() throws ReflectiveOperationException {
+        CompletableFuture<List<Record>> firstTask = new CompletableFuture<>();
+        Record firstRecord = new PlaceholderRecord(new BinlogPosition("binlog-000001", 4L, 0L));
+        Record secondRecord = new PlaceholderRecord(new BinlogPosition("binlog-000001", 8L, 0L));
+        Queue<Future<List<Record>>> pendingDecodeTasks = new LinkedList<>();
+        pendingDecodeTasks.add(firstTask);
+        pendingDecodeTasks.add(CompletableFuture.completedFuture(Collections.singletonList(secondRecord)));
+        Method method = MySQLIncrementalDumper.class.getDeclaredMethod("pushDecodedRecords", Queue.class, boolean.class);
+        Plugins.getMemberAccessor().invoke(method, incrementalDumper, pendingDecodeTasks, false);
+        assertTrue(channel.fetch(10, 0L).isEmpty());
+        firstTask.complete(Collections.singletonList(firstRecord));
+        Plugins.getMemberAccessor().invoke(method, incrementalDumper, pendingDecodeTasks, false);
+        assertTrue(pendingDecodeTasks.isEmpty());
+        List<Record> actual = channel.fetch(2, 100L);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(firstRecord));
+        assertThat(actual.get(1), is(secondRecord));
+    }
 }
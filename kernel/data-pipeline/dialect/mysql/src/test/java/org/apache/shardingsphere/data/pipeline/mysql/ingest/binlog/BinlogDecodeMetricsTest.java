@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinlogDecodeMetricsTest {
+    
+    @Test
+    void assertOnDecoded() {
+        BinlogDecodeMetrics metrics = new BinlogDecodeMetrics();
+        assertThat(metrics.getAverageDecodeMicros(), is(0L));
+        metrics.onDecoded(2, 10, 3000L);
+        metrics.onDecoded(2, 6, 5000L);
+        assertThat(metrics.getDecodedEventCount(), is(4L));
+        assertThat(metrics.getDecodedRecordCount(), is(16L));
+        assertThat(metrics.getAverageDecodeMicros(), is(2L));
+    }
+    
+    @Test
+    void assertGetLagMillis() {
+        BinlogDecodeMetrics metrics = new BinlogDecodeMetrics();
+        assertThat(metrics.getLagMillis(), is(0L));
+        metrics.onPushed(System.currentTimeMillis() - 5000L);
+        assertTrue(metrics.getLagMillis() >= 5000L);
+    }
+}
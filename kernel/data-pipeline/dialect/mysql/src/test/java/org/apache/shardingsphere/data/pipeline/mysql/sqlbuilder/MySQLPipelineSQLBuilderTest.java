@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -46,6 +47,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    void assertBuildRangeCRC32SQL() {
+        Optional<String> actual = sqlBuilder.buildRangeCRC32SQL("t2", Arrays.asList("id", "c1"), "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)), BIT_XOR(CAST(CRC32(c1) AS UNSIGNED)), COUNT(1) AS cnt FROM t2 WHERE id>=? AND id<=?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, tableName, new IngestPlaceholderPosition(), 4);
         result.addColumn(new Column("id", "", false, true));
@@ -62,4 +70,11 @@ class MySQLPipelineSQLBuilderTest {
         assertTrue(actual.isPresent());
         assertThat(actual.get(), is("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = 't_order'"));
     }
+    
+    @Test
+    void assertBuildSampleUniqueKeyValuesSQL() {
+        Optional<String> actual = sqlBuilder.buildSampleUniqueKeyValuesSQL("t_order", "order_id", 0.5D);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT order_id FROM t_order WHERE RAND()*100<0.5 ORDER BY order_id ASC"));
+    }
 }
@@ -36,6 +36,12 @@ class OpenGaussPipelineSQLBuilderTest {
         assertThat(actual, is("ON DUPLICATE KEY UPDATE c0=EXCLUDED.c0,c1=EXCLUDED.c1,c2=EXCLUDED.c2,c3=EXCLUDED.c3"));
     }
     
+    @Test
+    void assertBuildSampleUniqueKeyValuesSQL() {
+        String actual = sqlBuilder.buildSampleUniqueKeyValuesSQL("t_order", "order_id", 0.5D).orElse(null);
+        assertThat(actual, is("SELECT order_id FROM t_order TABLESAMPLE SYSTEM (0.5) ORDER BY order_id ASC"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t1", new IngestPlaceholderPosition(), 4);
         result.addColumn(new Column("id", "", false, true));
@@ -22,6 +22,7 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLOutputPlugin;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.DialectIngestPositionManager;
 import org.postgresql.replication.LogSequenceNumber;
 
@@ -39,8 +40,6 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
     
     private static final String SLOT_NAME_PREFIX = "pipeline";
     
-    private static final String DECODE_PLUGIN = "test_decoding";
-    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
@@ -61,7 +60,7 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, getDecodePlugin(connection));
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -75,13 +74,17 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
         String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
+            preparedStatement.setString(2, getDecodePlugin(connection));
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
             }
         }
     }
     
+    private String getDecodePlugin(final Connection connection) throws SQLException {
+        return PostgreSQLOutputPlugin.valueOfJdbcUrl(connection.getMetaData().getURL()).getPluginName();
+    }
+    
     private WALPosition getWalPosition(final Connection connection) throws SQLException {
         try (
                 PreparedStatement preparedStatement = connection.prepareStatement(getLogSequenceNumberSQL(connection));
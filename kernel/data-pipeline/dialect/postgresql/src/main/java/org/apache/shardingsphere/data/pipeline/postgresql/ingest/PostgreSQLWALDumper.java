@@ -32,7 +32,9 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLL
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLOutputPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
@@ -51,6 +53,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -109,13 +112,14 @@ public final class PostgreSQLWALDumper extends AbstractPipelineLifecycleRunnable
     
     @SneakyThrows(InterruptedException.class)
     private void dump() throws SQLException {
+        StandardPipelineDataSourceConfiguration dataSourceConfig = (StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig();
+        Optional<String> publicationNames = PostgreSQLOutputPlugin.findPublicationNames(dataSourceConfig.getUrl());
         // TODO use unified PgConnection
         try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLIngestPositionManager.getUniqueSlotName(connection, dumperContext.getJobId()),
-                        walPosition.get().getLogSequenceNumber())) {
+                Connection connection = logicalReplication.createConnection(dataSourceConfig);
+                PGReplicationStream stream = createReplicationStream(connection, publicationNames.orElse(null))) {
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
+            DecodingPlugin decodingPlugin = publicationNames.isPresent() ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils);
             while (isRunning()) {
                 ByteBuffer message = stream.readPending();
                 if (null == message) {
@@ -133,6 +137,13 @@ public final class PostgreSQLWALDumper extends AbstractPipelineLifecycleRunnable
         }
     }
     
+    private PGReplicationStream createReplicationStream(final Connection connection, final String publicationNames) throws SQLException {
+        String slotName = PostgreSQLIngestPositionManager.getUniqueSlotName(connection, dumperContext.getJobId());
+        return null == publicationNames
+                ? logicalReplication.createReplicationStream(connection, slotName, walPosition.get().getLogSequenceNumber())
+                : logicalReplication.createReplicationStream(connection, slotName, walPosition.get().getLogSequenceNumber(), publicationNames);
+    }
+    
     private void processEventWithTX(final AbstractWALEvent event) {
         if (event instanceof BeginTXEvent) {
             rowEvents = new ArrayList<>();
@@ -70,4 +70,26 @@ public final class PostgreSQLLogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Create PostgreSQL replication stream with pgoutput plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @param startPosition start position
+     * @param publicationNames publication names
+     * @return replication stream
+     * @throws SQLException SQL exception
+     */
+    public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition,
+                                                      final String publicationNames) throws SQLException {
+        return connection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition((LogSequenceNumber) startPosition.get())
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", publicationNames)
+                .start();
+    }
 }
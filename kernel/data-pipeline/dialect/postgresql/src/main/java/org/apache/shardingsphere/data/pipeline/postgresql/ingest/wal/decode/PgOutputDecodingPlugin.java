@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pgoutput decoding plugin.
+ *
+ * <p>Decodes messages of the native logical replication protocol (version 1). Relation metadata is cached by OID,
+ * so column values are converted by type OID instead of parsing table names and type names of every change.</p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    private byte[] buffer = new byte[256];
+    
+    private long currentXid;
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result = decodeMessage(data);
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private AbstractWALEvent decodeMessage(final ByteBuffer data) {
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'B':
+                return decodeBegin(data);
+            case 'C':
+                return new CommitTXEvent(currentXid, null);
+            case 'R':
+                decodeRelation(data);
+                return new PlaceholderEvent();
+            case 'I':
+                return decodeInsert(data);
+            case 'U':
+                return decodeUpdate(data);
+            case 'D':
+                return decodeDelete(data);
+            default:
+                return new PlaceholderEvent();
+        }
+    }
+    
+    private BeginTXEvent decodeBegin(final ByteBuffer data) {
+        data.getLong();
+        data.getLong();
+        currentXid = Integer.toUnsignedLong(data.getInt());
+        return new BeginTXEvent(currentXid);
+    }
+    
+    private void decodeRelation(final ByteBuffer data) {
+        int oid = data.getInt();
+        String schemaName = readCString(data);
+        String tableName = readCString(data);
+        data.get();
+        int columnCount = data.getShort();
+        String[] columnNames = new String[columnCount];
+        int[] columnTypeOids = new int[columnCount];
+        boolean[] keyColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = 0 != (data.get() & 1);
+            columnNames[i] = readCString(data);
+            columnTypeOids[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(oid, new PgOutputRelation(schemaName.isEmpty() ? "pg_catalog" : schemaName, tableName, columnNames, columnTypeOids, keyColumns));
+    }
+    
+    private AbstractRowEvent decodeInsert(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation, null));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent decodeUpdate(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        List<Object> oldRow = null;
+        byte tupleType = data.get();
+        if ('K' == tupleType || 'O' == tupleType) {
+            List<Object> oldTuple = readTupleData(data, relation, null);
+            // Key tuple only holds replica identity columns, unchanged TOAST values can only be taken from a full old tuple.
+            if ('O' == tupleType) {
+                oldRow = oldTuple;
+            }
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation, oldRow));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent decodeDelete(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> oldRow = readTupleData(data, relation, null);
+        List<Object> primaryKeys = new ArrayList<>(oldRow.size());
+        for (int i = 0; i < oldRow.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                primaryKeys.add(oldRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        return setTable(result, relation);
+    }
+    
+    private PgOutputRelation getRelation(final int oid) {
+        PgOutputRelation result = relations.get(oid);
+        if (null == result) {
+            throw new IngestException("Unknown relation oid: " + Integer.toUnsignedString(oid));
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTable(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation, final List<Object> oldRow) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) data.get();
+            switch (kind) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    if (null == oldRow) {
+                        throw new IngestException(String.format("Unchanged TOAST value of column `%s.%s` is not replicated, please set REPLICA IDENTITY FULL",
+                                relation.getTableName(), relation.getColumnNames()[i]));
+                    }
+                    result.add(oldRow.get(i));
+                    break;
+                case 't':
+                    result.add(readColumnData(data, data.getInt(), relation.getColumnTypeOids()[i]));
+                    break;
+                default:
+                    throw new IngestException("Unknown tuple data kind: " + kind);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final ByteBuffer data, final int length, final int typeOid) {
+        switch (typeOid) {
+            case INT2_OID:
+                return (short) readLong(data, length);
+            case INT4_OID:
+                return (int) readLong(data, length);
+            case INT8_OID:
+                return readLong(data, length);
+            case BOOL_OID:
+                return readBoolean(data, length);
+            case BYTEA_OID:
+                return readHex(data, length);
+            case FLOAT4_OID:
+                return Float.parseFloat(readString(data, length));
+            case FLOAT8_OID:
+                return Double.parseDouble(readString(data, length));
+            case NUMERIC_OID:
+                return new BigDecimal(readString(data, length));
+            case DATE_OID:
+                return Date.valueOf(readString(data, length));
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return readString(data, length);
+        }
+    }
+    
+    private long readLong(final ByteBuffer data, final int length) {
+        int end = data.position() + length;
+        boolean negative = '-' == data.get(data.position());
+        if (negative) {
+            data.get();
+        }
+        long result = 0L;
+        while (data.position() < end) {
+            result = result * 10 + (data.get() - '0');
+        }
+        return negative ? -result : result;
+    }
+    
+    private boolean readBoolean(final ByteBuffer data, final int length) {
+        boolean result = 't' == data.get(data.position());
+        data.position(data.position() + length);
+        return result;
+    }
+    
+    private byte[] readHex(final ByteBuffer data, final int length) {
+        data.position(data.position() + 2);
+        byte[] result = new byte[(length - 2) >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((Character.digit(data.get(), 16) << 4) + Character.digit(data.get(), 16));
+        }
+        return result;
+    }
+    
+    private String readCString(final ByteBuffer data) {
+        int start = data.position();
+        int end = start;
+        while (0 != data.get(end)) {
+            end++;
+        }
+        String result = readString(data, end - start);
+        data.get();
+        return result;
+    }
+    
+    private String readString(final ByteBuffer data, final int length) {
+        if (data.hasArray()) {
+            String result = new String(data.array(), data.arrayOffset() + data.position(), length, StandardCharsets.UTF_8);
+            data.position(data.position() + length);
+            return result;
+        }
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer.length << 1)];
+        }
+        data.get(buffer, 0, length);
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+}
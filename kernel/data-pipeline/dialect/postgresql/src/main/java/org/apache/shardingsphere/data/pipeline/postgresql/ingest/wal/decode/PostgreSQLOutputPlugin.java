@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.connector.url.StandardJdbcUrlParser;
+
+import java.util.Optional;
+
+/**
+ * PostgreSQL logical decoding output plugin.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum PostgreSQLOutputPlugin {
+    
+    TEST_DECODING("test_decoding"),
+    
+    PGOUTPUT("pgoutput");
+    
+    private static final String PUBLICATION_NAMES_KEY = "pipelinePublicationNames";
+    
+    private final String pluginName;
+    
+    /**
+     * Get output plugin of JDBC URL.
+     *
+     * @param jdbcUrl JDBC URL
+     * @return {@code PGOUTPUT} if publication names are configured, otherwise {@code TEST_DECODING}
+     */
+    public static PostgreSQLOutputPlugin valueOfJdbcUrl(final String jdbcUrl) {
+        return findPublicationNames(jdbcUrl).isPresent() ? PGOUTPUT : TEST_DECODING;
+    }
+    
+    /**
+     * Find publication names configured by query property {@code pipelinePublicationNames} of JDBC URL.
+     *
+     * @param jdbcUrl JDBC URL
+     * @return publication names
+     */
+    public static Optional<String> findPublicationNames(final String jdbcUrl) {
+        if (null == jdbcUrl || !jdbcUrl.contains("?")) {
+            return Optional.empty();
+        }
+        String result = new StandardJdbcUrlParser().parseQueryProperties(jdbcUrl.substring(jdbcUrl.indexOf('?') + 1)).getProperty(PUBLICATION_NAMES_KEY);
+        return Strings.isNullOrEmpty(result) ? Optional.empty() : Optional.of(result);
+    }
+}
@@ -86,6 +86,21 @@ class PostgreSQLLogicalReplicationTest {
         verify(chainedLogicalStreamBuilder).start();
     }
     
+    @Test
+    void assertCreatePgOutputReplicationStreamSuccess() throws SQLException {
+        LogSequenceNumber startPosition = LogSequenceNumber.valueOf(100L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(connection);
+        when(connection.getReplicationAPI()).thenReturn(pgReplicationConnection);
+        when(pgReplicationConnection.replicationStream()).thenReturn(chainedStreamBuilder);
+        when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("proto_version", "1")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("publication_names", "foo_pub")).thenReturn(chainedLogicalStreamBuilder);
+        logicalReplication.createReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(startPosition), "foo_pub");
+        verify(chainedLogicalStreamBuilder).start();
+    }
+    
     @Test
     void assertCreateReplicationStreamFailure() throws SQLException {
         when(connection.unwrap(PGConnection.class)).thenThrow(new SQLException(""));
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_OID = 16384;
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @BeforeEach
+    void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        assertThat(decodingPlugin.decode(createRelationMessage(), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    void assertDecodeBeginAndCommit() {
+        BeginTXEvent actualBegin = (BeginTXEvent) decodingPlugin.decode(createMessage(output -> {
+            output.writeByte('B');
+            output.writeLong(100L);
+            output.writeLong(0L);
+            output.writeInt(-1);
+        }), logSequenceNumber);
+        assertThat(actualBegin.getXid(), is(4294967295L));
+        CommitTXEvent actualCommit = (CommitTXEvent) decodingPlugin.decode(createMessage(output -> {
+            output.writeByte('C');
+            output.writeByte(0);
+            output.writeLong(100L);
+            output.writeLong(101L);
+            output.writeLong(0L);
+        }), logSequenceNumber);
+        assertThat(actualCommit.getXid(), is(4294967295L));
+        assertThat(actualCommit.getLogSequenceNumber(), is(logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeWriteRowEvent() {
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(createMessage(output -> {
+            output.writeByte('I');
+            output.writeInt(RELATION_OID);
+            output.writeByte('N');
+            output.writeShort(5);
+            writeText(output, "-1");
+            writeText(output, "9223372036854775807");
+            writeText(output, "' 1 2 3'' 😊中");
+            writeText(output, "t");
+            writeText(output, "\\xff00ab");
+        }), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(-1));
+        assertThat(actual.getAfterRow().get(1), is(Long.MAX_VALUE));
+        assertThat(actual.getAfterRow().get(2), is("' 1 2 3'' 😊中"));
+        assertThat(actual.getAfterRow().get(3), is(true));
+        assertThat(actual.getAfterRow().get(4), is(new byte[]{(byte) 0xff, (byte) 0, (byte) 0xab}));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastValue() {
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(createMessage(output -> {
+            output.writeByte('U');
+            output.writeInt(RELATION_OID);
+            output.writeByte('O');
+            output.writeShort(5);
+            writeText(output, "1");
+            writeText(output, "2");
+            writeText(output, "large_value");
+            writeText(output, "f");
+            output.writeByte('n');
+            output.writeByte('N');
+            output.writeShort(5);
+            writeText(output, "1");
+            writeText(output, "3");
+            output.writeByte('u');
+            writeText(output, "t");
+            output.writeByte('n');
+        }), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is(3L));
+        assertThat(actual.getAfterRow().get(2), is("large_value"));
+        assertThat(actual.getAfterRow().get(3), is(true));
+        assertNull(actual.getAfterRow().get(4));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastValueAndWithoutOldTuple() {
+        ByteBuffer data = createMessage(output -> {
+            output.writeByte('U');
+            output.writeInt(RELATION_OID);
+            output.writeByte('N');
+            output.writeShort(5);
+            writeText(output, "1");
+            writeText(output, "3");
+            output.writeByte('u');
+            writeText(output, "t");
+            output.writeByte('n');
+        });
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(data, logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastValueAndKeyTuple() {
+        ByteBuffer data = createMessage(output -> {
+            output.writeByte('U');
+            output.writeInt(RELATION_OID);
+            output.writeByte('K');
+            output.writeShort(5);
+            writeText(output, "1");
+            for (int i = 0; i < 4; i++) {
+                output.writeByte('n');
+            }
+            output.writeByte('N');
+            output.writeShort(5);
+            writeText(output, "1");
+            writeText(output, "3");
+            output.writeByte('u');
+            writeText(output, "t");
+            output.writeByte('n');
+        });
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(data, logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEvent() {
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(createMessage(output -> {
+            output.writeByte('D');
+            output.writeInt(RELATION_OID);
+            output.writeByte('K');
+            output.writeShort(5);
+            writeText(output, "1");
+            for (int i = 0; i < 4; i++) {
+                output.writeByte('n');
+            }
+        }), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Collections.singletonList(1)));
+    }
+    
+    @Test
+    void assertDecodeRowEventOfUnknownRelation() {
+        ByteBuffer data = createMessage(output -> {
+            output.writeByte('I');
+            output.writeInt(RELATION_OID + 1);
+            output.writeByte('N');
+            output.writeShort(0);
+        });
+        assertThrows(IngestException.class, () -> new PgOutputDecodingPlugin(null).decode(data, logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeNumericWithReadOnlyBuffer() {
+        ByteBuffer data = createMessage(output -> {
+            output.writeByte('R');
+            output.writeInt(RELATION_OID);
+            writeCString(output, "");
+            writeCString(output, "t_amount");
+            output.writeByte('d');
+            output.writeShort(1);
+            writeColumn(output, 0, "amount", 1700);
+        });
+        decodingPlugin.decode(data.asReadOnlyBuffer(), logSequenceNumber);
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(createMessage(output -> {
+            output.writeByte('I');
+            output.writeInt(RELATION_OID);
+            output.writeByte('N');
+            output.writeShort(1);
+            writeText(output, "123.4500");
+        }).asReadOnlyBuffer(), logSequenceNumber);
+        assertThat(actual.getSchemaName(), is("pg_catalog"));
+        assertThat(actual.getTableName(), is("t_amount"));
+        assertThat(actual.getAfterRow().get(0), is(new BigDecimal("123.4500")));
+    }
+    
+    @Test
+    void assertDecodeUnknownMessage() {
+        assertThat(decodingPlugin.decode(createMessage(output -> output.writeByte('Y')), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    private ByteBuffer createRelationMessage() {
+        return createMessage(output -> {
+            output.writeByte('R');
+            output.writeInt(RELATION_OID);
+            writeCString(output, "public");
+            writeCString(output, "t_order");
+            output.writeByte('d');
+            output.writeShort(5);
+            writeColumn(output, 1, "order_id", 23);
+            writeColumn(output, 0, "user_id", 20);
+            writeColumn(output, 0, "status", 1043);
+            writeColumn(output, 0, "paid", 16);
+            writeColumn(output, 0, "data", 17);
+        });
+    }
+    
+    @SneakyThrows(IOException.class)
+    private ByteBuffer createMessage(final MessageWriter writer) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writer.write(new DataOutputStream(result));
+        return ByteBuffer.wrap(result.toByteArray());
+    }
+    
+    private void writeColumn(final DataOutputStream output, final int flags, final String columnName, final int typeOid) throws IOException {
+        output.writeByte(flags);
+        writeCString(output, columnName);
+        output.writeInt(typeOid);
+        output.writeInt(-1);
+    }
+    
+    private void writeCString(final DataOutputStream output, final String value) throws IOException {
+        output.write(value.getBytes(StandardCharsets.UTF_8));
+        output.writeByte(0);
+    }
+    
+    private void writeText(final DataOutputStream output, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeByte('t');
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    private interface MessageWriter {
+        
+        void write(DataOutputStream output) throws IOException;
+    }
+}
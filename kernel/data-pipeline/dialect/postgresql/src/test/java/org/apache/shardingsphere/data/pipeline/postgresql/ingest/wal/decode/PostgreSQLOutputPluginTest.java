@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class PostgreSQLOutputPluginTest {
+    
+    @Test
+    void assertValueOfJdbcUrlWithoutPublicationNames() {
+        assertThat(PostgreSQLOutputPlugin.valueOfJdbcUrl("jdbc:postgresql://127.0.0.1:5432/foo_db?sslmode=disable"), is(PostgreSQLOutputPlugin.TEST_DECODING));
+        assertThat(PostgreSQLOutputPlugin.valueOfJdbcUrl("jdbc:postgresql://127.0.0.1:5432/foo_db"), is(PostgreSQLOutputPlugin.TEST_DECODING));
+        assertThat(PostgreSQLOutputPlugin.valueOfJdbcUrl(null), is(PostgreSQLOutputPlugin.TEST_DECODING));
+    }
+    
+    @Test
+    void assertValueOfJdbcUrlWithPublicationNames() {
+        String jdbcUrl = "jdbc:postgresql://127.0.0.1:5432/foo_db?sslmode=disable&pipelinePublicationNames=pub_order,pub_user";
+        assertThat(PostgreSQLOutputPlugin.valueOfJdbcUrl(jdbcUrl), is(PostgreSQLOutputPlugin.PGOUTPUT));
+        assertThat(PostgreSQLOutputPlugin.valueOfJdbcUrl(jdbcUrl).getPluginName(), is("pgoutput"));
+        assertThat(PostgreSQLOutputPlugin.findPublicationNames(jdbcUrl), is(Optional.of("pub_order,pub_user")));
+    }
+    
+    @Test
+    void assertFindEmptyPublicationNames() {
+        assertFalse(PostgreSQLOutputPlugin.findPublicationNames("jdbc:postgresql://127.0.0.1:5432/foo_db?pipelinePublicationNames=").isPresent());
+    }
+}
@@ -38,6 +38,12 @@ class PostgreSQLPipelineSQLBuilderTest {
         assertThat(actual, is("ON CONFLICT (order_id) DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
     }
     
+    @Test
+    void assertBuildSampleUniqueKeyValuesSQL() {
+        String actual = sqlBuilder.buildSampleUniqueKeyValuesSQL("t_order", "order_id", 0.5D).orElse(null);
+        assertThat(actual, is("SELECT order_id FROM t_order TABLESAMPLE SYSTEM (0.5) ORDER BY order_id ASC"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.addColumn(new Column("order_id", 1, true, true));
@@ -35,4 +35,10 @@ public final class StartStreamingParameter {
     private final Set<SchemaTable> schemaTables;
     
     private final boolean full;
+    
+    private final boolean compact;
+    
+    public StartStreamingParameter(final String database, final Set<SchemaTable> schemaTables, final boolean full) {
+        this(database, schemaTables, full, false);
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.StringValue;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableColumn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact data record result converter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompactDataRecordResultConverter {
+    
+    private static final Any NULL_VALUE = Any.pack(Empty.getDefaultInstance());
+    
+    /**
+     * Convert compact data record result to records.
+     *
+     * @param result compact data record result
+     * @param tableSchemas table schemas received on the current connection, keyed by table ID
+     * @return records
+     * @throws IllegalStateException illegal state exception
+     */
+    public static List<Record> convertToRecords(final CompactDataRecordResult result, final Map<Integer, CompactTableSchema> tableSchemas) {
+        for (CompactTableSchema each : result.getTableSchemaList()) {
+            tableSchemas.put(each.getTableId(), each);
+        }
+        List<Record> records = new ArrayList<>();
+        for (CompactRecordBatch each : result.getRecordBatchList()) {
+            CompactTableSchema tableSchema = tableSchemas.get(each.getTableId());
+            if (null == tableSchema) {
+                throw new IllegalStateException(String.format("Can not find table schema of table id `%d`", each.getTableId()));
+            }
+            convertRecordBatch(tableSchema, each, records);
+        }
+        return records;
+    }
+    
+    private static void convertRecordBatch(final CompactTableSchema tableSchema, final CompactRecordBatch recordBatch, final List<Record> records) {
+        MetaData metaData = MetaData.newBuilder().setDatabase(tableSchema.getDatabase()).setSchema(tableSchema.getSchema()).setTable(tableSchema.getTable()).build();
+        int columnCount = tableSchema.getColumnNameCount();
+        List<ColumnVectorReader> beforeReaders = new ArrayList<>(columnCount);
+        List<ColumnVectorReader> afterReaders = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            beforeReaders.add(new ColumnVectorReader(recordBatch.getBefore(i)));
+            afterReaders.add(new ColumnVectorReader(recordBatch.getAfter(i)));
+        }
+        for (int row = 0; row < recordBatch.getDataChangeTypeCount(); row++) {
+            Record.Builder record = Record.newBuilder().setMetaData(metaData).setTransactionCommitMillis(recordBatch.getTransactionCommitMillis(row))
+                    .setDataChangeType(recordBatch.getDataChangeType(row));
+            for (int column = 0; column < columnCount; column++) {
+                String columnName = tableSchema.getColumnName(column);
+                record.addBefore(TableColumn.newBuilder().setName(columnName).setValue(beforeReaders.get(column).next()).build());
+                record.addAfter(TableColumn.newBuilder().setName(columnName).setValue(afterReaders.get(column).next()).build());
+            }
+            records.add(record.build());
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnVectorReader {
+        
+        private final CompactColumnVector vector;
+        
+        private int rowIndex;
+        
+        private int int32Index;
+        
+        private int int64Index;
+        
+        private int floatIndex;
+        
+        private int doubleIndex;
+        
+        private int stringIndex;
+        
+        private int boolIndex;
+        
+        private int bytesIndex;
+        
+        private int timestampIndex;
+        
+        private Any next() {
+            switch (vector.getValueType(rowIndex++)) {
+                case TYPE_INT32:
+                    return Any.pack(Int32Value.of(vector.getInt32Value(int32Index++)));
+                case TYPE_INT64:
+                    return Any.pack(Int64Value.of(vector.getInt64Value(int64Index++)));
+                case TYPE_FLOAT:
+                    return Any.pack(FloatValue.of(vector.getFloatValue(floatIndex++)));
+                case TYPE_DOUBLE:
+                    return Any.pack(DoubleValue.of(vector.getDoubleValue(doubleIndex++)));
+                case TYPE_STRING:
+                    return Any.pack(StringValue.of(vector.getStringValue(stringIndex++)));
+                case TYPE_BOOL:
+                    return Any.pack(BoolValue.of(vector.getBoolValue(boolIndex++)));
+                case TYPE_BYTES:
+                    return Any.pack(BytesValue.of(vector.getBytesValue(bytesIndex++)));
+                case TYPE_TIMESTAMP:
+                    return Any.pack(vector.getTimestampValue(timestampIndex++));
+                default:
+                    return NULL_VALUE;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactColumnVector.ValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactDataRecordResultConverterTest {
+    
+    @Test
+    void assertConvertToRecords() throws InvalidProtocolBufferException {
+        CompactTableSchema tableSchema = CompactTableSchema.newBuilder().setTableId(1).setDatabase("foo_db").setSchema("").setTable("t_order")
+                .addColumnName("order_id").addColumnName("status").build();
+        CompactColumnVector emptyVector = CompactColumnVector.newBuilder().addValueType(ValueType.TYPE_NULL).addValueType(ValueType.TYPE_NULL).build();
+        CompactRecordBatch recordBatch = CompactRecordBatch.newBuilder().setTableId(1).addDataChangeType(DataChangeType.INSERT).addDataChangeType(DataChangeType.INSERT)
+                .addTransactionCommitMillis(1L).addTransactionCommitMillis(2L).addBefore(emptyVector).addBefore(emptyVector)
+                .addAfter(CompactColumnVector.newBuilder().addValueType(ValueType.TYPE_INT32).addValueType(ValueType.TYPE_INT64).addInt32Value(1).addInt64Value(2L))
+                .addAfter(CompactColumnVector.newBuilder().addValueType(ValueType.TYPE_NULL).addValueType(ValueType.TYPE_STRING).addStringValue("ok")).build();
+        Map<Integer, CompactTableSchema> tableSchemas = new HashMap<>();
+        List<Record> actual = CompactDataRecordResultConverter.convertToRecords(
+                CompactDataRecordResult.newBuilder().addAckId("ack").addTableSchema(tableSchema).addRecordBatch(recordBatch).build(), tableSchemas);
+        assertThat(tableSchemas.get(1), is(tableSchema));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getMetaData().getTable(), is("t_order"));
+        assertThat(actual.get(0).getAfter(0).getName(), is("order_id"));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(0).getAfter(0).getValue()), is(1));
+        assertNull(ProtobufAnyValueConverter.convertToObject(actual.get(0).getAfter(1).getValue()));
+        assertNull(ProtobufAnyValueConverter.convertToObject(actual.get(0).getBefore(0).getValue()));
+        assertThat(actual.get(1).getTransactionCommitMillis(), is(2L));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(1).getAfter(0).getValue()), is(2L));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(1).getAfter(1).getValue()), is("ok"));
+    }
+    
+    @Test
+    void assertConvertToRecordsWithUnknownTableId() {
+        CompactDataRecordResult result = CompactDataRecordResult.newBuilder().addRecordBatch(CompactRecordBatch.newBuilder().setTableId(1)).build();
+        assertThrows(IllegalStateException.class, () -> CompactDataRecordResultConverter.convertToRecords(result, new HashMap<>()));
+    }
+}
@@ -21,5 +21,8 @@ package org.apache.shardingsphere.data.pipeline.cdc.constant;
  * CDC sink type.
  */
 public enum CDCSinkType {
-    SOCKET
+    
+    SOCKET,
+    
+    COMPACT_SOCKET
 }
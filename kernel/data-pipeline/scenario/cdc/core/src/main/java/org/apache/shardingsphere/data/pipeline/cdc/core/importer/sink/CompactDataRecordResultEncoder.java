@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import com.google.common.base.Strings;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactColumnVector.ValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.util.ColumnValueConvertUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compact data record result encoder.
+ *
+ * <p>Table schema is sent only once per stream, rows of the same table are packed into typed column vectors, and several ack batches are merged into one result.</p>
+ */
+@RequiredArgsConstructor
+public final class CompactDataRecordResultEncoder {
+    
+    private final String databaseName;
+    
+    private final Map<String, String> tableSchemaNameMap;
+    
+    private final AtomicInteger tableIdGenerator;
+    
+    private final Map<List<String>, Integer> tableIds = new HashMap<>();
+    
+    private CompactDataRecordResult.Builder pendingResult = CompactDataRecordResult.newBuilder();
+    
+    private CompactRecordBatch.Builder currentBatch;
+    
+    /**
+     * Append records of one ack batch.
+     *
+     * @param ackId ack ID
+     * @param records records
+     * @return appended data records count
+     */
+    public int append(final String ackId, final Collection<Record> records) {
+        int result = 0;
+        for (Record each : records) {
+            if (each instanceof DataRecord) {
+                appendDataRecord((DataRecord) each);
+                result++;
+            }
+        }
+        pendingResult.addAckId(ackId);
+        return result;
+    }
+    
+    private void appendDataRecord(final DataRecord dataRecord) {
+        int tableId = getTableId(dataRecord);
+        if (null == currentBatch || currentBatch.getTableId() != tableId) {
+            currentBatch = pendingResult.addRecordBatchBuilder().setTableId(tableId);
+            for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+                currentBatch.addBeforeBuilder();
+                currentBatch.addAfterBuilder();
+            }
+        }
+        currentBatch.addDataChangeType(DataRecordResultConvertUtils.getDataChangeType(dataRecord.getType())).addTransactionCommitMillis(dataRecord.getCommitTime());
+        int columnIndex = 0;
+        for (Column each : dataRecord.getColumns()) {
+            appendValue(currentBatch.getBeforeBuilder(columnIndex), each.getOldValue());
+            appendValue(currentBatch.getAfterBuilder(columnIndex), each.getValue());
+            columnIndex++;
+        }
+    }
+    
+    private int getTableId(final DataRecord dataRecord) {
+        String schemaName = Strings.nullToEmpty(tableSchemaNameMap.get(dataRecord.getTableName()));
+        List<String> tableKey = new ArrayList<>(dataRecord.getColumnCount() + 2);
+        tableKey.add(schemaName);
+        tableKey.add(dataRecord.getTableName());
+        for (Column each : dataRecord.getColumns()) {
+            tableKey.add(each.getName());
+        }
+        Integer result = tableIds.get(tableKey);
+        if (null != result) {
+            return result;
+        }
+        result = tableIdGenerator.incrementAndGet();
+        tableIds.put(tableKey, result);
+        pendingResult.addTableSchema(CompactTableSchema.newBuilder().setTableId(result).setDatabase(databaseName).setSchema(schemaName).setTable(dataRecord.getTableName())
+                .addAllColumnName(tableKey.subList(2, tableKey.size())).build());
+        return result;
+    }
+    
+    private void appendValue(final CompactColumnVector.Builder vector, final Object value) {
+        Message message = ColumnValueConvertUtils.convertToProtobufMessage(value);
+        if (message instanceof Empty) {
+            vector.addValueType(ValueType.TYPE_NULL);
+        } else if (message instanceof Int32Value) {
+            vector.addValueType(ValueType.TYPE_INT32).addInt32Value(((Int32Value) message).getValue());
+        } else if (message instanceof Int64Value) {
+            vector.addValueType(ValueType.TYPE_INT64).addInt64Value(((Int64Value) message).getValue());
+        } else if (message instanceof FloatValue) {
+            vector.addValueType(ValueType.TYPE_FLOAT).addFloatValue(((FloatValue) message).getValue());
+        } else if (message instanceof DoubleValue) {
+            vector.addValueType(ValueType.TYPE_DOUBLE).addDoubleValue(((DoubleValue) message).getValue());
+        } else if (message instanceof BoolValue) {
+            vector.addValueType(ValueType.TYPE_BOOL).addBoolValue(((BoolValue) message).getValue());
+        } else if (message instanceof BytesValue) {
+            vector.addValueType(ValueType.TYPE_BYTES).addBytesValue(((BytesValue) message).getValue());
+        } else if (message instanceof Timestamp) {
+            vector.addValueType(ValueType.TYPE_TIMESTAMP).addTimestampValue((Timestamp) message);
+        } else {
+            vector.addValueType(ValueType.TYPE_STRING).addStringValue(((StringValue) message).getValue());
+        }
+    }
+    
+    /**
+     * Get pending ack batches count.
+     *
+     * @return pending ack batches count
+     */
+    public int getPendingAckCount() {
+        return pendingResult.getAckIdCount();
+    }
+    
+    /**
+     * Build pending result and start a new one.
+     *
+     * @return compact data record result
+     */
+    public CompactDataRecordResult build() {
+        CompactDataRecordResult result = pendingResult.build();
+        pendingResult = CompactDataRecordResult.newBuilder();
+        currentBatch = null;
+        return result;
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
@@ -37,16 +39,23 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Pipeline CDC socket sink.
+ *
+ * <p>Ack batches are coalesced and flushed by the channel event loop, writer is woken up by channel writability changed events.</p>
  */
 public final class PipelineCDCSocketSink implements PipelineSink {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 100L;
+    private static final AttributeKey<AtomicInteger> TABLE_ID_GENERATOR_KEY = AttributeKey.valueOf("cdc.compact.table.id.generator");
+    
+    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 1000L;
+    
+    private static final int MAX_COALESCED_ACK_BATCHES = 64;
     
     private final Lock lock = new ReentrantLock();
     
@@ -59,7 +68,19 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableSchemaNameMap;
     
+    private final CompactDataRecordResultEncoder compactEncoder;
+    
+    private final Collection<DataRecordResult> pendingResults = new LinkedList<>();
+    
+    private boolean flushScheduled;
+    
+    private volatile boolean closed;
+    
     public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
+        this(channel, database, schemaTableNames, false);
+    }
+    
+    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames, final boolean compact) {
         this.channel = channel;
         this.database = database;
         tableSchemaNameMap = new HashMap<>(schemaTableNames.size(), 1F);
@@ -67,6 +88,13 @@ public final class PipelineCDCSocketSink implements PipelineSink {
             String[] split = each.split("\\.");
             tableSchemaNameMap.put(split[1], split[0]);
         });
+        compactEncoder = compact ? new CompactDataRecordResultEncoder(database.getName(), tableSchemaNameMap, getTableIdGenerator(channel)) : null;
+    }
+    
+    private static AtomicInteger getTableIdGenerator(final Channel channel) {
+        Attribute<AtomicInteger> attribute = channel.attr(TABLE_ID_GENERATOR_KEY);
+        attribute.setIfAbsent(new AtomicInteger());
+        return attribute.get();
     }
     
     @Override
@@ -74,47 +102,79 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         if (records.isEmpty()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
-        while (!channel.isWritable() && channel.isActive()) {
-            doAwait();
-        }
-        if (!channel.isActive()) {
-            return new PipelineJobProgressUpdatedParameter(0);
-        }
-        Collection<DataRecordResult.Record> resultRecords = getResultRecords(records);
-        DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
-        return new PipelineJobProgressUpdatedParameter(resultRecords.size());
-    }
-    
-    @SneakyThrows(InterruptedException.class)
-    private void doAwait() {
         lock.lock();
-        long startMillis = System.currentTimeMillis();
-        long endMillis = startMillis;
-        boolean awaitResult;
         try {
-            do {
-                awaitResult = condition.await(DEFAULT_TIMEOUT_MILLISECONDS - (endMillis - startMillis), TimeUnit.MILLISECONDS);
-                endMillis = System.currentTimeMillis();
-            } while (!awaitResult && DEFAULT_TIMEOUT_MILLISECONDS > endMillis - startMillis);
+            awaitWritable();
+            if (!channel.isActive()) {
+                return new PipelineJobProgressUpdatedParameter(0);
+            }
+            int result = null == compactEncoder ? appendDataRecordResult(ackId, records) : compactEncoder.append(ackId, records);
+            if (!flushScheduled) {
+                flushScheduled = true;
+                channel.eventLoop().execute(this::flush);
+            }
+            return new PipelineJobProgressUpdatedParameter(result);
         } finally {
             lock.unlock();
         }
     }
     
-    private Collection<DataRecordResult.Record> getResultRecords(final Collection<Record> records) {
-        Collection<DataRecordResult.Record> result = new LinkedList<>();
+    @SneakyThrows(InterruptedException.class)
+    private void awaitWritable() {
+        while ((!channel.isWritable() || getPendingAckCount() >= MAX_COALESCED_ACK_BATCHES) && channel.isActive() && !closed) {
+            condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private int getPendingAckCount() {
+        return null == compactEncoder ? pendingResults.size() : compactEncoder.getPendingAckCount();
+    }
+    
+    private int appendDataRecordResult(final String ackId, final Collection<Record> records) {
+        Collection<DataRecordResult.Record> resultRecords = new LinkedList<>();
         for (Record each : records) {
             if (each instanceof DataRecord) {
                 DataRecord dataRecord = (DataRecord) each;
-                result.add(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableSchemaNameMap.get(dataRecord.getTableName()), dataRecord));
+                resultRecords.add(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableSchemaNameMap.get(dataRecord.getTableName()), dataRecord));
+            }
+        }
+        pendingResults.add(DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build());
+        return resultRecords.size();
+    }
+    
+    private void flush() {
+        lock.lock();
+        try {
+            flushScheduled = false;
+            if (null == compactEncoder) {
+                pendingResults.forEach(each -> channel.write(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, each)));
+                pendingResults.clear();
+                channel.flush();
+            } else if (compactEncoder.getPendingAckCount() > 0) {
+                channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.COMPACT_DATA_RECORD_RESULT, compactEncoder.build()));
             }
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Notify channel writability changed.
+     */
+    public void notifyWritabilityChanged() {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
         }
-        return result;
     }
     
     @Override
     public void close() throws IOException {
+        closed = true;
+        notifyWritabilityChanged();
         channel.writeAndFlush(CDCResponseUtils.failed("", XOpenSQLState.GENERAL_ERROR.getValue(), "The socket channel is closed."));
     }
 }
@@ -121,7 +121,7 @@ public final class CDCBackendHandler {
         // TODO Add globalCSNSupported to isolate it with decodeWithTx flag, they're different. And also update CDCJobPreparer needSorting flag.
         boolean decodeWithTx = DatabaseTypedSPILoader.getService(DialectDatabaseMetaData.class, database.getProtocolType()).isSupportGlobalCSN();
         StreamDataParameter parameter = new StreamDataParameter(requestBody.getDatabase(), new ArrayList<>(schemaTableNames), requestBody.getFull(), actualDataNodesMap, decodeWithTx);
-        String jobId = jobAPI.create(parameter, CDCSinkType.SOCKET, new Properties());
+        String jobId = jobAPI.create(parameter, requestBody.getCompact() ? CDCSinkType.COMPACT_SOCKET : CDCSinkType.SOCKET, new Properties());
         connectionContext.setJobId(jobId);
         startStreaming(jobId, connectionContext, channel);
         return CDCResponseUtils.succeed(requestId, ResponseCase.STREAM_DATA_RESULT, StreamDataResult.newBuilder().setStreamingId(jobId).build());
@@ -139,7 +139,7 @@ public final class CDCBackendHandler {
         ShardingSpherePreconditions.checkNotNull(cdcJobConfig, () -> new PipelineJobNotFoundException(jobId));
         PipelineJobRegistry.stop(jobId);
         ShardingSphereDatabase database = PipelineContextManager.getProxyContext().getContextManager().getMetaDataContexts().getMetaData().getDatabase(cdcJobConfig.getDatabaseName());
-        jobAPI.start(jobId, new PipelineCDCSocketSink(channel, database, cdcJobConfig.getSchemaTableNames()));
+        jobAPI.start(jobId, new PipelineCDCSocketSink(channel, database, cdcJobConfig.getSchemaTableNames(), CDCSinkType.COMPACT_SOCKET == cdcJobConfig.getSinkConfig().getSinkType()));
         connectionContext.setJobId(jobId);
     }
     
@@ -165,6 +165,18 @@ public final class CDCBackendHandler {
         }
     }
     
+    /**
+     * Notify channel writability changed.
+     *
+     * @param jobId job ID
+     */
+    public void notifyWritabilityChanged(final String jobId) {
+        CDCJob job = (CDCJob) PipelineJobRegistry.get(jobId);
+        if (null != job && job.getSink() instanceof PipelineCDCSocketSink) {
+            ((PipelineCDCSocketSink) job.getSink()).notifyWritabilityChanged();
+        }
+    }
+    
     /**
      * Drop streaming.
      *
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactColumnVector.ValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CompactDataRecordResultEncoderTest {
+    
+    private final CompactDataRecordResultEncoder encoder = new CompactDataRecordResultEncoder("foo_db", Collections.singletonMap("t_order", "public"), new AtomicInteger());
+    
+    @Test
+    void assertBuildWithCoalescedAckBatches() {
+        assertThat(encoder.append("ack_1", Arrays.<Record>asList(createDataRecord(PipelineSQLOperationType.INSERT, 1, "foo"), createDataRecord(PipelineSQLOperationType.INSERT, 2, null))), is(2));
+        assertThat(encoder.append("ack_2", Collections.<Record>singletonList(createDataRecord(PipelineSQLOperationType.UPDATE, 3L, "bar"))), is(1));
+        assertThat(encoder.getPendingAckCount(), is(2));
+        CompactDataRecordResult actual = encoder.build();
+        assertThat(actual.getAckIdList(), is(Arrays.asList("ack_1", "ack_2")));
+        assertThat(actual.getTableSchemaCount(), is(1));
+        assertThat(actual.getTableSchema(0).getSchema(), is("public"));
+        assertThat(actual.getTableSchema(0).getColumnNameList(), is(Arrays.asList("order_id", "status")));
+        assertThat(actual.getRecordBatchCount(), is(1));
+        CompactRecordBatch actualBatch = actual.getRecordBatch(0);
+        assertThat(actualBatch.getDataChangeTypeList(), is(Arrays.asList(DataChangeType.INSERT, DataChangeType.INSERT, DataChangeType.UPDATE)));
+        CompactColumnVector actualOrderIds = actualBatch.getAfter(0);
+        assertThat(actualOrderIds.getValueTypeList(), is(Arrays.asList(ValueType.TYPE_INT32, ValueType.TYPE_INT32, ValueType.TYPE_INT64)));
+        assertThat(actualOrderIds.getInt32ValueList(), is(Arrays.asList(1, 2)));
+        assertThat(actualOrderIds.getInt64ValueList(), is(Collections.singletonList(3L)));
+        CompactColumnVector actualStatuses = actualBatch.getAfter(1);
+        assertThat(actualStatuses.getValueTypeList(), is(Arrays.asList(ValueType.TYPE_STRING, ValueType.TYPE_NULL, ValueType.TYPE_STRING)));
+        assertThat(actualStatuses.getStringValueList(), is(Arrays.asList("foo", "bar")));
+        assertThat(encoder.getPendingAckCount(), is(0));
+    }
+    
+    @Test
+    void assertBuildWithTableSchemaSentOnce() {
+        encoder.append("ack_1", Collections.<Record>singletonList(createDataRecord(PipelineSQLOperationType.INSERT, 1, "foo")));
+        assertThat(encoder.build().getTableSchemaCount(), is(1));
+        encoder.append("ack_2", Collections.<Record>singletonList(createDataRecord(PipelineSQLOperationType.DELETE, 1, "foo")));
+        CompactDataRecordResult actual = encoder.build();
+        assertThat(actual.getTableSchemaCount(), is(0));
+        assertThat(actual.getRecordBatch(0).getTableId(), is(1));
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final Object orderId, final String status) {
+        DataRecord result = new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new Column("order_id", orderId, false, true));
+        result.addColumn(new Column("status", status, false, false));
+        return result;
+    }
+}
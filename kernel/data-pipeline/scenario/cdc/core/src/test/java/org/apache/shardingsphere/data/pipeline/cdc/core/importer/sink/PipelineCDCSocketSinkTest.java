@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.util.Attribute;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -25,22 +28,33 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressUpdatedParameter;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PipelineCDCSocketSinkTest {
     
     @Test
     void assertWrite() throws IOException {
-        Channel mockChannel = mock(Channel.class);
+        Channel mockChannel = mockChannel();
         when(mockChannel.isWritable()).thenReturn(false, true);
-        when(mockChannel.isActive()).thenReturn(true);
         ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
         when(mockDatabase.getName()).thenReturn("test");
         try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"))) {
@@ -49,5 +63,94 @@ class PipelineCDCSocketSinkTest {
             actual = sink.write("ack", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
             assertThat(actual.getProcessedRecordsCount(), is(1));
         }
+        verify(mockChannel, times(2)).flush();
+    }
+    
+    @Test
+    void assertWriteWakenUpByWritabilityChanged() throws IOException, InterruptedException {
+        Channel mockChannel = mockChannel();
+        AtomicBoolean writable = new AtomicBoolean(false);
+        when(mockChannel.isWritable()).thenAnswer(invocation -> writable.get());
+        ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
+        when(mockDatabase.getName()).thenReturn("test");
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"))) {
+            AtomicReference<PipelineJobProgressUpdatedParameter> actual = new AtomicReference<>();
+            Thread writer = new Thread(() -> actual.set(sink.write("ack", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)))));
+            writer.start();
+            awaitWaiting(writer);
+            writable.set(true);
+            sink.notifyWritabilityChanged();
+            writer.join(500L);
+            assertFalse(writer.isAlive());
+            assertThat(actual.get().getProcessedRecordsCount(), is(1));
+        }
+        verify(mockChannel).flush();
+    }
+    
+    @Test
+    void assertWriteBlockedByPendingAckBatches() throws IOException, InterruptedException {
+        Channel mockChannel = mock(Channel.class);
+        when(mockChannel.isWritable()).thenReturn(true);
+        when(mockChannel.isActive()).thenReturn(true);
+        EventLoop eventLoop = mock(EventLoop.class);
+        List<Runnable> flushTasks = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> flushTasks.add(invocation.getArgument(0))).when(eventLoop).execute(any());
+        when(mockChannel.eventLoop()).thenReturn(eventLoop);
+        ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
+        when(mockDatabase.getName()).thenReturn("test");
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"))) {
+            for (int i = 0; i < 64; i++) {
+                sink.write("ack" + i, Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
+            }
+            Thread writer = new Thread(() -> sink.write("ack64", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1))));
+            writer.start();
+            awaitWaiting(writer);
+            assertThat(flushTasks.size(), is(1));
+            verify(mockChannel, never()).write(any());
+            flushTasks.get(0).run();
+            writer.join(500L);
+            assertFalse(writer.isAlive());
+        }
+        verify(mockChannel, times(64)).write(any());
+        assertThat(flushTasks.size(), is(2));
+    }
+    
+    private void awaitWaiting(final Thread thread) throws InterruptedException {
+        while (Thread.State.TIMED_WAITING != thread.getState()) {
+            Thread.sleep(10L);
+        }
+    }
+    
+    @Test
+    void assertWriteWithCompactEncoding() throws IOException {
+        Channel mockChannel = mockChannel();
+        @SuppressWarnings("unchecked")
+        Attribute<AtomicInteger> attribute = mock(Attribute.class);
+        when(attribute.get()).thenReturn(new AtomicInteger());
+        when(mockChannel.<AtomicInteger>attr(any())).thenReturn(attribute);
+        ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
+        when(mockDatabase.getName()).thenReturn("test");
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"), true)) {
+            PipelineJobProgressUpdatedParameter actual = sink.write("ack", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
+            assertThat(actual.getProcessedRecordsCount(), is(1));
+        }
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(mockChannel, times(2)).writeAndFlush(captor.capture());
+        CDCResponse actualResponse = (CDCResponse) captor.getAllValues().get(0);
+        assertThat(actualResponse.getCompactDataRecordResult().getAckIdList(), is(Collections.singletonList("ack")));
+        assertThat(actualResponse.getCompactDataRecordResult().getTableSchema(0).getTable(), is("t_order"));
+    }
+    
+    private Channel mockChannel() {
+        Channel result = mock(Channel.class);
+        when(result.isWritable()).thenReturn(true);
+        when(result.isActive()).thenReturn(true);
+        EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(eventLoop).execute(any());
+        when(result.eventLoop()).thenReturn(eventLoop);
+        return result;
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.generator;
 
 import com.google.protobuf.Message;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataResult;
@@ -65,6 +66,15 @@ class CDCResponseUtilsTest {
         assertNotNull(actualResponse.getStreamDataResult());
     }
     
+    @Test
+    void assertSucceedWhenResponseCaseCompactDataRecordResult() {
+        Message msg = CompactDataRecordResult.newBuilder().addAckId("ack_id_1").build();
+        CDCResponse actualResponse = CDCResponseUtils.succeed("request_id_1", CDCResponse.ResponseCase.COMPACT_DATA_RECORD_RESULT, msg);
+        assertThat(actualResponse.getStatus(), is(CDCResponse.Status.SUCCEED));
+        assertThat(actualResponse.getRequestId(), is("request_id_1"));
+        assertThat(actualResponse.getCompactDataRecordResult().getAckId(0), is("ack_id_1"));
+    }
+    
     @Test
     void assertFailed() {
         CDCResponse actualResponse = CDCResponseUtils.failed("request_id_1", XOpenSQLState.GENERAL_ERROR.getValue(), "Error");
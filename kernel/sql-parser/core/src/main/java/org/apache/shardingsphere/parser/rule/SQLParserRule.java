@@ -40,11 +40,18 @@ public final class SQLParserRule implements GlobalRule {
     
     private final String engineType;
     
+    private final boolean sqlFastPathParserEnabled;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
+        this(ruleConfig, false);
+    }
+    
+    public SQLParserRule(final SQLParserRuleConfiguration ruleConfig, final boolean sqlFastPathParserEnabled) {
         configuration = ruleConfig;
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
         engineType = "Standard";
+        this.sqlFastPathParserEnabled = sqlFastPathParserEnabled;
     }
     
     /**
@@ -55,7 +62,7 @@ public final class SQLParserRule implements GlobalRule {
      */
     public SQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
         return "Standard".equals(engineType)
-                ? new ShardingSphereSQLParserEngine(databaseType.getTrunkDatabaseType().orElse(databaseType), sqlStatementCache, parseTreeCache)
+                ? new ShardingSphereSQLParserEngine(databaseType.getTrunkDatabaseType().orElse(databaseType), sqlStatementCache, parseTreeCache, sqlFastPathParserEnabled)
                 : new SimpleSQLParserEngine();
     }
 }
@@ -29,6 +29,7 @@ import java.util.Properties;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class SQLParserRuleBuilderTest {
     
@@ -41,6 +42,7 @@ class SQLParserRuleBuilderTest {
         assertThat(actualResult.getSqlStatementCache().getMaximumSize(), is(7L));
         assertThat(actualResult.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actualResult.getParseTreeCache().getMaximumSize(), is(5L));
+        assertFalse(actualResult.isSqlFastPathParserEnabled());
     }
     
     @Test
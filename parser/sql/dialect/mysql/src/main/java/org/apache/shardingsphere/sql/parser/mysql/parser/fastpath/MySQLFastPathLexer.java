@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path lexer for MySQL.
+ * 
+ * <p>Only tokenizes a small subset of MySQL, any comment, escape sequence, double quoted text or operator out of the subset makes the SQL unrecognized.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class MySQLFastPathLexer {
+    
+    private static final String SYMBOLS = "(),.*=";
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @param sql SQL to be tokenized
+     * @return tokens, empty if SQL contains characters out of fast path subset
+     */
+    static Optional<List<MySQLFastPathToken>> tokenize(final String sql) {
+        List<MySQLFastPathToken> result = new ArrayList<>();
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (' ' == each || '\t' == each || '\r' == each || '\n' == each) {
+                index++;
+                continue;
+            }
+            int end;
+            MySQLFastPathTokenType type;
+            if (isIdentifierStart(each)) {
+                end = findWordEnd(sql, index);
+                type = MySQLFastPathTokenType.WORD;
+            } else if (isDigit(each)) {
+                end = findNumberEnd(sql, index);
+                type = MySQLFastPathTokenType.NUMBER;
+            } else if ('\'' == each) {
+                end = findQuotedEnd(sql, index, '\'');
+                type = MySQLFastPathTokenType.STRING;
+            } else if ('`' == each) {
+                end = findQuotedEnd(sql, index, '`');
+                type = MySQLFastPathTokenType.QUOTED_IDENTIFIER;
+            } else if ('?' == each) {
+                end = index + 1;
+                type = MySQLFastPathTokenType.PARAMETER_MARKER;
+            } else if (SYMBOLS.indexOf(each) >= 0) {
+                end = index + 1;
+                type = MySQLFastPathTokenType.SYMBOL;
+            } else {
+                return Optional.empty();
+            }
+            if (end < 0) {
+                return Optional.empty();
+            }
+            result.add(new MySQLFastPathToken(type, sql.substring(index, end), index, end - 1));
+            index = end;
+        }
+        return Optional.of(result);
+    }
+    
+    private static boolean isIdentifierStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch || '$' == ch;
+    }
+    
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private static int findWordEnd(final String sql, final int start) {
+        int result = start + 1;
+        while (result < sql.length() && (isIdentifierStart(sql.charAt(result)) || isDigit(sql.charAt(result)))) {
+            result++;
+        }
+        return result < sql.length() && sql.charAt(result) > 127 ? -1 : result;
+    }
+    
+    private static int findNumberEnd(final String sql, final int start) {
+        int result = findDigitsEnd(sql, start);
+        if (result < sql.length() && '.' == sql.charAt(result)) {
+            int fractionEnd = findDigitsEnd(sql, result + 1);
+            if (fractionEnd == result + 1) {
+                return -1;
+            }
+            result = fractionEnd;
+        }
+        return result < sql.length() && (isIdentifierStart(sql.charAt(result)) || '.' == sql.charAt(result) || sql.charAt(result) > 127) ? -1 : result;
+    }
+    
+    private static int findDigitsEnd(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int findQuotedEnd(final String sql, final int start, final char quote) {
+        for (int i = start + 1; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if ('\\' == each || Character.isSurrogate(each)) {
+                return -1;
+            }
+            if (quote == each) {
+                return i + 1 < sql.length() && quote == sql.charAt(i + 1) || i == start + 1 && '`' == quote ? -1 : i + 1;
+            }
+        }
+        return -1;
+    }
+}
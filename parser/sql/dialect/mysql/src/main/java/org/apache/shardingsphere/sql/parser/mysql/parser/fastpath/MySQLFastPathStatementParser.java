@@ -0,0 +1,437 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path statement parser for MySQL.
+ * 
+ * <p>Recognizes single table SELECT, UPDATE and DELETE with equality predicates joined by AND, and INSERT with VALUES.
+ * Segments are built with the same types, indexes and parameter marker order as MySQL statement visitor does.</p>
+ */
+@RequiredArgsConstructor
+final class MySQLFastPathStatementParser {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "ACCESSIBLE", "ADD", "ALL", "ALTER", "ANALYZE", "AND", "AS", "ASC", "ASENSITIVE", "BEFORE", "BETWEEN", "BIGINT", "BINARY", "BLOB", "BOTH", "BY", "CALL", "CASCADE", "CASE",
+            "CHANGE", "CHAR", "CHARACTER", "CHECK", "COLLATE", "COLUMN", "CONDITION", "CONSTRAINT", "CONTINUE", "CONVERT", "CREATE", "CROSS", "CUBE", "CUME_DIST", "CURRENT_DATE",
+            "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "CURSOR", "DATABASE", "DATABASES", "DAY_HOUR", "DAY_MICROSECOND", "DAY_MINUTE", "DAY_SECOND", "DEC", "DECIMAL", "DECLARE",
+            "DEFAULT", "DELAYED", "DELETE", "DENSE_RANK", "DESC", "DESCRIBE", "DETERMINISTIC", "DISTINCT", "DISTINCTROW", "DIV", "DOUBLE", "DROP", "DUAL", "EACH", "ELSE", "ELSEIF", "EMPTY",
+            "ENCLOSED", "ESCAPED", "EXCEPT", "EXISTS", "EXIT", "EXPLAIN", "FALSE", "FETCH", "FIRST_VALUE", "FLOAT", "FLOAT4", "FLOAT8", "FOR", "FORCE", "FOREIGN", "FROM", "FULLTEXT",
+            "FUNCTION", "GENERATED", "GET", "GRANT", "GROUP", "GROUPING", "GROUPS", "HAVING", "HIGH_PRIORITY", "HOUR_MICROSECOND", "HOUR_MINUTE", "HOUR_SECOND", "IF", "IGNORE", "IN",
+            "INDEX", "INFILE", "INNER", "INOUT", "INSENSITIVE", "INSERT", "INT", "INT1", "INT2", "INT3", "INT4", "INT8", "INTEGER", "INTERSECT", "INTERVAL", "INTO", "IO_AFTER_GTIDS",
+            "IO_BEFORE_GTIDS", "IS", "ITERATE", "JOIN", "JSON_TABLE", "KEY", "KEYS", "KILL", "LAG", "LAST_VALUE", "LATERAL", "LEAD", "LEADING", "LEAVE", "LEFT", "LIKE", "LIMIT", "LINEAR",
+            "LINES", "LOAD", "LOCALTIME", "LOCALTIMESTAMP", "LOCK", "LONG", "LONGBLOB", "LONGTEXT", "LOOP", "LOW_PRIORITY", "MANUAL", "MASTER_BIND", "MASTER_SSL_VERIFY_SERVER_CERT", "MATCH",
+            "MAXVALUE", "MEDIUMBLOB", "MEDIUMINT", "MEDIUMTEXT", "MIDDLEINT", "MINUTE_MICROSECOND", "MINUTE_SECOND", "MOD", "MODIFIES", "NATURAL", "NOT", "NO_WRITE_TO_BINLOG", "NTH_VALUE",
+            "NTILE", "NULL", "NUMERIC", "OF", "ON", "OPTIMIZE", "OPTIMIZER_COSTS", "OPTION", "OPTIONALLY", "OR", "ORDER", "OUT", "OUTER", "OUTFILE", "OVER", "PARALLEL", "PARTITION",
+            "PERCENT_RANK", "PRECISION", "PRIMARY", "PROCEDURE", "PURGE", "QUALIFY", "RANGE", "RANK", "READ", "READS", "READ_WRITE", "REAL", "RECURSIVE", "REFERENCES", "REGEXP", "RELEASE",
+            "RENAME", "REPEAT", "REPLACE", "REQUIRE", "RESIGNAL", "RESTRICT", "RETURN", "REVOKE", "RIGHT", "RLIKE", "ROW", "ROWS", "ROW_NUMBER", "SCHEMA", "SCHEMAS", "SECOND_MICROSECOND",
+            "SELECT", "SENSITIVE", "SEPARATOR", "SET", "SHOW", "SIGNAL", "SMALLINT", "SPATIAL", "SPECIFIC", "SQL", "SQLEXCEPTION", "SQLSTATE", "SQLWARNING", "SQL_BIG_RESULT",
+            "SQL_CALC_FOUND_ROWS", "SQL_SMALL_RESULT", "SSL", "STARTING", "STORED", "STRAIGHT_JOIN", "SYSTEM", "TABLE", "TABLESAMPLE", "TERMINATED", "THEN", "TINYBLOB", "TINYINT",
+            "TINYTEXT", "TO", "TRAILING", "TRIGGER", "TRUE", "UNDO", "UNION", "UNIQUE", "UNLOCK", "UNSIGNED", "UPDATE", "USAGE", "USE", "USING", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP",
+            "VALUES", "VARBINARY", "VARCHAR", "VARCHARACTER", "VARYING", "VIRTUAL", "WHEN", "WHERE", "WHILE", "WINDOW", "WITH", "WRITE", "XOR", "YEAR_MONTH", "ZEROFILL"));
+    
+    private static final Collection<String> AMBIGUOUS_KEYWORDS = new HashSet<>(Arrays.asList(
+            "DATE", "LAST_DAY", "QUICK", "SQL_BUFFER_RESULT", "SQL_NO_CACHE", "TIME", "TIMESTAMP", "UNKNOWN", "VALUE"));
+    
+    private final String sql;
+    
+    private final List<MySQLFastPathToken> tokens;
+    
+    private final Collection<ParameterMarkerSegment> parameterMarkerSegments = new LinkedList<>();
+    
+    private int position;
+    
+    /**
+     * Parse SQL statement.
+     *
+     * @return SQL statement, empty if tokens are not recognized
+     */
+    Optional<SQLStatement> parse() {
+        SQLStatement result = parseStatement();
+        return null == result || position != tokens.size() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private SQLStatement parseStatement() {
+        if (isKeyword("SELECT")) {
+            return parseSelect();
+        }
+        if (isKeyword("INSERT")) {
+            return parseInsert();
+        }
+        if (isKeyword("UPDATE")) {
+            return parseUpdate();
+        }
+        if (isKeyword("DELETE")) {
+            return parseDelete();
+        }
+        return null;
+    }
+    
+    private MySQLSelectStatement parseSelect() {
+        position++;
+        ProjectionsSegment projections = parseProjections();
+        if (null == projections || !acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(projections);
+        result.setFrom(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        Collection<ProjectionSegment> projections = new LinkedList<>();
+        int startIndex = peekStartIndex();
+        int stopIndex;
+        if (isSymbol('*')) {
+            MySQLFastPathToken asterisk = tokens.get(position++);
+            projections.add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+            stopIndex = asterisk.getStopIndex();
+        } else {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            projections.add(new ColumnProjectionSegment(column));
+            stopIndex = column.getStopIndex();
+        }
+        while (acceptSymbol(',')) {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            projections.add(new ColumnProjectionSegment(column));
+            stopIndex = column.getStopIndex();
+        }
+        ProjectionsSegment result = new ProjectionsSegment(startIndex, stopIndex);
+        result.getProjections().addAll(projections);
+        return result;
+    }
+    
+    private MySQLInsertStatement parseInsert() {
+        position++;
+        if (!acceptKeyword("INTO")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        InsertColumnsSegment insertColumns = parseInsertColumns();
+        if (null == insertColumns || !acceptKeyword("VALUES") && !acceptKeyword("VALUE")) {
+            return null;
+        }
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.setInsertColumns(insertColumns);
+        do {
+            InsertValuesSegment values = parseInsertValues();
+            if (null == values) {
+                return null;
+            }
+            result.getValues().add(values);
+        } while (acceptSymbol(','));
+        result.setTable(table);
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        if (!isSymbol('(')) {
+            return position < tokens.size() ? new InsertColumnsSegment(peekStartIndex() - 1, peekStartIndex() - 1, Collections.emptyList()) : null;
+        }
+        int startIndex = tokens.get(position++).getStartIndex();
+        List<ColumnSegment> columns = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            columns.add(column);
+        } while (acceptSymbol(','));
+        if (!isSymbol(')')) {
+            return null;
+        }
+        return new InsertColumnsSegment(startIndex, tokens.get(position++).getStopIndex(), columns);
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        if (!isSymbol('(')) {
+            return null;
+        }
+        int startIndex = tokens.get(position++).getStartIndex();
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (acceptSymbol(','));
+        if (!isSymbol(')')) {
+            return null;
+        }
+        return new InsertValuesSegment(startIndex, tokens.get(position++).getStopIndex(), values);
+    }
+    
+    private MySQLUpdateStatement parseUpdate() {
+        position++;
+        SimpleTableSegment table = parseTableName();
+        if (null == table || !isKeyword("SET")) {
+            return null;
+        }
+        int startIndex = tokens.get(position++).getStartIndex();
+        Collection<ColumnAssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnAssignmentSegment assignment = parseAssignment();
+            if (null == assignment) {
+                return null;
+            }
+            assignments.add(assignment);
+        } while (acceptSymbol(','));
+        MySQLUpdateStatement result = new MySQLUpdateStatement();
+        result.setTable(table);
+        result.setSetAssignment(new SetAssignmentSegment(startIndex, tokens.get(position - 1).getStopIndex(), assignments));
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return result;
+    }
+    
+    private ColumnAssignmentSegment parseAssignment() {
+        ColumnSegment column = parseColumn();
+        if (null == column || !acceptSymbol('=')) {
+            return null;
+        }
+        ExpressionSegment value = parseValue();
+        if (null == value) {
+            return null;
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(column);
+        return new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value);
+    }
+    
+    private MySQLDeleteStatement parseDelete() {
+        position++;
+        if (!acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        MySQLDeleteStatement result = new MySQLDeleteStatement();
+        result.setTable(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return result;
+    }
+    
+    private WhereSegment parseWhere() {
+        int startIndex = tokens.get(position++).getStartIndex();
+        ExpressionSegment left = parseComparison();
+        if (null == left) {
+            return null;
+        }
+        while (isKeyword("AND")) {
+            String operator = tokens.get(position++).getText();
+            ExpressionSegment right = parseComparison();
+            if (null == right) {
+                return null;
+            }
+            left = createBinaryOperationExpression(left, right, operator);
+        }
+        return new WhereSegment(startIndex, left.getStopIndex(), left);
+    }
+    
+    private ExpressionSegment parseComparison() {
+        ColumnSegment column = parseColumn();
+        if (null == column || !acceptSymbol('=')) {
+            return null;
+        }
+        ExpressionSegment value = parseValue();
+        return null == value ? null : createBinaryOperationExpression(column, value, "=");
+    }
+    
+    private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
+        return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator, sql.substring(left.getStartIndex(), right.getStopIndex() + 1));
+    }
+    
+    private ExpressionSegment parseValue() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        MySQLFastPathToken token = tokens.get(position);
+        switch (token.getType()) {
+            case PARAMETER_MARKER:
+                position++;
+                ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(
+                        token.getStartIndex(), token.getStopIndex(), parameterMarkerSegments.size(), ParameterMarkerType.QUESTION);
+                parameterMarkerSegments.add(result);
+                return result;
+            case NUMBER:
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case STRING:
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                return null;
+        }
+    }
+    
+    private SimpleTableSegment parseTableName() {
+        MySQLFastPathToken first = nextIdentifier();
+        if (null == first) {
+            return null;
+        }
+        if (!acceptSymbol('.')) {
+            return new SimpleTableSegment(new TableNameSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        }
+        MySQLFastPathToken second = nextIdentifier();
+        if (null == second) {
+            return null;
+        }
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(second.getStartIndex(), second.getStopIndex(), new IdentifierValue(second.getText())));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private ColumnSegment parseColumn() {
+        MySQLFastPathToken first = nextIdentifier();
+        if (null == first) {
+            return null;
+        }
+        if (!acceptSymbol('.')) {
+            return new ColumnSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText()));
+        }
+        MySQLFastPathToken second = nextIdentifier();
+        if (null == second) {
+            return null;
+        }
+        ColumnSegment result = new ColumnSegment(first.getStartIndex(), second.getStopIndex(), new IdentifierValue(second.getText()));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private MySQLFastPathToken nextIdentifier() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        MySQLFastPathToken token = tokens.get(position);
+        boolean identifier = MySQLFastPathTokenType.QUOTED_IDENTIFIER == token.getType()
+                || MySQLFastPathTokenType.WORD == token.getType() && isUnreservedWord(token.getText().toUpperCase());
+        if (!identifier) {
+            return null;
+        }
+        position++;
+        return token;
+    }
+    
+    private boolean isUnreservedWord(final String upperCaseWord) {
+        return !RESERVED_WORDS.contains(upperCaseWord) && !AMBIGUOUS_KEYWORDS.contains(upperCaseWord);
+    }
+    
+    private int peekStartIndex() {
+        return position < tokens.size() ? tokens.get(position).getStartIndex() : -1;
+    }
+    
+    private boolean isKeyword(final String keyword) {
+        return position < tokens.size() && MySQLFastPathTokenType.WORD == tokens.get(position).getType() && keyword.equalsIgnoreCase(tokens.get(position).getText());
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (isKeyword(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean isSymbol(final char symbol) {
+        return position < tokens.size() && MySQLFastPathTokenType.SYMBOL == tokens.get(position).getType() && symbol == tokens.get(position).getText().charAt(0);
+    }
+    
+    private boolean acceptSymbol(final char symbol) {
+        if (isSymbol(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.sql.parser.api.visitor.statement.type.DMLStatem
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.CallContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.DoStatementContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.HandlerStatementContext;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.IdentifierContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.ImportStatementContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.IndexHintContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.LoadDataStatementContext;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.Windowi
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.WindowItemContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.WindowSpecificationContext;
 import org.apache.shardingsphere.sql.parser.mysql.visitor.statement.MySQLStatementVisitor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.FunctionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.complex.CommonExpressionSegment;
@@ -42,6 +44,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.WindowSeg
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.IndexHintSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLCallStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDoStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLHandlerStatement;
@@ -90,7 +93,21 @@ public final class MySQLDMLStatementVisitor extends MySQLStatementVisitor implem
     
     @Override
     public ASTNode visitLoadDataStatement(final LoadDataStatementContext ctx) {
-        return new MySQLLoadDataStatement((SimpleTableSegment) visit(ctx.tableName()));
+        MySQLLoadDataStatement result = new MySQLLoadDataStatement((SimpleTableSegment) visit(ctx.tableName()));
+        if (null != ctx.fieldOrVarSpec()) {
+            for (IdentifierContext each : ctx.fieldOrVarSpec().identifier()) {
+                result.getColumns().add(new ColumnSegment(each.start.getStartIndex(), each.stop.getStopIndex(), (IdentifierValue) visit(each)));
+            }
+        }
+        result.setLocal(null != ctx.LOCAL());
+        result.setFileName(((StringLiteralValue) visit(ctx.string_())).getValue());
+        result.setDefaultOptions(isDefaultLoadDataOptions(ctx));
+        return result;
+    }
+    
+    private boolean isDefaultLoadDataOptions(final LoadDataStatementContext ctx) {
+        return null == ctx.REPLACE() && ctx.IGNORE().isEmpty() && null == ctx.partitionNames() && null == ctx.CHARACTER() && null == ctx.COLUMNS() && ctx.LINES().isEmpty()
+                && null == ctx.setAssignmentsClause();
     }
     
     @Override
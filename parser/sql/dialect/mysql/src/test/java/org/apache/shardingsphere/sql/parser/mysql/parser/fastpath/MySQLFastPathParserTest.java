@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLFastPathParserTest {
+    
+    private final SQLParserEngine parserEngine = new SQLParserEngine("MySQL", new CacheOption(128, 1024L));
+    
+    private final SQLStatementVisitorEngine visitorEngine = new SQLStatementVisitorEngine("MySQL");
+    
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(RecognizedSQLArgumentsProvider.class)
+    void assertParseSameAsVisitor(final String sql) throws IllegalAccessException {
+        Optional<SQLStatement> actual = new MySQLFastPathParser().parse(sql);
+        assertTrue(actual.isPresent());
+        assertSameStructure(actual.get(), visitorEngine.visit(parserEngine.parse(sql, false)), "statement");
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(UnrecognizedSQLArgumentsProvider.class)
+    void assertParseUnrecognizedSQL(final String sql) {
+        assertFalse(new MySQLFastPathParser().parse(sql).isPresent());
+    }
+    
+    private void assertSameStructure(final Object actual, final Object expected, final String path) throws IllegalAccessException {
+        if (null == expected) {
+            assertThat(path, actual, nullValue());
+            return;
+        }
+        assertThat(path, null == actual ? null : actual.getClass(), is(expected.getClass()));
+        if (expected instanceof CharSequence || expected instanceof Number || expected instanceof Boolean || expected instanceof Enum) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        if (expected instanceof Collection) {
+            assertThat(path + ".size", ((Collection<?>) actual).size(), is(((Collection<?>) expected).size()));
+            Iterator<?> actualIterator = ((Collection<?>) actual).iterator();
+            int index = 0;
+            for (Object each : (Collection<?>) expected) {
+                assertSameStructure(actualIterator.next(), each, path + "[" + index++ + "]");
+            }
+            return;
+        }
+        for (Class<?> type = expected.getClass(); Object.class != type; type = type.getSuperclass()) {
+            for (Field each : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    assertSameStructure(Plugins.getMemberAccessor().get(each, actual), Plugins.getMemberAccessor().get(each, expected), path + "." + each.getName());
+                }
+            }
+        }
+    }
+    
+    private static class RecognizedSQLArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            return Stream.of(
+                    Arguments.of("SELECT * FROM t_order"),
+                    Arguments.of("SELECT * FROM t_order WHERE order_id = ?"),
+                    Arguments.of("select order_id, t_order.user_id, `status` from sharding_db.t_order where user_id = 10 and order_id = ? AND `status` = 'OK'"),
+                    Arguments.of("SELECT\n\torder_id\nFROM t_order WHERE\r\n status = '中文' AND order_id = 1.5 AND user_id = 12345678901"),
+                    Arguments.of("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)"),
+                    Arguments.of("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 2, 'init'), (?, ?, ?)"),
+                    Arguments.of("insert into t_order value (1, ?, 'init')"),
+                    Arguments.of("UPDATE t_order SET status = ?, user_id = 2 WHERE order_id = ? AND user_id = 1"),
+                    Arguments.of("UPDATE sharding_db.t_order SET t_order.status = 'finished'"),
+                    Arguments.of("DELETE FROM t_order WHERE order_id = ?"),
+                    Arguments.of("UPDATE t_order SET `rank` = ? WHERE `key` = ?"),
+                    Arguments.of("DELETE FROM t_order"));
+        }
+    }
+    
+    private static class UnrecognizedSQLArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            return Stream.of(
+                    Arguments.of("SHOW TABLES"),
+                    Arguments.of("SELECT COUNT(*) FROM t_order"),
+                    Arguments.of("SELECT CURRENT_TIMESTAMP FROM t_order"),
+                    Arguments.of("SELECT * FROM t_order o WHERE o.order_id = 1"),
+                    Arguments.of("SELECT * FROM t_order WHERE order_id > 1"),
+                    Arguments.of("SELECT * FROM t_order WHERE order_id = 1 OR user_id = 2"),
+                    Arguments.of("SELECT * FROM t_order WHERE order_id = -1"),
+                    Arguments.of("SELECT * FROM t_order WHERE order_id = 1e5"),
+                    Arguments.of("SELECT * FROM t_order WHERE status = 'it''s'"),
+                    Arguments.of("SELECT * FROM t_order WHERE status = N'a'"),
+                    Arguments.of("SELECT * FROM t_order WHERE order_id = 1 /* comment */"),
+                    Arguments.of("SELECT * FROM t_order WHERE order_id = 1;"),
+                    Arguments.of("SELECT * FROM t_order LIMIT 1"),
+                    Arguments.of("UPDATE IGNORE t_order SET status = 'a'"),
+                    Arguments.of("SELECT * FROM t_order WHERE key = 1"),
+                    Arguments.of("UPDATE t_order SET rank = 1 WHERE order_id = 1"),
+                    Arguments.of("DELETE FROM t_order WHERE date = '2023-01-01'"),
+                    Arguments.of("INSERT INTO t_order SELECT * FROM t_order_item"),
+                    Arguments.of("INSERT INTO t_order (order_id) VALUES (1) ON DUPLICATE KEY UPDATE order_id = 2"));
+        }
+    }
+}
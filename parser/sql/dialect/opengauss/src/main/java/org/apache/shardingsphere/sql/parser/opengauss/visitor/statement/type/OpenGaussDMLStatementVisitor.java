@@ -21,13 +21,16 @@ import org.apache.shardingsphere.sql.parser.api.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.statement.type.DMLStatementVisitor;
 import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.CallContext;
 import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.CheckpointContext;
+import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.ColumnElemContext;
 import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.CopyContext;
 import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.DoStatementContext;
 import org.apache.shardingsphere.sql.parser.autogen.OpenGaussStatementParser.ReturningClauseContext;
 import org.apache.shardingsphere.sql.parser.opengauss.visitor.statement.OpenGaussStatementVisitor;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.ReturningSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCallStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCheckpointStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCopyStatement;
@@ -53,10 +56,22 @@ public final class OpenGaussDMLStatementVisitor extends OpenGaussStatementVisito
         OpenGaussCopyStatement result = new OpenGaussCopyStatement();
         if (null != ctx.qualifiedName()) {
             result.setTableSegment((SimpleTableSegment) visit(ctx.qualifiedName()));
+            if (null != ctx.columnList()) {
+                for (ColumnElemContext each : ctx.columnList().columnElem()) {
+                    result.getColumns().add(new ColumnSegment(each.start.getStartIndex(), each.stop.getStopIndex(), new IdentifierValue(each.colId().getText())));
+                }
+            }
+            result.setFromStdin(null != ctx.FROM() && null != ctx.STDIN());
+            result.setDefaultOptions(isDefaultCopyOptions(ctx));
         }
         return result;
     }
     
+    private boolean isDefaultCopyOptions(final CopyContext ctx) {
+        return null == ctx.BINARY() && null == ctx.PROGRAM() && null == ctx.copyDelimiter() && null == ctx.whereClause()
+                && null != ctx.copyOptions().copyOptList() && ctx.copyOptions().copyOptList().copyOptItem().isEmpty();
+    }
+    
     @Override
     public ASTNode visitCheckpoint(final CheckpointContext ctx) {
         return new OpenGaussCheckpointStatement();
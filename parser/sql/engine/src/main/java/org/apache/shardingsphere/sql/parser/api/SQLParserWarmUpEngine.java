@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+
+import java.util.Collection;
+
+/**
+ * SQL parser warm up engine.
+ * 
+ * <p>ANTLR shares ATN configurations and DFA states of a grammar across all parser instances of the same JVM,
+ * so parsing representative SQL once fills these caches before real traffic arrives.</p>
+ */
+public final class SQLParserWarmUpEngine {
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    public SQLParserWarmUpEngine(final DatabaseType databaseType) {
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+    }
+    
+    public SQLParserWarmUpEngine(final String databaseType) {
+        this(TypedSPILoader.getService(DatabaseType.class, databaseType));
+    }
+    
+    /**
+     * Warm up SQL parser.
+     *
+     * @param sqls SQLs to be parsed
+     * @return count of parsed SQLs
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                sqlParserExecutor.parse(each);
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ignored) {
+                // CHECKSTYLE:ON
+            }
+        }
+        return result;
+    }
+}
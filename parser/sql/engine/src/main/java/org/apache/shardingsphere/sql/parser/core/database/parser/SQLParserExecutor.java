@@ -64,10 +64,13 @@ public final class SQLParserExecutor {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
             ((Parser) sqlParser).removeErrorListeners();
             ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
+            long startNanos = System.nanoTime();
             try {
                 return (ParseASTNode) sqlParser.parse();
             } catch (final ParseCancellationException e) {
                 throw new SQLParsingException(sql + ", " + e.getMessage());
+            } finally {
+                SQLParserFallbackStatistics.recordLLFallback(System.nanoTime() - startNanos);
             }
         }
     }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL parser fallback statistics.
+ * 
+ * <p>Records how often and how long two phase parse falls back from SLL to full context LL prediction mode.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserFallbackStatistics {
+    
+    private static final LongAdder LL_FALLBACK_COUNT = new LongAdder();
+    
+    private static final LongAdder LL_FALLBACK_NANOS = new LongAdder();
+    
+    /**
+     * Record LL fallback.
+     *
+     * @param elapsedNanos elapsed nanos of LL parse
+     */
+    public static void recordLLFallback(final long elapsedNanos) {
+        LL_FALLBACK_COUNT.increment();
+        LL_FALLBACK_NANOS.add(elapsedNanos);
+    }
+    
+    /**
+     * Get count of LL fallback.
+     *
+     * @return count of LL fallback
+     */
+    public static long getLLFallbackCount() {
+        return LL_FALLBACK_COUNT.sum();
+    }
+    
+    /**
+     * Get time spent in LL fallback.
+     *
+     * @return time spent in LL fallback in millis
+     */
+    public static long getLLFallbackMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(LL_FALLBACK_NANOS.sum());
+    }
+}
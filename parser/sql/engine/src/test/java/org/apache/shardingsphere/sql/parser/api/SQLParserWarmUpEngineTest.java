@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLParserWarmUpEngineTest {
+    
+    @Test
+    void assertWarmUp() throws ReflectiveOperationException {
+        SQLParserExecutor sqlParserExecutor = mock(SQLParserExecutor.class);
+        when(sqlParserExecutor.parse("SELECT 1")).thenReturn(mock(ParseASTNode.class));
+        when(sqlParserExecutor.parse("invalid")).thenThrow(new SQLParsingException("invalid"));
+        SQLParserWarmUpEngine warmUpEngine = new SQLParserWarmUpEngine("FIXTURE");
+        Plugins.getMemberAccessor().set(warmUpEngine.getClass().getDeclaredField("sqlParserExecutor"), warmUpEngine, sqlParserExecutor);
+        assertThat(warmUpEngine.warmUp(Arrays.asList("SELECT 1", "invalid", "SELECT 1")), is(2));
+        verify(sqlParserExecutor).parse("invalid");
+    }
+}
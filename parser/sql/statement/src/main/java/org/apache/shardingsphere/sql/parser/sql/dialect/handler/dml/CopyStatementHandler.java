@@ -23,6 +23,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.Column
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.prepare.PrepareStatementQuerySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.SQLStatementHandler;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.OpenGaussStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCopyStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.PostgreSQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
 
@@ -59,6 +61,9 @@ public final class CopyStatementHandler implements SQLStatementHandler {
         if (copyStatement instanceof PostgreSQLStatement) {
             return ((PostgreSQLCopyStatement) copyStatement).getColumns();
         }
+        if (copyStatement instanceof OpenGaussStatement) {
+            return ((OpenGaussCopyStatement) copyStatement).getColumns();
+        }
         return Collections.emptyList();
     }
 }
@@ -19,17 +19,31 @@ package org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.MySQLStatement;
 
+import java.util.Collection;
+import java.util.LinkedList;
+
 /**
  * MySQL load data statement.
  */
 @RequiredArgsConstructor
 @Getter
+@Setter
 public final class MySQLLoadDataStatement extends AbstractSQLStatement implements DMLStatement, MySQLStatement {
     
     private final SimpleTableSegment tableSegment;
+    
+    private final Collection<ColumnSegment> columns = new LinkedList<>();
+    
+    private boolean local;
+    
+    private String fileName;
+    
+    private boolean defaultOptions;
 }
@@ -17,11 +17,25 @@
 
 package org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml;
 
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.OpenGaussStatement;
 
+import java.util.Collection;
+import java.util.LinkedList;
+
 /**
  * OpenGauss copy statement.
  */
+@Getter
+@Setter
 public final class OpenGaussCopyStatement extends CopyStatement implements OpenGaussStatement {
+    
+    private final Collection<ColumnSegment> columns = new LinkedList<>();
+    
+    private boolean fromStdin;
+    
+    private boolean defaultOptions;
 }
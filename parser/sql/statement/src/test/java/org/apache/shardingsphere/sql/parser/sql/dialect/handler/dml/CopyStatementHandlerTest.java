@@ -74,7 +74,16 @@ class CopyStatementHandlerTest {
     }
     
     @Test
-    void assertGetColumnsForOpenGauss() {
+    void assertGetColumnsWithSegmentForOpenGauss() {
+        OpenGaussCopyStatement copyStatement = new OpenGaussCopyStatement();
+        copyStatement.getColumns().add(new ColumnSegment(0, 2, new IdentifierValue("identifier")));
+        Collection<ColumnSegment> actual = CopyStatementHandler.getColumns(copyStatement);
+        assertFalse(actual.isEmpty());
+        assertThat(actual, is(copyStatement.getColumns()));
+    }
+    
+    @Test
+    void assertGetColumnsWithoutSegmentForOpenGauss() {
         assertTrue(CopyStatementHandler.getColumns(new OpenGaussCopyStatement()).isEmpty());
     }
 }
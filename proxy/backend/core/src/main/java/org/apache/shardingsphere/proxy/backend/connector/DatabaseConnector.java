@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.connection.refresher.MetaDataRefreshEngin
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.SQLExceptionTransformEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -43,6 +44,7 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecuti
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
@@ -80,9 +82,12 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -93,6 +98,10 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class DatabaseConnector implements DatabaseBackendHandler {
     
+    private static final Collection<Integer> TEXT_PASSTHROUGH_COLUMN_TYPES = new HashSet<>(Arrays.asList(
+            Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR,
+            Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.DECIMAL, Types.NUMERIC, Types.DATE, Types.TIME, Types.TIMESTAMP));
+    
     private final ProxySQLExecutor proxySQLExecutor;
     
     private final Collection<Statement> cachedStatements = Collections.newSetFromMap(new ConcurrentHashMap<>());
@@ -113,6 +122,10 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private MergedResult mergedResult;
     
+    private List<Class<?>> textValueTypes;
+    
+    private CompletionOrderExecuteResult<?> completionOrderExecuteResult;
+    
     public DatabaseConnector(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
         failedIfBackendNotReady(databaseConnectionManager.getConnectionSession(), sqlStatementContext);
@@ -218,6 +231,9 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         List result = proxySQLExecutor.execute(executionContext);
+        if (result instanceof CompletionOrderExecuteResult) {
+            completionOrderExecuteResult = (CompletionOrderExecuteResult<?>) result;
+        }
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult ? processExecuteQuery(queryContext.getSqlStatementContext(), result, (QueryResult) executeResultSample)
@@ -288,9 +304,23 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
+        textValueTypes = isTextPassthroughAvailable(queryResults) ? createTextValueTypes() : null;
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isTextPassthroughAvailable(final List<QueryResult> queryResults) {
+        return (mergedResult instanceof TransparentMergedResult || mergedResult instanceof IteratorStreamMergedResult)
+                && !(queryResults instanceof CompletionOrderExecuteResult) && queryResults.stream().allMatch(JDBCStreamQueryResult.class::isInstance);
+    }
+    
+    private List<Class<?>> createTextValueTypes() {
+        List<Class<?>> result = new ArrayList<>(queryHeaders.size());
+        for (QueryHeader each : queryHeaders) {
+            result.add(TEXT_PASSTHROUGH_COLUMN_TYPES.contains(each.getColumnType()) ? String.class : Object.class);
+        }
+        return result;
+    }
+    
     private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(sqlStatementContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -373,8 +403,33 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get query response row in text format.
+     *
+     * <p>
+     * Character, integral, decimal and temporal columns of results which are neither merged nor decorated are read as the string sent by backend database,
+     * instead of being materialized as objects and formatted again by frontend.
+     * </p>
+     *
+     * @return query response row
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public QueryResponseRow getTextRowData() throws SQLException {
+        if (null == textValueTypes) {
+            return getRowData();
+        }
+        List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            Object data = mergedResult.getValue(columnIndex, textValueTypes.get(columnIndex - 1));
+            cells.add(new QueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data, queryHeaders.get(columnIndex - 1).getColumnTypeName()));
+        }
+        return new QueryResponseRow(cells);
+    }
+    
     @Override
     public void close() throws SQLException {
+        closeCompletionOrderExecuteResult();
         Collection<SQLException> result = new LinkedList<>();
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
@@ -387,6 +442,13 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private void closeCompletionOrderExecuteResult() {
+        if (null != completionOrderExecuteResult) {
+            completionOrderExecuteResult.close();
+            completionOrderExecuteResult = null;
+        }
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -56,6 +56,18 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row data for text protocol.
+     * 
+     * <p>Cells may carry the textual form of values instead of typed objects, so it is only for frontends which write values as text.</p>
+     *
+     * @return row data
+     * @throws SQLException SQL exception
+     */
+    default QueryResponseRow getTextRowData() throws SQLException {
+        return getRowData();
+    }
+    
     /**
      * Close.
      * 
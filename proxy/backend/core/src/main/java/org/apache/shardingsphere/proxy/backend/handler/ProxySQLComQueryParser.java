@@ -43,11 +43,24 @@ public final class ProxySQLComQueryParser {
      * @return SQL statement
      */
     public static SQLStatement parse(final String sql, final DatabaseType databaseType, final ConnectionSession connectionSession) {
+        return parse(sql, databaseType, connectionSession, false);
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @param sql SQL to be parsed
+     * @param databaseType database type
+     * @param connectionSession connection session
+     * @param useCache whether to use cache
+     * @return SQL statement
+     */
+    public static SQLStatement parse(final String sql, final DatabaseType databaseType, final ConnectionSession connectionSession, final boolean useCache) {
         if (SQLUtils.trimComment(sql).isEmpty()) {
             return new EmptyStatement();
         }
         SQLParserRule rule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        return rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parse(sql, false);
+        return rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parse(sql, useCache);
     }
     
     private static DatabaseType getProtocolType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
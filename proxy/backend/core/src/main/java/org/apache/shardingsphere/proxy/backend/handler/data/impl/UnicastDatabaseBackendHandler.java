@@ -89,6 +89,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseConnector.getRowData();
     }
     
+    @Override
+    public QueryResponseRow getTextRowData() throws SQLException {
+        return databaseConnector.getTextRowData();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseConnector) {
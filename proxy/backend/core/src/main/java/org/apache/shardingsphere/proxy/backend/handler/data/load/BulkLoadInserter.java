@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.proxy.backend.exception.BulkLoadColumnCountMismatchedException;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bulk load inserter.
+ * 
+ * <p>Rows of bulk load are buffered and flushed as parameterized multi-row insert statements, so that they are routed, rewritten and executed by the kernel
+ * like any other insert: rows are bucketed to their data nodes, keys are generated and columns are encrypted. A full batch always produces the same SQL,
+ * which keeps the parsed statement cached across batches.</p>
+ */
+public final class BulkLoadInserter {
+    
+    private static final int MAX_PARAMETER_COUNT = Short.MAX_VALUE;
+    
+    private final DatabaseType databaseType;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final String insertPrefix;
+    
+    private final String rowPlaceholders;
+    
+    private final int columnCount;
+    
+    private final int batchRowCount;
+    
+    private final List<Object> bufferedParams;
+    
+    private int bufferedRowCount;
+    
+    private String batchInsertSQL;
+    
+    @Getter
+    private long loadedRowCount;
+    
+    public BulkLoadInserter(final DatabaseType databaseType, final ConnectionSession connectionSession, final String tableName, final List<String> columnNames, final int batchSize) {
+        this.databaseType = databaseType;
+        this.connectionSession = connectionSession;
+        insertPrefix = "INSERT INTO " + tableName + " (" + String.join(", ", columnNames) + ") VALUES ";
+        rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columnNames.size(), "?")) + ")";
+        columnCount = columnNames.size();
+        batchRowCount = Math.max(1, Math.min(batchSize, MAX_PARAMETER_COUNT / Math.max(1, columnCount)));
+        bufferedParams = new ArrayList<>(batchRowCount * columnCount);
+    }
+    
+    /**
+     * Add row, flush buffered rows if batch is full.
+     *
+     * @param row row values
+     * @throws SQLException SQL exception
+     */
+    public void add(final List<Object> row) throws SQLException {
+        loadedRowCount++;
+        ShardingSpherePreconditions.checkState(columnCount == row.size(), () -> new BulkLoadColumnCountMismatchedException(loadedRowCount, row.size(), columnCount));
+        bufferedParams.addAll(row);
+        if (++bufferedRowCount >= batchRowCount) {
+            flush();
+        }
+    }
+    
+    /**
+     * Flush buffered rows.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void flush() throws SQLException {
+        if (0 == bufferedRowCount) {
+            return;
+        }
+        String sql = getInsertSQL(bufferedRowCount);
+        SQLStatement sqlStatement = ProxySQLComQueryParser.parse(sql, databaseType, connectionSession, true);
+        ProxyBackendHandler backendHandler = ProxyBackendHandlerFactory.newInstance(databaseType, sql, new ArrayList<>(bufferedParams), sqlStatement, connectionSession, new HintValueContext());
+        try {
+            backendHandler.execute();
+        } finally {
+            backendHandler.close();
+        }
+        bufferedParams.clear();
+        bufferedRowCount = 0;
+    }
+    
+    private String getInsertSQL(final int rowCount) {
+        if (rowCount == batchRowCount) {
+            if (null == batchInsertSQL) {
+                batchInsertSQL = createInsertSQL(rowCount);
+            }
+            return batchInsertSQL;
+        }
+        return createInsertSQL(rowCount);
+    }
+    
+    private String createInsertSQL(final int rowCount) {
+        StringBuilder result = new StringBuilder(insertPrefix.length() + rowCount * (rowPlaceholders.length() + 2));
+        result.append(insertPrefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(rowPlaceholders);
+        }
+        return result.toString();
+    }
+}
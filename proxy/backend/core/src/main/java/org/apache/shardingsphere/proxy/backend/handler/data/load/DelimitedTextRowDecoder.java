@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Delimited text row decoder.
+ * 
+ * <p>Decodes the text format shared by PostgreSQL {@code COPY} and MySQL {@code LOAD DATA}: one row per line, fields separated by a delimiter,
+ * backslash escapes and {@code \N} as null. Data can be fed in arbitrary chunks, a row split across chunks is buffered until its line ends.
+ * Escapes are resolved to bytes before the charset decoding, so octal and hex escapes may spell the bytes of multibyte characters.
+ * The dialects differ in escapes and line endings, see {@link EscapeStyle}.</p>
+ */
+@RequiredArgsConstructor
+public final class DelimitedTextRowDecoder {
+    
+    private static final byte[] NULL_MARKER = {'\\', 'N'};
+    
+    private static final byte[] END_OF_DATA_MARKER = {'\\', '.'};
+    
+    private final char fieldDelimiter;
+    
+    private final Charset charset;
+    
+    private final EscapeStyle escapeStyle;
+    
+    private final ByteArrayOutputStream pendingLine = new ByteArrayOutputStream();
+    
+    private boolean endOfData;
+    
+    /**
+     * Decode rows of completed lines in data chunk.
+     *
+     * @param data data chunk
+     * @return decoded rows
+     */
+    public Collection<List<String>> decode(final byte[] data) {
+        Collection<List<String>> result = new LinkedList<>();
+        int lineStartIndex = 0;
+        for (int i = 0; i < data.length; i++) {
+            if ('\n' == data[i]) {
+                pendingLine.write(data, lineStartIndex, i - lineStartIndex);
+                decodePendingLine(result);
+                lineStartIndex = i + 1;
+            }
+        }
+        pendingLine.write(data, lineStartIndex, data.length - lineStartIndex);
+        return result;
+    }
+    
+    /**
+     * Decode the last row which is not terminated by line break.
+     *
+     * @return decoded rows
+     */
+    public Collection<List<String>> finish() {
+        Collection<List<String>> result = new LinkedList<>();
+        if (pendingLine.size() > 0) {
+            decodePendingLine(result);
+        }
+        return result;
+    }
+    
+    private void decodePendingLine(final Collection<List<String>> rows) {
+        byte[] line = pendingLine.toByteArray();
+        pendingLine.reset();
+        if (endOfData) {
+            return;
+        }
+        if (EscapeStyle.MYSQL == escapeStyle) {
+            rows.add(decodeFields(line, line.length));
+            return;
+        }
+        int lineLength = line.length > 0 && '\r' == line[line.length - 1] ? line.length - 1 : line.length;
+        if (isMarker(line, 0, lineLength, END_OF_DATA_MARKER)) {
+            endOfData = true;
+            return;
+        }
+        rows.add(decodeFields(line, lineLength));
+    }
+    
+    private List<String> decodeFields(final byte[] line, final int lineLength) {
+        List<String> result = new ArrayList<>();
+        int fieldStartIndex = 0;
+        for (int i = 0; i < lineLength; i++) {
+            if ('\\' == line[i]) {
+                i++;
+            } else if (fieldDelimiter == line[i]) {
+                result.add(decodeField(line, fieldStartIndex, i));
+                fieldStartIndex = i + 1;
+            }
+        }
+        result.add(decodeField(line, fieldStartIndex, lineLength));
+        return result;
+    }
+    
+    private String decodeField(final byte[] line, final int startIndex, final int endIndex) {
+        if (isMarker(line, startIndex, endIndex, NULL_MARKER)) {
+            return null;
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream(endIndex - startIndex);
+        for (int i = startIndex; i < endIndex; i++) {
+            if ('\\' != line[i] || i + 1 == endIndex) {
+                result.write(line[i]);
+                continue;
+            }
+            i = writeEscapedByte(line, i + 1, endIndex, result);
+        }
+        return new String(result.toByteArray(), charset);
+    }
+    
+    private boolean isMarker(final byte[] line, final int startIndex, final int endIndex, final byte[] marker) {
+        return endIndex - startIndex == marker.length && Arrays.equals(Arrays.copyOfRange(line, startIndex, endIndex), marker);
+    }
+    
+    private int writeEscapedByte(final byte[] line, final int index, final int endIndex, final ByteArrayOutputStream result) {
+        return EscapeStyle.MYSQL == escapeStyle ? writeMySQLEscapedByte(line[index], result, index) : writePostgreSQLEscapedByte(line, index, endIndex, result);
+    }
+    
+    private int writeMySQLEscapedByte(final byte escaped, final ByteArrayOutputStream result, final int index) {
+        switch (escaped) {
+            case '0':
+                result.write(0x00);
+                return index;
+            case 'b':
+                result.write('\b');
+                return index;
+            case 'n':
+                result.write('\n');
+                return index;
+            case 'r':
+                result.write('\r');
+                return index;
+            case 't':
+                result.write('\t');
+                return index;
+            case 'Z':
+                result.write(0x1A);
+                return index;
+            default:
+                result.write(escaped);
+                return index;
+        }
+    }
+    
+    private int writePostgreSQLEscapedByte(final byte[] line, final int index, final int endIndex, final ByteArrayOutputStream result) {
+        byte escaped = line[index];
+        switch (escaped) {
+            case 'b':
+                result.write('\b');
+                return index;
+            case 'f':
+                result.write('\f');
+                return index;
+            case 'n':
+                result.write('\n');
+                return index;
+            case 'r':
+                result.write('\r');
+                return index;
+            case 't':
+                result.write('\t');
+                return index;
+            case 'v':
+                result.write(0x0B);
+                return index;
+            case 'x':
+                return writeNumericByte(line, index + 1, endIndex, 2, 16, result, index);
+            default:
+                if (escaped >= '0' && escaped <= '7') {
+                    return writeNumericByte(line, index, endIndex, 3, 8, result, index);
+                }
+                result.write(escaped);
+                return index;
+        }
+    }
+    
+    private int writeNumericByte(final byte[] line, final int startIndex, final int endIndex, final int maxDigits, final int radix, final ByteArrayOutputStream result, final int escapeIndex) {
+        int value = 0;
+        int index = startIndex;
+        while (index < endIndex && index - startIndex < maxDigits && Character.digit(line[index], radix) >= 0) {
+            value = value * radix + Character.digit(line[index], radix);
+            index++;
+        }
+        if (index == startIndex) {
+            result.write(line[escapeIndex]);
+            return escapeIndex;
+        }
+        result.write(value & 0xFF);
+        return index - 1;
+    }
+    
+    /**
+     * Escape style.
+     */
+    public enum EscapeStyle {
+        
+        /**
+         * PostgreSQL {@code COPY} text format: {@code \b \f \n \r \t \v}, octal and hex escapes, {@code \.} ends the data and {@code \r\n} line endings are accepted.
+         */
+        POSTGRESQL,
+        
+        /**
+         * MySQL {@code LOAD DATA} default format: {@code \0 \b \n \r \t \Z} escapes, any other escaped character stands for itself.
+         */
+        MYSQL
+    }
+}
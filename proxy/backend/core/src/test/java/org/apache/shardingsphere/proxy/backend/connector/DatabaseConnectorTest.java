@@ -23,8 +23,10 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -47,6 +49,7 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -81,6 +84,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -172,6 +176,24 @@ class DatabaseConnectorTest {
         }
     }
     
+    @Test
+    void assertGetTextRowData() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), databaseConnectionManager, false);
+        MemberAccessor accessor = Plugins.getMemberAccessor();
+        accessor.set(DatabaseConnector.class.getDeclaredField("queryHeaders"), engine, Arrays.asList(
+                new QueryHeader(null, null, null, null, Types.TIMESTAMP, null, 0, 0, false, false, false, false), new QueryHeader(null, null, null, null, Types.BLOB, null, 0, 0, false, false, false, false)));
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, String.class)).thenReturn("2023-01-01 00:00:00");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(new byte[]{1});
+        accessor.set(DatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        accessor.set(DatabaseConnector.class.getDeclaredField("textValueTypes"), engine, Arrays.asList(String.class, Object.class));
+        List<Object> actual = engine.getTextRowData().getData();
+        assertThat(actual.get(0), is("2023-01-01 00:00:00"));
+        assertThat(actual.get(1), is(new byte[]{1}));
+    }
+    
     private ShardingSphereDatabase createDatabaseMetaData() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         ShardingSphereColumn column = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false);
@@ -227,6 +249,18 @@ class DatabaseConnectorTest {
         assertTrue(cachedStatements.isEmpty());
     }
     
+    @Test
+    void assertCloseCompletionOrderExecuteResult() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), databaseConnectionManager, false);
+        CompletionOrderExecuteResult<?> completionOrderExecuteResult = mock(CompletionOrderExecuteResult.class);
+        Plugins.getMemberAccessor().set(DatabaseConnector.class.getDeclaredField("completionOrderExecuteResult"), engine, completionOrderExecuteResult);
+        engine.close();
+        verify(completionOrderExecuteResult).close();
+        assertNull(getField(engine, "completionOrderExecuteResult"));
+    }
+    
     @Test
     void assertCloseResultSetsWithExceptionThrown() throws SQLException {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
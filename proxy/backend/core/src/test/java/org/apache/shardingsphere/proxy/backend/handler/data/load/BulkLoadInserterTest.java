@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.proxy.backend.exception.BulkLoadColumnCountMismatchedException;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({ProxySQLComQueryParser.class, ProxyBackendHandlerFactory.class})
+class BulkLoadInserterTest {
+    
+    private final DatabaseType databaseType = mock(DatabaseType.class);
+    
+    private final ConnectionSession connectionSession = mock(ConnectionSession.class);
+    
+    @Test
+    void assertAddAndFlushInBatches() throws SQLException {
+        ProxyBackendHandler batchBackendHandler = mockBackendHandler("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, ?)", Arrays.asList(1, 10, 2, 20));
+        ProxyBackendHandler lastBackendHandler = mockBackendHandler("INSERT INTO t_order (order_id, user_id) VALUES (?, ?)", Arrays.asList(3, 30));
+        BulkLoadInserter inserter = new BulkLoadInserter(databaseType, connectionSession, "t_order", Arrays.asList("order_id", "user_id"), 2);
+        inserter.add(Arrays.asList(1, 10));
+        inserter.add(Arrays.asList(2, 20));
+        inserter.add(Arrays.asList(3, 30));
+        inserter.flush();
+        assertThat(inserter.getLoadedRowCount(), is(3L));
+        verify(batchBackendHandler).execute();
+        verify(batchBackendHandler).close();
+        verify(lastBackendHandler).execute();
+        verify(lastBackendHandler).close();
+    }
+    
+    private ProxyBackendHandler mockBackendHandler(final String sql, final List<Object> params) throws SQLException {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        when(ProxySQLComQueryParser.parse(sql, databaseType, connectionSession, true)).thenReturn(sqlStatement);
+        ProxyBackendHandler result = mock(ProxyBackendHandler.class);
+        when(ProxyBackendHandlerFactory.newInstance(eq(databaseType), eq(sql), eq(params), eq(sqlStatement), eq(connectionSession), any(HintValueContext.class))).thenReturn(result);
+        return result;
+    }
+    
+    @Test
+    void assertFlushWithoutBufferedRows() throws SQLException {
+        BulkLoadInserter inserter = new BulkLoadInserter(databaseType, connectionSession, "t_order", Collections.singletonList("order_id"), 10);
+        inserter.flush();
+        assertThat(inserter.getLoadedRowCount(), is(0L));
+    }
+    
+    @Test
+    void assertAddWithMismatchedColumnCount() {
+        BulkLoadInserter inserter = new BulkLoadInserter(databaseType, connectionSession, "t_order", Arrays.asList("order_id", "user_id"), 10);
+        assertThrows(BulkLoadColumnCountMismatchedException.class, () -> inserter.add(Collections.singletonList(1)));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.data.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DelimitedTextRowDecoderTest {
+    
+    private final DelimitedTextRowDecoder decoder = new DelimitedTextRowDecoder('\t', StandardCharsets.UTF_8, DelimitedTextRowDecoder.EscapeStyle.POSTGRESQL);
+    
+    @Test
+    void assertDecodeRows() {
+        Collection<List<String>> actual = decoder.decode("1\tfoo\n2\tbar\n".getBytes(StandardCharsets.UTF_8));
+        Iterator<List<String>> iterator = actual.iterator();
+        assertThat(iterator.next(), is(Arrays.asList("1", "foo")));
+        assertThat(iterator.next(), is(Arrays.asList("2", "bar")));
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    void assertDecodeRowSplitAcrossChunks() {
+        assertTrue(decoder.decode("1\tf".getBytes(StandardCharsets.UTF_8)).isEmpty());
+        assertThat(decoder.decode("oo\r\n2".getBytes(StandardCharsets.UTF_8)), is(Collections.singletonList(Arrays.asList("1", "foo"))));
+        assertThat(decoder.finish(), is(Collections.singletonList(Collections.singletonList("2"))));
+    }
+    
+    @Test
+    void assertDecodeNullAndEmptyFields() {
+        assertThat(decoder.decode("\\N\t\t\\\\N\n".getBytes(StandardCharsets.UTF_8)), is(Collections.singletonList(Arrays.asList(null, "", "\\N"))));
+    }
+    
+    @Test
+    void assertDecodeEscapedFields() {
+        assertThat(decoder.decode("a\\tb\\nc\tx\\\\y\t\\101\\x42\\q\n".getBytes(StandardCharsets.UTF_8)), is(Collections.singletonList(Arrays.asList("a\tb\nc", "x\\y", "ABq"))));
+    }
+    
+    @Test
+    void assertDecodeMultiBytesCharacters() {
+        byte[] data = "1\t数据\n".getBytes(StandardCharsets.UTF_8);
+        assertTrue(decoder.decode(Arrays.copyOfRange(data, 0, 4)).isEmpty());
+        assertThat(decoder.decode(Arrays.copyOfRange(data, 4, data.length)), is(Collections.singletonList(Arrays.asList("1", "数据"))));
+    }
+    
+    @Test
+    void assertDecodeEscapedMultiBytesCharacters() {
+        assertThat(decoder.decode("\\xe6\\x95\\xb0\t\\346\\215\\256\n".getBytes(StandardCharsets.UTF_8)), is(Collections.singletonList(Arrays.asList("数", "据"))));
+    }
+    
+    @Test
+    void assertDecodeEndOfDataMarker() {
+        assertThat(decoder.decode("1\n\\.\n2\n".getBytes(StandardCharsets.UTF_8)), is(Collections.singletonList(Collections.singletonList("1"))));
+        assertTrue(decoder.finish().isEmpty());
+    }
+    
+    @Test
+    void assertDecodeMySQLEscapedFields() {
+        DelimitedTextRowDecoder mysqlDecoder = new DelimitedTextRowDecoder('\t', StandardCharsets.UTF_8, DelimitedTextRowDecoder.EscapeStyle.MYSQL);
+        assertThat(mysqlDecoder.decode("a\\tb\\Z\\0\tx\\\\y\t\\101\\q\t\\N\n".getBytes(StandardCharsets.UTF_8)),
+                is(Collections.singletonList(Arrays.asList("a\tb" + (char) 0x1A + (char) 0x00, "x\\y", "101q", null))));
+    }
+    
+    @Test
+    void assertDecodeMySQLRowsWithoutEndOfDataMarker() {
+        DelimitedTextRowDecoder mysqlDecoder = new DelimitedTextRowDecoder('\t', StandardCharsets.UTF_8, DelimitedTextRowDecoder.EscapeStyle.MYSQL);
+        assertThat(mysqlDecoder.decode("1\r\n\\.\n".getBytes(StandardCharsets.UTF_8)), is(Arrays.asList(Collections.singletonList("1\r"), Collections.singletonList("."))));
+    }
+}
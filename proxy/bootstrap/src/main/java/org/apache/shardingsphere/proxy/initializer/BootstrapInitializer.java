@@ -33,6 +33,7 @@ import org.apache.shardingsphere.proxy.backend.config.ProxyConfiguration;
 import org.apache.shardingsphere.proxy.backend.config.YamlProxyConfiguration;
 import org.apache.shardingsphere.proxy.backend.config.yaml.swapper.YamlProxyConfigurationSwapper;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 import org.apache.shardingsphere.proxy.version.ShardingSphereProxyVersion;
 
 import java.sql.SQLException;
@@ -59,6 +60,7 @@ public final class BootstrapInitializer {
         ProxyContext.init(contextManager);
         contextManagerInitializedCallback(contextManager);
         ShardingSphereProxyVersion.setVersion(contextManager);
+        new SQLParserWarmUpInitializer().init(contextManager.getMetaDataContexts().getMetaData().getProps(), FrontDatabaseProtocolTypeFactory.getDatabaseType());
     }
     
     private ContextManager createContextManager(final ProxyConfiguration proxyConfig, final ModeConfiguration modeConfig, final int port, final boolean force) throws SQLException {
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.api.SQLParserWarmUpEngine;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserFallbackStatistics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * SQL parser warm up initializer.
+ */
+@Slf4j
+public final class SQLParserWarmUpInitializer {
+    
+    /**
+     * Initialize.
+     *
+     * @param props configuration properties
+     * @param databaseType database type of SQL to be parsed
+     */
+    public void init(final ConfigurationProperties props, final DatabaseType databaseType) {
+        String sqlFile = props.getValue(ConfigurationPropertyKey.PROXY_PARSER_WARM_UP_SQL_FILE);
+        if (sqlFile.isEmpty()) {
+            return;
+        }
+        Collection<String> sqls;
+        try {
+            sqls = loadSQLs(sqlFile);
+        } catch (final IOException ex) {
+            log.warn("Load SQL parser warm up file `{}` failed.", sqlFile, ex);
+            return;
+        }
+        long startMillis = System.currentTimeMillis();
+        int parsedCount = new SQLParserWarmUpEngine(databaseType).warmUp(sqls);
+        log.info("SQL parser warm up finished, parsed {} of {} SQLs in {} ms, LL fallback count is {}, LL fallback time is {} ms.",
+                parsedCount, sqls.size(), System.currentTimeMillis() - startMillis, SQLParserFallbackStatistics.getLLFallbackCount(), SQLParserFallbackStatistics.getLLFallbackMillis());
+    }
+    
+    private Collection<String> loadSQLs(final String sqlFile) throws IOException {
+        Collection<String> result = new LinkedList<>();
+        for (String each : Files.readAllLines(Paths.get(sqlFile), StandardCharsets.UTF_8)) {
+            String sql = each.trim();
+            if (sql.isEmpty() || sql.startsWith("--") || sql.startsWith("#")) {
+                continue;
+            }
+            result.add(sql.endsWith(";") ? sql.substring(0, sql.length() - 1) : sql);
+        }
+        return result;
+    }
+}
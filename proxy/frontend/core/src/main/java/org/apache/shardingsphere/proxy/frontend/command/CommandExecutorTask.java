@@ -115,7 +115,7 @@ public final class CommandExecutorTask implements Runnable {
     
     private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
-        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
+        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload, connectionSession);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, connectionSession);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, connectionSession);
         return doExecuteCommand(context, commandExecuteEngine, commandExecutor);
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Query row packet batch writer.
+ * 
+ * <p>
+ * Row packets are written as batches, each batch is encoded into one byte buffer by packet codec.
+ * Batch size grows while channel is writable and shrinks when it is not, and the channel is flushed every time the written rows reach flush threshold.
+ * </p>
+ */
+public final class QueryRowPacketBatchWriter {
+    
+    private static final int INITIAL_BATCH_SIZE = 16;
+    
+    private static final int MAX_BATCH_SIZE = 256;
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int flushThreshold;
+    
+    private final int maxBatchSize;
+    
+    private int batchSize;
+    
+    private List<DatabasePacket> batch;
+    
+    private int unflushedCount;
+    
+    public QueryRowPacketBatchWriter(final ChannelHandlerContext context, final ResourceLock resourceLock, final int flushThreshold) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        this.flushThreshold = flushThreshold;
+        maxBatchSize = Math.max(1, Math.min(flushThreshold, MAX_BATCH_SIZE));
+        batchSize = Math.min(INITIAL_BATCH_SIZE, maxBatchSize);
+        batch = new ArrayList<>(batchSize);
+    }
+    
+    /**
+     * Write row packet.
+     *
+     * @param packet row packet
+     */
+    public void write(final DatabasePacket packet) {
+        batch.add(packet);
+        if (batch.size() >= batchSize) {
+            writeBatch();
+        }
+    }
+    
+    /**
+     * Write the remaining row packets.
+     */
+    public void finish() {
+        if (!batch.isEmpty()) {
+            writeBatch();
+        }
+    }
+    
+    private void writeBatch() {
+        resourceLock.doAwait(context);
+        context.write(1 == batch.size() ? batch.get(0) : new DatabasePacketBatch(batch));
+        unflushedCount += batch.size();
+        batchSize = context.channel().isWritable() ? Math.min(batchSize << 1, maxBatchSize) : Math.max(batchSize >> 1, 1);
+        batch = new ArrayList<>(batchSize);
+        if (unflushedCount >= flushThreshold) {
+            context.flush();
+            unflushedCount = 0;
+        }
+    }
+}
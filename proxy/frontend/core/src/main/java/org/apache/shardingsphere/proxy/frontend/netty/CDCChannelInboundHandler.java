@@ -79,11 +79,20 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
     public void channelInactive(final ChannelHandlerContext ctx) {
         CDCConnectionContext connectionContext = ctx.channel().attr(CONNECTION_CONTEXT_KEY).get();
         if (null != connectionContext && null != connectionContext.getJobId()) {
+            backendHandler.notifyWritabilityChanged(connectionContext.getJobId());
             backendHandler.stopStreaming(connectionContext.getJobId(), ctx.channel().id());
         }
         ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(null);
     }
     
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+        CDCConnectionContext connectionContext = ctx.channel().attr(CONNECTION_CONTEXT_KEY).get();
+        if (ctx.channel().isWritable() && null != connectionContext && null != connectionContext.getJobId()) {
+            backendHandler.notifyWritabilityChanged(connectionContext.getJobId());
+        }
+    }
+    
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         log.error("caught CDC resolution error", cause);
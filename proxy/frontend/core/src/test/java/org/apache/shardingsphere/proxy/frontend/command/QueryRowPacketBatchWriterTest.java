@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryRowPacketBatchWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Test
+    void assertWriteInBatches() {
+        when(context.channel().isWritable()).thenReturn(true);
+        DatabasePacket firstPacket = mock(DatabasePacket.class);
+        DatabasePacket secondPacket = mock(DatabasePacket.class);
+        DatabasePacket thirdPacket = mock(DatabasePacket.class);
+        QueryRowPacketBatchWriter batchWriter = new QueryRowPacketBatchWriter(context, resourceLock, 2);
+        batchWriter.write(firstPacket);
+        batchWriter.write(secondPacket);
+        batchWriter.write(thirdPacket);
+        batchWriter.finish();
+        ArgumentCaptor<Object> messageCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(2)).write(messageCaptor.capture());
+        assertThat(((DatabasePacketBatch) messageCaptor.getAllValues().get(0)).getPackets(), is(Arrays.asList(firstPacket, secondPacket)));
+        assertThat(messageCaptor.getAllValues().get(1), is(thirdPacket));
+        verify(resourceLock, times(2)).doAwait(context);
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertFinishWithoutPackets() {
+        new QueryRowPacketBatchWriter(context, resourceLock, 128).finish();
+        verify(context, times(0)).write(any());
+    }
+}
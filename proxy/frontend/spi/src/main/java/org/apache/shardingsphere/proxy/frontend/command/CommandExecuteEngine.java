@@ -39,9 +39,10 @@ public interface CommandExecuteEngine {
      * Get command packet type.
      *
      * @param packetPayload packet payload
+     * @param connectionSession connection session
      * @return command packet type
      */
-    CommandPacketType getCommandPacketType(PacketPayload packetPayload);
+    CommandPacketType getCommandPacketType(PacketPayload packetPayload, ConnectionSession connectionSession);
     
     /**
      * Get command packet.
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.TableNotExistsException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.NoDatabaseSelectedException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadInserter;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.DelimitedTextRowDecoder;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL load data context.
+ * 
+ * <p>Rows of {@code LOAD DATA LOCAL INFILE} are decoded from the file content sent by the client and flushed as batched insert statements,
+ * so every row is routed to its own data node. Outside of an explicit transaction, the batches run in a local transaction which is committed
+ * when the file ends and rolled back on error. The client streams the whole file without waiting for replies, so a failure is kept
+ * and reported once the file ends.</p>
+ */
+public final class MySQLLoadDataContext {
+    
+    private final List<Integer> dataTypes;
+    
+    private final DelimitedTextRowDecoder rowDecoder;
+    
+    private final BulkLoadInserter inserter;
+    
+    private final BackendTransactionManager localTransactionManager;
+    
+    private Exception failure;
+    
+    public MySQLLoadDataContext(final DatabaseType databaseType, final ConnectionSession connectionSession, final MySQLLoadDataStatement loadDataStatement) {
+        String databaseName = connectionSession.getDatabaseName();
+        ShardingSpherePreconditions.checkState(null != databaseName, NoDatabaseSelectedException::new);
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereSchema schema = metaData.getDatabase(databaseName).getSchema(new DatabaseTypeRegistry(databaseType).getDefaultSchemaName(databaseName));
+        String tableName = loadDataStatement.getTableSegment().getTableName().getIdentifier().getValue();
+        ShardingSpherePreconditions.checkState(null != schema && schema.containsTable(tableName), () -> new TableNotExistsException(tableName));
+        ShardingSphereTable table = schema.getTable(tableName);
+        List<String> columnNames = loadDataStatement.getColumns().isEmpty() ? schema.getVisibleColumnNames(tableName) : getColumnNames(loadDataStatement);
+        dataTypes = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            ShardingSphereColumn column = table.getColumn(each);
+            dataTypes.add(null == column ? null : column.getDataType());
+        }
+        rowDecoder = new DelimitedTextRowDecoder('\t', connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get(), DelimitedTextRowDecoder.EscapeStyle.MYSQL);
+        inserter = new BulkLoadInserter(databaseType, connectionSession, getTableName(loadDataStatement.getTableSegment()), getQuotedColumnNames(loadDataStatement, columnNames),
+                metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BULK_LOAD_BATCH_SIZE));
+        localTransactionManager = beginLocalTransaction(connectionSession);
+    }
+    
+    private BackendTransactionManager beginLocalTransaction(final ConnectionSession connectionSession) {
+        if (connectionSession.getTransactionStatus().isInTransaction()) {
+            return null;
+        }
+        BackendTransactionManager result = new BackendTransactionManager(connectionSession.getDatabaseConnectionManager());
+        result.begin();
+        return result;
+    }
+    
+    private List<String> getColumnNames(final MySQLLoadDataStatement loadDataStatement) {
+        List<String> result = new ArrayList<>(loadDataStatement.getColumns().size());
+        for (ColumnSegment each : loadDataStatement.getColumns()) {
+            result.add(each.getIdentifier().getValue());
+        }
+        return result;
+    }
+    
+    private List<String> getQuotedColumnNames(final MySQLLoadDataStatement loadDataStatement, final List<String> columnNames) {
+        if (loadDataStatement.getColumns().isEmpty()) {
+            return columnNames;
+        }
+        List<String> result = new ArrayList<>(columnNames.size());
+        for (ColumnSegment each : loadDataStatement.getColumns()) {
+            result.add(each.getIdentifier().getValueWithQuoteCharacters());
+        }
+        return result;
+    }
+    
+    private String getTableName(final SimpleTableSegment tableSegment) {
+        String tableName = tableSegment.getTableName().getIdentifier().getValueWithQuoteCharacters();
+        return tableSegment.getOwner().map(optional -> optional.getIdentifier().getValueWithQuoteCharacters() + "." + tableName).orElse(tableName);
+    }
+    
+    /**
+     * Load file content, keep the failure to report it when the file ends.
+     *
+     * @param data file content
+     */
+    public void load(final byte[] data) {
+        if (null != failure) {
+            return;
+        }
+        try {
+            for (List<String> each : rowDecoder.decode(data)) {
+                inserter.add(convert(each));
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            failure = ex;
+        }
+    }
+    
+    /**
+     * Finish loading and commit local transaction.
+     *
+     * @return count of loaded rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        for (List<String> each : rowDecoder.finish()) {
+            inserter.add(convert(each));
+        }
+        inserter.flush();
+        if (null != localTransactionManager) {
+            localTransactionManager.commit();
+        }
+        return inserter.getLoadedRowCount();
+    }
+    
+    /**
+     * Abort loading and roll back local transaction.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void abort() throws SQLException {
+        if (null != localTransactionManager) {
+            localTransactionManager.rollback();
+        }
+    }
+    
+    private List<Object> convert(final List<String> row) {
+        List<Object> result = new ArrayList<>(row.size());
+        int index = 0;
+        for (String each : row) {
+            result.add(null == each || index >= dataTypes.size() || null == dataTypes.get(index) ? each : convert(dataTypes.get(index), each));
+            index++;
+        }
+        return result;
+    }
+    
+    private Object convert(final int dataType, final String value) {
+        try {
+            switch (dataType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                    return Long.parseLong(value);
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return new BigDecimal(value);
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    return Double.parseDouble(value);
+                default:
+                    return value;
+            }
+        } catch (final NumberFormatException ignored) {
+            return value;
+        }
+    }
+}
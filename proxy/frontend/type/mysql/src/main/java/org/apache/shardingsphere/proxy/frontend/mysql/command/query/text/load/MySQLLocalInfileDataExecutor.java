@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load.MySQLLocalInfileDataPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Local infile data executor for MySQL.
+ */
+@RequiredArgsConstructor
+public final class MySQLLocalInfileDataExecutor implements CommandExecutor {
+    
+    private final MySQLLocalInfileDataPacket packet;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        if (!packet.isEndOfFile()) {
+            MySQLLoadDataContext loadDataContext = MySQLLoadDataContextRegistry.getInstance().get(connectionSession.getConnectionId());
+            if (null != loadDataContext) {
+                loadDataContext.load(packet.getData());
+            }
+            return Collections.emptyList();
+        }
+        MySQLLoadDataContext loadDataContext = MySQLLoadDataContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        if (null == loadDataContext) {
+            return Collections.emptyList();
+        }
+        long loadedRowCount;
+        try {
+            loadedRowCount = loadDataContext.finish();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            abort(loadDataContext, ex);
+            throw ex;
+        }
+        return Collections.singleton(new MySQLOKPacket(loadedRowCount, 0L, ServerStatusFlagCalculator.calculateFor(connectionSession), 0,
+                String.format("Records: %d  Deleted: 0  Skipped: 0  Warnings: 0", loadedRowCount)));
+    }
+    
+    private void abort(final MySQLLoadDataContext loadDataContext, final Exception cause) {
+        try {
+            loadDataContext.abort();
+        } catch (final SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+}
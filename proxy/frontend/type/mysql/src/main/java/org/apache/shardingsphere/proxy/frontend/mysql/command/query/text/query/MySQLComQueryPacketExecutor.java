@@ -22,10 +22,16 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load.MySQLLocalInfileRequestPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.sql.SQLLiteralParameterizer;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
@@ -37,12 +43,17 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataContext;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataContextRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -51,8 +62,12 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private final ConnectionSession connectionSession;
     
+    private final DatabaseType databaseType;
+    
     private final ProxyBackendHandler proxyBackendHandler;
     
+    private final MySQLLoadDataStatement loadDataStatement;
+    
     private final int characterSet;
     
     @Getter
@@ -60,13 +75,36 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
-        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
-        SQLStatement sqlStatement = ProxySQLComQueryParser.parse(packet.getSQL(), databaseType, connectionSession);
-        proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSQL()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSQL())
-                : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSQL(), sqlStatement, connectionSession, packet.getHintValueContext());
+        databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        Optional<ParameterizedSQL> parameterizedSQL = parameterize(packet.getSQL());
+        if (parameterizedSQL.isPresent()) {
+            SQLStatement sqlStatement = ProxySQLComQueryParser.parse(parameterizedSQL.get().getSql(), databaseType, connectionSession, true);
+            proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(
+                    databaseType, parameterizedSQL.get().getSql(), parameterizedSQL.get().getParameters(), sqlStatement, connectionSession, packet.getHintValueContext());
+            loadDataStatement = null;
+        } else {
+            SQLStatement sqlStatement = ProxySQLComQueryParser.parse(packet.getSQL(), databaseType, connectionSession);
+            if (isLoadDataLocalInfile(sqlStatement)) {
+                proxyBackendHandler = null;
+                loadDataStatement = (MySQLLoadDataStatement) sqlStatement;
+            } else {
+                proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSQL()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSQL())
+                        : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSQL(), sqlStatement, connectionSession, packet.getHintValueContext());
+                loadDataStatement = null;
+            }
+        }
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
+    private Optional<ParameterizedSQL> parameterize(final String sql) {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        return props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_SQL_LITERAL_PARAMETERIZE_ENABLED) ? SQLLiteralParameterizer.parameterize(sql) : Optional.empty();
+    }
+    
+    private boolean isLoadDataLocalInfile(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof MySQLLoadDataStatement && ((MySQLLoadDataStatement) sqlStatement).isLocal() && ((MySQLLoadDataStatement) sqlStatement).isDefaultOptions();
+    }
+    
     private boolean areMultiStatements(final ConnectionSession connectionSession, final SQLStatement sqlStatement, final String sql) {
         // TODO Multi statements should be identified by SQL Parser instead of checking if sql contains ";".
         return isMultiStatementsEnabled(connectionSession) && isSuitableMultiStatementsSQLStatement(sqlStatement) && sql.contains(";");
@@ -83,6 +121,11 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
+        if (null != loadDataStatement) {
+            MySQLLoadDataContextRegistry.getInstance().register(connectionSession.getConnectionId(), new MySQLLoadDataContext(databaseType, connectionSession, loadDataStatement));
+            responseType = ResponseType.UPDATE;
+            return Collections.singleton(new MySQLLocalInfileRequestPacket(loadDataStatement.getFileName()));
+        }
         ResponseHeader responseHeader = proxyBackendHandler.execute();
         if (responseHeader instanceof QueryResponseHeader) {
             return processQuery((QueryResponseHeader) responseHeader);
@@ -107,11 +150,13 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getTextRowData().getData());
     }
     
     @Override
     public void close() throws SQLException {
-        proxyBackendHandler.close();
+        if (null != proxyBackendHandler) {
+            proxyBackendHandler.close();
+        }
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load.MySQLLocalInfileDataPacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedConstruction;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({ProxyContext.class, ProxySQLComQueryParser.class, ProxyBackendHandlerFactory.class})
+class MySQLLoadDataContextTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    private final ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+    
+    private final MySQLLoadDataStatement loadDataStatement = new MySQLLoadDataStatement(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+    
+    private final ProxyBackendHandler backendHandler = mock(ProxyBackendHandler.class);
+    
+    @BeforeEach
+    void setUp() {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        ShardingSphereMetaData metaData = mockMetaData();
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()).thenReturn(metaData);
+        when(ProxySQLComQueryParser.parse(anyString(), eq(databaseType), eq(connectionSession), eq(true))).thenReturn(mock(SQLStatement.class));
+        when(ProxyBackendHandlerFactory.newInstance(eq(databaseType), anyString(), anyList(), any(SQLStatement.class), eq(connectionSession), any(HintValueContext.class))).thenReturn(backendHandler);
+    }
+    
+    private ShardingSphereMetaData mockMetaData() {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class, RETURNS_DEEP_STUBS);
+        when(schema.containsTable("t_order")).thenReturn(true);
+        when(schema.getVisibleColumnNames("t_order")).thenReturn(Collections.singletonList("order_id"));
+        when(schema.getTable("t_order").getColumn("order_id")).thenReturn(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false));
+        when(result.getDatabase("foo_db").getSchema("foo_db")).thenReturn(schema);
+        when(result.getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BULK_LOAD_BATCH_SIZE)).thenReturn(1);
+        return result;
+    }
+    
+    @Test
+    void assertFinishCommits() throws SQLException {
+        try (MockedConstruction<BackendTransactionManager> mockedConstruction = mockConstruction(BackendTransactionManager.class)) {
+            MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext(databaseType, connectionSession, loadDataStatement);
+            loadDataContext.load("1\n2".getBytes(StandardCharsets.UTF_8));
+            assertThat(loadDataContext.finish(), is(2L));
+            BackendTransactionManager transactionManager = mockedConstruction.constructed().get(0);
+            verify(transactionManager).begin();
+            verify(transactionManager).commit();
+            verify(transactionManager, never()).rollback();
+        }
+    }
+    
+    @Test
+    void assertLoadFailureReportedWhenFileEnds() throws SQLException {
+        when(backendHandler.execute()).thenThrow(SQLException.class);
+        try (MockedConstruction<BackendTransactionManager> mockedConstruction = mockConstruction(BackendTransactionManager.class)) {
+            MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext(databaseType, connectionSession, loadDataStatement);
+            MySQLLoadDataContextRegistry.getInstance().register(CONNECTION_ID, loadDataContext);
+            loadDataContext.load("1\n".getBytes(StandardCharsets.UTF_8));
+            loadDataContext.load("2\n".getBytes(StandardCharsets.UTF_8));
+            verify(backendHandler, times(1)).execute();
+            MySQLLocalInfileDataPacket endOfFilePacket = mock(MySQLLocalInfileDataPacket.class);
+            when(endOfFilePacket.isEndOfFile()).thenReturn(true);
+            assertThrows(SQLException.class, () -> new MySQLLocalInfileDataExecutor(endOfFilePacket, connectionSession).execute());
+            assertFalse(MySQLLoadDataContextRegistry.getInstance().isLoading(CONNECTION_ID));
+            BackendTransactionManager transactionManager = mockedConstruction.constructed().get(0);
+            verify(transactionManager).rollback();
+            verify(transactionManager, never()).commit();
+        }
+    }
+    
+    @Test
+    void assertLoadInExplicitTransaction() throws SQLException {
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        try (MockedConstruction<BackendTransactionManager> mockedConstruction = mockConstruction(BackendTransactionManager.class)) {
+            MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext(databaseType, connectionSession, loadDataStatement);
+            loadDataContext.load("1\n".getBytes(StandardCharsets.UTF_8));
+            assertThat(loadDataContext.finish(), is(1L));
+            loadDataContext.abort();
+            assertThat(mockedConstruction.constructed().size(), is(0));
+        }
+    }
+}
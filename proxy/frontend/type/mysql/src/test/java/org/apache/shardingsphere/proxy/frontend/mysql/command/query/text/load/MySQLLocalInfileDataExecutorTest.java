@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load.MySQLLocalInfileDataPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLLocalInfileDataExecutorTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private MySQLLocalInfileDataPacket packet;
+    
+    @Test
+    void assertExecuteWithData() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(packet.getData()).thenReturn(new byte[]{'1', '\n'});
+        MySQLLoadDataContext loadDataContext = mock(MySQLLoadDataContext.class);
+        MySQLLoadDataContextRegistry.getInstance().register(CONNECTION_ID, loadDataContext);
+        try {
+            assertTrue(new MySQLLocalInfileDataExecutor(packet, connectionSession).execute().isEmpty());
+            verify(loadDataContext).load(new byte[]{'1', '\n'});
+            assertTrue(MySQLLoadDataContextRegistry.getInstance().isLoading(CONNECTION_ID));
+        } finally {
+            MySQLLoadDataContextRegistry.getInstance().remove(CONNECTION_ID);
+        }
+    }
+    
+    @Test
+    void assertExecuteWithEndOfFile() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(packet.isEndOfFile()).thenReturn(true);
+        MySQLLoadDataContext loadDataContext = mock(MySQLLoadDataContext.class);
+        when(loadDataContext.finish()).thenReturn(3L);
+        MySQLLoadDataContextRegistry.getInstance().register(CONNECTION_ID, loadDataContext);
+        Collection<DatabasePacket> actual = new MySQLLocalInfileDataExecutor(packet, connectionSession).execute();
+        assertThat(actual.size(), is(1));
+        MySQLOKPacket okPacket = (MySQLOKPacket) actual.iterator().next();
+        assertThat(okPacket.getAffectedRows(), is(3L));
+        assertThat(okPacket.getInfo(), is("Records: 3  Deleted: 0  Skipped: 0  Warnings: 0"));
+        assertFalse(MySQLLoadDataContextRegistry.getInstance().isLoading(CONNECTION_ID));
+    }
+    
+    @Test
+    void assertExecuteWithoutLoadDataContext() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(packet.isEndOfFile()).thenReturn(true);
+        assertTrue(new MySQLLocalInfileDataExecutor(packet, connectionSession).execute().isEmpty());
+    }
+}
@@ -35,9 +35,11 @@ import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnection
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryRowPacketBatchWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.copy.PostgreSQLCopyInContextRegistry;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrorPacketFactory;
 
@@ -50,7 +52,7 @@ import java.util.Optional;
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
-    public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
+    public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload, final ConnectionSession connectionSession) {
         return PostgreSQLCommandPacketType.valueOf(payload.getByteBuf().getByte(payload.getByteBuf().readerIndex()));
     }
     
@@ -88,8 +90,10 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     private void processSimpleQuery(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                     final QueryCommandExecutor queryExecutor) throws SQLException {
         if (ResponseType.UPDATE == queryExecutor.getResponseType()) {
-            context.write(databaseConnectionManager.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
-                    : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+            if (!PostgreSQLCopyInContextRegistry.getInstance().isCopyIn(databaseConnectionManager.getConnectionSession().getConnectionId())) {
+                context.write(databaseConnectionManager.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
+                        : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+            }
             return;
         }
         long dataRows = writeDataPackets(context, databaseConnectionManager, queryExecutor);
@@ -103,22 +107,17 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                   final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0;
-        int flushCount = 0;
         int proxyFrontendFlushThreshold = ProxyContext.getInstance()
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        QueryRowPacketBatchWriter batchWriter = new QueryRowPacketBatchWriter(context, databaseConnectionManager.getResourceLock(), proxyFrontendFlushThreshold);
         while (queryCommandExecutor.next()) {
-            flushCount++;
-            databaseConnectionManager.getResourceLock().doAwait(context);
             DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
+            batchWriter.write(resultValue);
             if (resultValue instanceof PostgreSQLDataRowPacket) {
                 dataRows++;
             }
         }
+        batchWriter.finish();
         return dataRows;
     }
 }
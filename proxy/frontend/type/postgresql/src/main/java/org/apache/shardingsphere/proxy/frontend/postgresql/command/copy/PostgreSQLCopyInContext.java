@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.text.PostgreSQLTextValueParser;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.TableNotExistsException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.NoDatabaseSelectedException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.BulkLoadInserter;
+import org.apache.shardingsphere.proxy.backend.handler.data.load.DelimitedTextRowDecoder;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCopyStatement;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * PostgreSQL copy in context.
+ * 
+ * <p>Rows of {@code COPY ... FROM STDIN} are decoded from copy data and flushed as batched insert statements, so every row is routed to its own data node.
+ * Outside of an explicit transaction, the batches run in a local transaction which is committed on copy done and rolled back on copy fail or error,
+ * so that a failed copy leaves no rows behind, as PostgreSQL does.</p>
+ */
+public final class PostgreSQLCopyInContext {
+    
+    private static final Collection<Integer> TYPED_JDBC_TYPES = new HashSet<>(
+            Arrays.asList(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL, Types.REAL, Types.DOUBLE, Types.BOOLEAN));
+    
+    private static final Collection<Integer> CHARACTER_JDBC_TYPES = new HashSet<>(Arrays.asList(Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR));
+    
+    private final List<PostgreSQLTextValueParser<?>> valueParsers;
+    
+    private final DelimitedTextRowDecoder rowDecoder;
+    
+    private final BulkLoadInserter inserter;
+    
+    private final BackendTransactionManager localTransactionManager;
+    
+    public PostgreSQLCopyInContext(final DatabaseType databaseType, final ConnectionSession connectionSession, final OpenGaussCopyStatement copyStatement) {
+        String databaseName = connectionSession.getDatabaseName();
+        ShardingSpherePreconditions.checkState(null != databaseName, NoDatabaseSelectedException::new);
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereSchema schema = getSchema(databaseType, metaData.getDatabase(databaseName), copyStatement.getTableSegment());
+        String tableName = copyStatement.getTableSegment().getTableName().getIdentifier().getValue();
+        ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new TableNotExistsException(tableName));
+        ShardingSphereTable table = schema.getTable(tableName);
+        List<String> columnNames = copyStatement.getColumns().isEmpty() ? schema.getVisibleColumnNames(tableName) : getColumnNames(copyStatement);
+        valueParsers = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            valueParsers.add(getValueParser(table.getColumn(each)));
+        }
+        rowDecoder = new DelimitedTextRowDecoder('\t', connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get(), DelimitedTextRowDecoder.EscapeStyle.POSTGRESQL);
+        inserter = new BulkLoadInserter(databaseType, connectionSession, getTableName(copyStatement.getTableSegment()), getQuotedColumnNames(copyStatement, columnNames),
+                metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BULK_LOAD_BATCH_SIZE));
+        localTransactionManager = beginLocalTransaction(connectionSession);
+    }
+    
+    private BackendTransactionManager beginLocalTransaction(final ConnectionSession connectionSession) {
+        if (connectionSession.getTransactionStatus().isInTransaction()) {
+            return null;
+        }
+        BackendTransactionManager result = new BackendTransactionManager(connectionSession.getDatabaseConnectionManager());
+        result.begin();
+        return result;
+    }
+    
+    private ShardingSphereSchema getSchema(final DatabaseType databaseType, final ShardingSphereDatabase database, final SimpleTableSegment tableSegment) {
+        String schemaName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue())
+                .orElseGet(() -> new DatabaseTypeRegistry(databaseType).getDefaultSchemaName(database.getName()));
+        ShardingSphereSchema result = database.getSchema(schemaName);
+        ShardingSpherePreconditions.checkState(null != result, () -> new TableNotExistsException(tableSegment.getTableName().getIdentifier().getValue()));
+        return result;
+    }
+    
+    private List<String> getColumnNames(final OpenGaussCopyStatement copyStatement) {
+        List<String> result = new ArrayList<>(copyStatement.getColumns().size());
+        for (ColumnSegment each : copyStatement.getColumns()) {
+            result.add(each.getIdentifier().getValue());
+        }
+        return result;
+    }
+    
+    private List<String> getQuotedColumnNames(final OpenGaussCopyStatement copyStatement, final List<String> columnNames) {
+        if (copyStatement.getColumns().isEmpty()) {
+            return columnNames;
+        }
+        List<String> result = new ArrayList<>(columnNames.size());
+        for (ColumnSegment each : copyStatement.getColumns()) {
+            result.add(each.getIdentifier().getValueWithQuoteCharacters());
+        }
+        return result;
+    }
+    
+    private String getTableName(final SimpleTableSegment tableSegment) {
+        String tableName = tableSegment.getTableName().getIdentifier().getValueWithQuoteCharacters();
+        return tableSegment.getOwner().map(optional -> optional.getIdentifier().getValueWithQuoteCharacters() + "." + tableName).orElse(tableName);
+    }
+    
+    private PostgreSQLTextValueParser<?> getValueParser(final ShardingSphereColumn column) {
+        if (null == column) {
+            return PostgreSQLColumnType.UNSPECIFIED.getTextValueParser();
+        }
+        if (TYPED_JDBC_TYPES.contains(column.getDataType())) {
+            return PostgreSQLColumnType.valueOfJDBCType(column.getDataType()).getTextValueParser();
+        }
+        return CHARACTER_JDBC_TYPES.contains(column.getDataType()) ? PostgreSQLColumnType.VARCHAR.getTextValueParser() : PostgreSQLColumnType.UNSPECIFIED.getTextValueParser();
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return valueParsers.size();
+    }
+    
+    /**
+     * Load copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void load(final byte[] data) throws SQLException {
+        for (List<String> each : rowDecoder.decode(data)) {
+            inserter.add(convert(each));
+        }
+    }
+    
+    /**
+     * Finish loading and commit local transaction.
+     *
+     * @return count of loaded rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        for (List<String> each : rowDecoder.finish()) {
+            inserter.add(convert(each));
+        }
+        inserter.flush();
+        if (null != localTransactionManager) {
+            localTransactionManager.commit();
+        }
+        return inserter.getLoadedRowCount();
+    }
+    
+    /**
+     * Abort loading and roll back local transaction.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void abort() throws SQLException {
+        if (null != localTransactionManager) {
+            localTransactionManager.rollback();
+        }
+    }
+    
+    private List<Object> convert(final List<String> row) {
+        List<Object> result = new ArrayList<>(row.size());
+        int index = 0;
+        for (String each : row) {
+            result.add(null == each || index >= valueParsers.size() ? each : valueParsers.get(index).parse(each));
+            index++;
+        }
+        return result;
+    }
+}
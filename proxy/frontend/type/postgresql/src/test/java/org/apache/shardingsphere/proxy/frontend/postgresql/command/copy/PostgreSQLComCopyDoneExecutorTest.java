@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLComCopyDoneExecutorTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Test
+    void assertExecute() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        PostgreSQLCopyInContext copyInContext = mock(PostgreSQLCopyInContext.class);
+        when(copyInContext.finish()).thenReturn(3L);
+        PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+        Collection<DatabasePacket> actual = new PostgreSQLComCopyDoneExecutor(connectionSession).execute();
+        assertThat(actual.size(), is(2));
+        Iterator<DatabasePacket> iterator = actual.iterator();
+        assertThat(iterator.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(iterator.next(), is(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+        assertFalse(PostgreSQLCopyInContextRegistry.getInstance().isCopyIn(CONNECTION_ID));
+    }
+    
+    @Test
+    void assertExecuteFailed() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        PostgreSQLCopyInContext copyInContext = mock(PostgreSQLCopyInContext.class);
+        when(copyInContext.finish()).thenThrow(SQLException.class);
+        PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+        assertThrows(SQLException.class, () -> new PostgreSQLComCopyDoneExecutor(connectionSession).execute());
+        verify(copyInContext).abort();
+        assertFalse(PostgreSQLCopyInContextRegistry.getInstance().isCopyIn(CONNECTION_ID));
+    }
+    
+    @Test
+    void assertExecuteWithoutCopyInContext() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        assertTrue(new PostgreSQLComCopyDoneExecutor(connectionSession).execute().isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.copy;
+
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCopyStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedConstruction;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({ProxyContext.class, ProxySQLComQueryParser.class, ProxyBackendHandlerFactory.class})
+class PostgreSQLCopyInContextTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    private final DatabaseType databaseType = mock(DatabaseType.class);
+    
+    private final ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+    
+    private final OpenGaussCopyStatement copyStatement = mock(OpenGaussCopyStatement.class);
+    
+    private final ProxyBackendHandler backendHandler = mock(ProxyBackendHandler.class);
+    
+    @BeforeEach
+    void setUp() {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        ShardingSphereMetaData metaData = mockMetaData();
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()).thenReturn(metaData);
+        SimpleTableSegment tableSegment = new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order")));
+        tableSegment.setOwner(new OwnerSegment(0, 0, new IdentifierValue("public")));
+        when(copyStatement.getTableSegment()).thenReturn(tableSegment);
+        when(ProxySQLComQueryParser.parse(anyString(), eq(databaseType), eq(connectionSession), eq(true))).thenReturn(mock(SQLStatement.class));
+        when(ProxyBackendHandlerFactory.newInstance(eq(databaseType), anyString(), anyList(), any(SQLStatement.class), eq(connectionSession), any(HintValueContext.class))).thenReturn(backendHandler);
+    }
+    
+    private ShardingSphereMetaData mockMetaData() {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class, RETURNS_DEEP_STUBS);
+        when(schema.containsTable("t_order")).thenReturn(true);
+        when(schema.getVisibleColumnNames("t_order")).thenReturn(Collections.singletonList("order_id"));
+        when(schema.getTable("t_order").getColumn("order_id")).thenReturn(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false));
+        when(result.getDatabase("foo_db").getSchema("public")).thenReturn(schema);
+        when(result.getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BULK_LOAD_BATCH_SIZE)).thenReturn(1);
+        return result;
+    }
+    
+    @Test
+    void assertCopyFailAfterFlushedBatchRollsBack() throws SQLException {
+        try (MockedConstruction<BackendTransactionManager> mockedConstruction = mockConstruction(BackendTransactionManager.class)) {
+            PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(databaseType, connectionSession, copyStatement);
+            PostgreSQLCopyInContextRegistry.getInstance().register(CONNECTION_ID, copyInContext);
+            copyInContext.load("1\n".getBytes(StandardCharsets.UTF_8));
+            verify(backendHandler).execute();
+            assertThrows(SQLException.class, () -> new PostgreSQLComCopyFailExecutor(mock(PostgreSQLComCopyFailPacket.class), connectionSession).execute());
+            assertThat(mockedConstruction.constructed().size(), is(1));
+            BackendTransactionManager transactionManager = mockedConstruction.constructed().get(0);
+            verify(transactionManager).begin();
+            verify(transactionManager).rollback();
+            verify(transactionManager, never()).commit();
+        }
+    }
+    
+    @Test
+    void assertFinishCommits() throws SQLException {
+        try (MockedConstruction<BackendTransactionManager> mockedConstruction = mockConstruction(BackendTransactionManager.class)) {
+            PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(databaseType, connectionSession, copyStatement);
+            copyInContext.load("1\n2\n".getBytes(StandardCharsets.UTF_8));
+            assertThat(copyInContext.finish(), is(2L));
+            BackendTransactionManager transactionManager = mockedConstruction.constructed().get(0);
+            verify(transactionManager).commit();
+            verify(transactionManager, never()).rollback();
+        }
+    }
+    
+    @Test
+    void assertLoadInExplicitTransaction() throws SQLException {
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        try (MockedConstruction<BackendTransactionManager> mockedConstruction = mockConstruction(BackendTransactionManager.class)) {
+            PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(databaseType, connectionSession, copyStatement);
+            copyInContext.load("1\n".getBytes(StandardCharsets.UTF_8));
+            assertThat(copyInContext.finish(), is(1L));
+            copyInContext.abort();
+            assertThat(mockedConstruction.constructed().size(), is(0));
+        }
+    }
+}
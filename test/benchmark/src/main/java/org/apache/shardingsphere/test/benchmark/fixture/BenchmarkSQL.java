@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Representative SQL for benchmark.
+ */
+@Getter
+public enum BenchmarkSQL {
+    
+    POINT_SELECT("SELECT order_id, user_id, status, amount FROM t_order WHERE user_id = ? AND order_id = ?", 10, 1000L),
+    
+    MULTI_SHARD_SELECT("SELECT order_id, user_id, status, amount FROM t_order WHERE user_id IN (?, ?, ?) ORDER BY order_id LIMIT ?", 1, 2, 3, 10),
+    
+    FULL_ROUTE_AGGREGATION("SELECT user_id, COUNT(*) AS order_count, SUM(amount) AS total_amount FROM t_order GROUP BY user_id ORDER BY total_amount DESC"),
+    
+    INSERT("INSERT INTO t_order (order_id, user_id, status, amount) VALUES (?, ?, ?, ?), (?, ?, ?, ?)", 1000L, 10, "INIT", BigDecimal.ONE, 1001L, 11, "INIT", BigDecimal.TEN),
+    
+    UPDATE("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", "PAID", 10, 1000L);
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    BenchmarkSQL(final String sql, final Object... parameters) {
+        this.sql = sql;
+        this.parameters = Arrays.asList(parameters);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * In-memory query results fixture for benchmark.
+ * 
+ * <p>Every shard holds rows of {@code (order_id, user_id, status, amount)} sorted by {@code order_id}, rows of different shards interleave.</p>
+ */
+public final class QueryResultBenchmarkFixture {
+    
+    private static final int GROUP_COUNT = 100;
+    
+    private final RawQueryResultMetaData metaData;
+    
+    private final List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    public QueryResultBenchmarkFixture(final int shardCount, final int rowCountPerShard) {
+        metaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData(ShardingDatabaseBenchmarkFixture.LOGIC_TABLE, "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData(ShardingDatabaseBenchmarkFixture.LOGIC_TABLE, "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData(ShardingDatabaseBenchmarkFixture.LOGIC_TABLE, "status", "status", Types.VARCHAR, "VARCHAR", 32, 0),
+                new RawQueryResultColumnMetaData(ShardingDatabaseBenchmarkFixture.LOGIC_TABLE, "amount", "amount", Types.DECIMAL, "DECIMAL", 10, 2)));
+        shardRows = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardRows.add(createRows(shard, shardCount, rowCountPerShard));
+        }
+    }
+    
+    private List<MemoryQueryResultDataRow> createRows(final int shard, final int shardCount, final int rowCountPerShard) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowCountPerShard);
+        for (int i = 0; i < rowCountPerShard; i++) {
+            long orderId = (long) i * shardCount + shard;
+            result.add(new MemoryQueryResultDataRow(Arrays.asList(orderId, i % GROUP_COUNT, 0 == i % 2 ? "PAID" : "INIT", BigDecimal.valueOf(orderId, 2))));
+        }
+        return result;
+    }
+    
+    /**
+     * Create fresh query results which are positioned before the first row.
+     *
+     * @return query results
+     */
+    public List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(shardRows.size());
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            result.add(new RawMemoryQueryResult(metaData, each));
+        }
+        return result;
+    }
+}
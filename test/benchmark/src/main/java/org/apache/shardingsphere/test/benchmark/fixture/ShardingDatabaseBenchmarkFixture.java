@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sqlfederation.api.config.SQLFederationRuleConfiguration;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.timeservice.api.config.TimestampServiceRuleConfiguration;
+import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Sharding database fixture for benchmark.
+ * 
+ * <p>Logic table {@code t_order} is sharded by {@code user_id} into {@code ds_0.t_order} ... {@code ds_(shardCount - 1).t_order}.</p>
+ */
+@Getter
+public final class ShardingDatabaseBenchmarkFixture {
+    
+    public static final String DATABASE_NAME = "sharding_db";
+    
+    public static final String LOGIC_TABLE = "t_order";
+    
+    private final DatabaseType databaseType;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final SQLStatementParserEngine sqlStatementParserEngine;
+    
+    public ShardingDatabaseBenchmarkFixture(final int shardCount) {
+        databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        props = new ConfigurationProperties(new Properties());
+        Map<String, DataSource> dataSources = createDataSources(shardCount);
+        Collection<ShardingSphereRule> databaseRules = Collections.singleton(new ShardingRule(createShardingRuleConfiguration(shardCount), dataSources, mock(InstanceContext.class)));
+        database = new ShardingSphereDatabase(DATABASE_NAME, databaseType, new ResourceMetaData(dataSources), new RuleMetaData(databaseRules),
+                Collections.singletonMap(DATABASE_NAME, createSchema()));
+        Map<String, ShardingSphereDatabase> databases = Collections.singletonMap(DATABASE_NAME, database);
+        metaData = new ShardingSphereMetaData(databases, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(createGlobalRules(databases)), props);
+        sqlStatementParserEngine = new SQLStatementParserEngine(databaseType,
+                DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION, DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION);
+    }
+    
+    private Map<String, DataSource> createDataSources(final int shardCount) {
+        Map<String, DataSource> result = new LinkedHashMap<>(shardCount, 1F);
+        for (int i = 0; i < shardCount; i++) {
+            MockedDataSource dataSource = new MockedDataSource();
+            dataSource.setUrl("jdbc:mysql://127.0.0.1:3306/ds_" + i);
+            result.put("ds_" + i, dataSource);
+        }
+        return result;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration(final int shardCount) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration(LOGIC_TABLE, String.format("ds_${0..%d}.%s", shardCount - 1, LOGIC_TABLE));
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        result.getTables().add(tableRuleConfig);
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", String.format("ds_${user_id %% %d}", shardCount));
+        result.getShardingAlgorithms().put("database_inline", new AlgorithmConfiguration("INLINE", props));
+        return result;
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        Collection<ShardingSphereColumn> columns = Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true),
+                new ShardingSphereColumn("amount", Types.DECIMAL, false, false, false, true, false, true));
+        ShardingSphereTable table = new ShardingSphereTable(LOGIC_TABLE, columns, Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema(Collections.singletonMap(LOGIC_TABLE, table), Collections.emptyMap());
+    }
+    
+    private Collection<ShardingSphereRule> createGlobalRules(final Map<String, ShardingSphereDatabase> databases) {
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        result.add(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()));
+        result.add(new SQLFederationRule(new SQLFederationRuleConfiguration(false, false, new CacheOption(128, 1024L)), databases, props));
+        result.add(new TimestampServiceRule(new TimestampServiceRuleConfiguration("System", new Properties())));
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingDatabaseBenchmarkFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for kernel processor, which covers route and rewrite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KernelProcessorBenchmark {
+    
+    @Param({"4", "16", "64"})
+    private int shardCount;
+    
+    @Param
+    private BenchmarkSQL benchmarkSQL;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private ShardingDatabaseBenchmarkFixture fixture;
+    
+    private QueryContext queryContext;
+    
+    private ConnectionContext connectionContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        fixture = new ShardingDatabaseBenchmarkFixture(shardCount);
+        SQLStatement sqlStatement = fixture.getSqlStatementParserEngine().parse(benchmarkSQL.getSql(), false);
+        queryContext = new QueryContext(new SQLBindEngine(fixture.getMetaData(), ShardingDatabaseBenchmarkFixture.DATABASE_NAME).bind(sqlStatement, benchmarkSQL.getParameters()),
+                benchmarkSQL.getSql(), benchmarkSQL.getParameters());
+        connectionContext = new ConnectionContext();
+    }
+    
+    /**
+     * Benchmark generating execution context.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext generateExecutionContext() {
+        return kernelProcessor.generateExecutionContext(queryContext, fixture.getDatabase(), fixture.getMetaData().getGlobalRuleMetaData(), fixture.getProps(), connectionContext);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.test.benchmark.fixture.QueryResultBenchmarkFixture;
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingDatabaseBenchmarkFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for sharding DQL result merger against in-memory query results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardingDQLResultMergerBenchmark {
+    
+    @Param({"4", "16", "64", "128"})
+    private int shardCount;
+    
+    @Param({"100", "10000"})
+    private int rowCountPerShard;
+    
+    @Param
+    private MergeSQL mergeSQL;
+    
+    private ShardingDatabaseBenchmarkFixture databaseFixture;
+    
+    private QueryResultBenchmarkFixture queryResultFixture;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private ShardingDQLResultMerger merger;
+    
+    private ConnectionContext connectionContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        databaseFixture = new ShardingDatabaseBenchmarkFixture(shardCount);
+        queryResultFixture = new QueryResultBenchmarkFixture(shardCount, rowCountPerShard);
+        sqlStatementContext = new SQLBindEngine(databaseFixture.getMetaData(), ShardingDatabaseBenchmarkFixture.DATABASE_NAME)
+                .bind(databaseFixture.getSqlStatementParserEngine().parse(mergeSQL.getSql(), false), Collections.emptyList());
+        merger = new ShardingDQLResultMerger(databaseFixture.getDatabaseType());
+        connectionContext = new ConnectionContext();
+    }
+    
+    /**
+     * Benchmark merging and iterating all merged rows.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = merger.merge(queryResultFixture.createQueryResults(), sqlStatementContext, databaseFixture.getDatabase(), connectionContext);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+            blackhole.consume(mergedResult.getValue(4, Object.class));
+        }
+    }
+    
+    /**
+     * SQL to be merged, projections match columns of {@link QueryResultBenchmarkFixture}.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public enum MergeSQL {
+        
+        ITERATOR("SELECT order_id, user_id, status, amount FROM t_order"),
+        
+        ORDER_BY("SELECT order_id, user_id, status, amount FROM t_order ORDER BY order_id"),
+        
+        ORDER_BY_LIMIT("SELECT order_id, user_id, status, amount FROM t_order ORDER BY order_id LIMIT 10"),
+        
+        GROUP_BY_MEMORY("SELECT MAX(order_id) AS order_id, user_id, MAX(status) AS status, SUM(amount) AS amount FROM t_order GROUP BY user_id ORDER BY amount DESC");
+        
+        private final String sql;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for pipeline channels pushed by multiple producers and drained by one consumer, run with {@code -t} to change producer count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class PipelineChannelBenchmark {
+    
+    private static final int IMPORTER_BATCH_SIZE = 1000;
+    
+    @Param({"MEMORY", "RING_BUFFER"})
+    private String channelType;
+    
+    @Param({"1", "100"})
+    private int recordCountPerPush;
+    
+    private PipelineChannel channel;
+    
+    private List<Record> records;
+    
+    private volatile boolean consuming;
+    
+    private Thread consumer;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        channel = TypedSPILoader.getService(PipelineChannelCreator.class, channelType, new Properties()).newInstance(IMPORTER_BATCH_SIZE, ackRecords -> {
+        });
+        records = Collections.nCopies(recordCountPerPush, new PlaceholderRecord(new IngestPlaceholderPosition()));
+        consuming = true;
+        consumer = new Thread(this::consume);
+        consumer.start();
+    }
+    
+    private void consume() {
+        while (consuming) {
+            channel.ack(channel.fetch(IMPORTER_BATCH_SIZE, 10L));
+        }
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws InterruptedException interrupted exception
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        consuming = false;
+        consumer.join();
+    }
+    
+    /**
+     * Benchmark pushing records into channel.
+     */
+    @Benchmark
+    public void push() {
+        channel.push(records);
+    }
+}
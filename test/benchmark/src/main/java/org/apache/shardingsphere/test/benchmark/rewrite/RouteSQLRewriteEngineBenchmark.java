@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.rewrite;
+
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingDatabaseBenchmarkFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for route SQL rewrite engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteSQLRewriteEngineBenchmark {
+    
+    @Param({"4", "16", "64"})
+    private int shardCount;
+    
+    @Param
+    private BenchmarkSQL benchmarkSQL;
+    
+    private ShardingDatabaseBenchmarkFixture fixture;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    private ConnectionContext connectionContext;
+    
+    @SuppressWarnings("rawtypes")
+    private Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators;
+    
+    private RouteSQLRewriteEngine routeSQLRewriteEngine;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        fixture = new ShardingDatabaseBenchmarkFixture(shardCount);
+        ShardingSphereDatabase database = fixture.getDatabase();
+        RuleMetaData globalRuleMetaData = fixture.getMetaData().getGlobalRuleMetaData();
+        SQLStatement sqlStatement = fixture.getSqlStatementParserEngine().parse(benchmarkSQL.getSql(), false);
+        queryContext = new QueryContext(new SQLBindEngine(fixture.getMetaData(), ShardingDatabaseBenchmarkFixture.DATABASE_NAME).bind(sqlStatement, benchmarkSQL.getParameters()),
+                benchmarkSQL.getSql(), benchmarkSQL.getParameters());
+        connectionContext = new ConnectionContext();
+        routeContext = new SQLRouteEngine(database.getRuleMetaData().getRules(), fixture.getProps()).route(connectionContext, queryContext, globalRuleMetaData, database);
+        decorators = OrderedSPILoader.getServices(SQLRewriteContextDecorator.class, database.getRuleMetaData().getRules());
+        routeSQLRewriteEngine = new RouteSQLRewriteEngine(globalRuleMetaData.getSingleRule(SQLTranslatorRule.class), database, globalRuleMetaData);
+    }
+    
+    /**
+     * Benchmark decorating SQL rewrite context and rewriting SQL for every route unit.
+     *
+     * @return route SQL rewrite result
+     */
+    @Benchmark
+    public RouteSQLRewriteResult rewrite() {
+        return routeSQLRewriteEngine.rewrite(createSQLRewriteContext(), routeContext, queryContext);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private SQLRewriteContext createSQLRewriteContext() {
+        SQLRewriteContext result = new SQLRewriteContext(fixture.getDatabase(), queryContext.getSqlStatementContext(), queryContext.getSql(), queryContext.getParameters(),
+                connectionContext, queryContext.getHintValueContext());
+        for (Entry<ShardingSphereRule, SQLRewriteContextDecorator> entry : decorators.entrySet()) {
+            entry.getValue().decorate(entry.getKey(), fixture.getProps(), result, routeContext);
+        }
+        result.generateSQLTokens();
+        return result;
+    }
+}